@@ -0,0 +1,39 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "bookings")
+public class BookingProperties {
+
+    private Cache cache = new Cache();
+
+    private UpcomingTrips upcomingTrips = new UpcomingTrips();
+
+    @Data
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        private long maximumSize = 100_000;
+
+        private Duration ttl = Duration.ofMinutes(10);
+    }
+
+    @Data
+    public static class UpcomingTrips {
+
+        private boolean enabled = true;
+
+        private int limit = 10;
+
+        private long maximumSize = 10_000;
+
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+}
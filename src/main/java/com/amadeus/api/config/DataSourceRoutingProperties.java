@@ -0,0 +1,37 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    private Duration pinPrimaryAfterWrite = Duration.ofSeconds(2);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    private Duration healthCheckTimeout = Duration.ofSeconds(2);
+
+    @Data
+    public static class Replica {
+
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
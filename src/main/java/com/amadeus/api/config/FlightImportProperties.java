@@ -0,0 +1,15 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "flight-import")
+public class FlightImportProperties {
+
+    private int batchSize = 500;
+
+    private int maxReportedErrors = 1000;
+}
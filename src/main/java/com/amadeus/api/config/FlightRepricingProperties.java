@@ -0,0 +1,13 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "flight-repricing")
+public class FlightRepricingProperties {
+
+    private int chunkSize = 1000;
+}
@@ -0,0 +1,73 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "flight-search")
+public class FlightSearchProperties {
+
+    private SearchMode mode = SearchMode.INDEX;
+
+    private Connections connections = new Connections();
+
+    private Parallel parallel = new Parallel();
+
+    private Cache cache = new Cache();
+
+    private Snapshots snapshots = new Snapshots();
+
+    private Duration pastDayEviction = Duration.ofHours(1);
+
+    public enum SearchMode {
+        INDEX,
+        DATABASE
+    }
+
+    @Data
+    public static class Connections {
+
+        private Duration minConnectionTime = Duration.ofMinutes(45);
+
+        private Duration maxConnectionTime = Duration.ofHours(12);
+
+        private Duration timeBudget = Duration.ofMillis(50);
+
+        private int maxResults = 20;
+
+        private BigDecimal pricePerMinute = new BigDecimal("500");
+    }
+
+    @Data
+    public static class Parallel {
+
+        private int poolSize = 16;
+
+        private int queueCapacity = 200;
+
+        private Duration deadline = Duration.ofSeconds(2);
+    }
+
+    @Data
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    @Data
+    public static class Snapshots {
+
+        private long maximumSize = 50_000;
+
+        private Duration ttl = Duration.ofMinutes(15);
+    }
+}
@@ -0,0 +1,225 @@
+package com.amadeus.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private static final Object PINNED_CALLERS = new Object();
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long pinAfterWriteNanos;
+    private final int healthCheckTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+    private final Map<String, Long> primaryPinnedUntil = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+            DataSourceRoutingProperties properties) {
+        this.primary = primary;
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.replicaNames = List.copyOf(this.replicas.keySet());
+        this.healthyReplicas.addAll(replicaNames);
+        this.pinAfterWriteNanos = properties.getPinPrimaryAfterWrite().toNanos();
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, properties.getHealthCheckTimeout().toSeconds());
+
+        Map<Object, Object> targets = new HashMap<>(this.replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getHealthCheckInterval().toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkReplicas, interval, interval, TimeUnit.MILLISECONDS);
+        healthChecker.scheduleWithFixedDelay(this::purgeExpiredPins, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // For writes committed on a thread other than the caller's, such as the seat writer.
+    @SuppressWarnings("unchecked")
+    public static void pinCallerOnCommit(String caller) {
+        Set<String> callers = (Set<String>) TransactionSynchronizationManager.getResource(PINNED_CALLERS);
+        if (callers != null && caller != null) {
+            callers.add(caller);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinPrimaryAfterCommit();
+            return PRIMARY;
+        }
+        if (isPinnedToPrimary(currentCaller())) {
+            return PRIMARY;
+        }
+        return nextHealthyReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection();
+        }
+        try {
+            return replicas.get(key).getConnection();
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        String key = (String) determineCurrentLookupKey();
+        if (PRIMARY.equals(key)) {
+            return primary.getConnection(username, password);
+        }
+        try {
+            return replicas.get(key).getConnection(username, password);
+        } catch (SQLException e) {
+            markUnhealthy(key, e);
+            return primary.getConnection(username, password);
+        }
+    }
+
+    public List<String> healthyReplicas() {
+        List<String> healthy = new ArrayList<>(replicaNames);
+        healthy.retainAll(healthyReplicas);
+        return healthy;
+    }
+
+    void checkReplicas() {
+        replicas.forEach((name, replica) -> {
+            try (Connection connection = replica.getConnection()) {
+                if (connection.isValid(healthCheckTimeoutSeconds)) {
+                    if (healthyReplicas.add(name)) {
+                        log.info("Replica {} is healthy again, routing read-only transactions to it", name);
+                    }
+                } else {
+                    markUnhealthy(name, null);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markUnhealthy(name, e);
+            }
+        });
+    }
+
+    private String nextHealthyReplica() {
+        for (int attempt = 0; attempt < replicaNames.size(); attempt++) {
+            String name = replicaNames.get(Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size()));
+            if (healthyReplicas.contains(name)) {
+                return name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    private void markUnhealthy(String name, Exception cause) {
+        if (healthyReplicas.remove(name)) {
+            log.warn("Replica {} failed its health check, falling back to the primary: {}", name,
+                    cause == null ? "connection not valid" : cause.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void pinPrimaryAfterCommit() {
+        if (pinAfterWriteNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Set<String> callers = (Set<String>) TransactionSynchronizationManager.getResource(PINNED_CALLERS);
+        if (callers == null) {
+            Set<String> pinned = new HashSet<>();
+            callers = pinned;
+            TransactionSynchronizationManager.bindResource(PINNED_CALLERS, pinned);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    long until = System.nanoTime() + pinAfterWriteNanos;
+                    pinned.forEach(caller -> primaryPinnedUntil.put(caller, until));
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PINNED_CALLERS);
+                }
+            });
+        }
+        String caller = currentCaller();
+        if (caller != null) {
+            callers.add(caller);
+        }
+    }
+
+    private boolean isPinnedToPrimary(String caller) {
+        if (caller == null) {
+            return false;
+        }
+        Long until = primaryPinnedUntil.get(caller);
+        return until != null && System.nanoTime() - until < 0;
+    }
+
+    void purgeExpiredPins() {
+        long now = System.nanoTime();
+        primaryPinnedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    public static String currentCaller() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        replicas.values().forEach(this::close);
+        close(primary);
+    }
+
+    private void close(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "seat-holds")
+public class SeatHoldProperties {
+
+    private Duration ttl = Duration.ofMinutes(15);
+
+    private Duration tick = Duration.ofSeconds(1);
+
+    private int wheelSize = 1024;
+
+    private Duration retryDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,21 @@
+package com.amadeus.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "seat-writes")
+public class SeatWriteProperties {
+
+    private boolean coalesce = true;
+
+    private Duration window = Duration.ofMillis(2);
+
+    private int maxBatchSize = 256;
+
+    private Duration timeout = Duration.ofSeconds(5);
+}
@@ -15,6 +15,10 @@ public class SecurityProperties {
                         "/auth/login",
                         "/auth/register",
                         "/flights/search",
+                        "/flights/search/batch",
+                        "/flights/search/stream",
+                        "/flights/search/search_*",
+                        "/flights/calendar",
                         "/flights/locations/**",
                         "/flights/upcoming",
                         // H2
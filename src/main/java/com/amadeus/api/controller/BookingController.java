@@ -0,0 +1,109 @@
+package com.amadeus.api.controller;
+
+import com.amadeus.api.dto.ApiResponse;
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.dto.request.SeatHoldRequest;
+import com.amadeus.api.dto.response.BookingDto;
+import com.amadeus.api.dto.response.SeatHoldDto;
+import com.amadeus.api.service.BookingService;
+import com.amadeus.api.service.SeatHoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/bookings")
+@RequiredArgsConstructor
+@Tag(name = "Bookings", description = "API for booking seats on flights")
+public class BookingController {
+
+    private final BookingService bookingService;
+    private final SeatHoldService seatHoldService;
+
+    @Operation(summary = "Book seats", description = "Books seats on a flight for the authenticated user. Seats are taken with a single conditional update, so concurrent bookings can never oversell a flight.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Booking confirmed", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Flight not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Not enough seats left or flight not open for booking", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<ApiResponse<BookingDto>> createBooking(
+            @Parameter(description = "Flight and number of seats", required = true) @Valid @RequestBody CreateBookingRequest request,
+            Principal principal) {
+
+        BookingDto booking = bookingService.createBooking(principal.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(booking, "Booking confirmed"));
+    }
+
+    @Operation(summary = "Get booking by reference", description = "Looks up a booking by its six character reference. Travellers see their own bookings, administrators any booking. Served from memory after the first lookup.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Booking found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "No booking with this reference", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/{reference}")
+    public ResponseEntity<ApiResponse<BookingDto>> getBooking(
+            @Parameter(description = "Booking reference", example = "K7QX2M") @PathVariable String reference,
+            Authentication authentication) {
+
+        boolean admin = authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+        BookingDto booking = admin
+                ? bookingService.getBooking(reference)
+                : bookingService.getBooking(authentication.getName(), reference);
+        return ResponseEntity.ok(ApiResponse.success(booking, "Booking retrieved successfully"));
+    }
+
+    @Operation(summary = "Cancel booking", description = "Cancels a confirmed booking of the authenticated user and releases its seats", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<BookingDto>> cancelBooking(@PathVariable Long id, Principal principal) {
+
+        BookingDto booking = bookingService.cancelBooking(principal.getName(), id);
+        return ResponseEntity.ok(ApiResponse.success(booking, "Booking cancelled"));
+    }
+
+    @Operation(summary = "Hold seats", description = "Takes seats on a flight for the authenticated user for a limited time. The hold expires on its own and gives the seats back unless it is confirmed first.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Seats held", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Flight not found", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "Not enough seats left or flight not open for booking", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<SeatHoldDto>> holdSeats(
+            @Parameter(description = "Flight and number of seats", required = true) @Valid @RequestBody SeatHoldRequest request,
+            Principal principal) {
+
+        SeatHoldDto hold = seatHoldService.holdSeats(principal.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(hold, "Seats held until " + hold.getExpiresAt()));
+    }
+
+    @Operation(summary = "Release seat hold", description = "Gives the seats of an outstanding hold back before it expires", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @DeleteMapping("/holds/{holdId}")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(@PathVariable String holdId, Principal principal) {
+
+        seatHoldService.releaseHold(principal.getName(), holdId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Seat hold released"));
+    }
+
+    @Operation(summary = "Confirm seat hold", description = "Turns an unexpired hold of the authenticated user into a confirmed booking at the held price", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Bookings")
+    @PostMapping("/holds/{holdId}/confirm")
+    public ResponseEntity<ApiResponse<BookingDto>> confirmHold(@PathVariable String holdId, Principal principal) {
+
+        BookingDto booking = bookingService.confirmHold(principal.getName(), holdId);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success(booking, "Booking confirmed"));
+    }
+}
@@ -1,14 +1,33 @@
 package com.amadeus.api.controller;
 
 import com.amadeus.api.dto.ApiResponse;
+import com.amadeus.api.dto.request.BatchFlightSearchRequest;
 import com.amadeus.api.dto.request.CreateFlightRequest;
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.amadeus.api.dto.request.FlightRepriceRequest;
 import com.amadeus.api.dto.request.FlightSearchRequest;
+import com.amadeus.api.dto.request.PageCountMode;
 import com.amadeus.api.dto.request.UpdateFlightRequest;
+import com.amadeus.api.dto.response.BatchFlightSearchResponse;
+import com.amadeus.api.dto.response.FareCalendarResponse;
+import com.amadeus.api.dto.response.FlightAdminCursorPage;
 import com.amadeus.api.dto.response.FlightAdminDto;
 import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.dto.response.FlightImportReport;
+import com.amadeus.api.dto.response.FlightRepriceReport;
 import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.FlightStreamItem;
 import com.amadeus.api.dto.response.LocationDto;
+import com.amadeus.api.dto.response.SearchResultsPage;
+import com.amadeus.api.exception.FlightSearchTimeoutException;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.SearchResultsQuery;
+import com.amadeus.api.service.FlightImportService;
+import com.amadeus.api.service.FlightRepricingService;
 import com.amadeus.api.service.FlightService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,13 +42,25 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -39,6 +70,9 @@ import java.util.List;
 public class FlightController {
 
     private final FlightService flightService;
+    private final FlightImportService flightImportService;
+    private final FlightRepricingService flightRepricingService;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Search flights", description = "Search available flights based on specified criteria", tags = "Flights")
     @ApiResponses(value = {
@@ -55,6 +89,8 @@ public class FlightController {
         try {
             FlightSearchResponse response = flightService.searchFlights(request);
             return ResponseEntity.ok(ApiResponse.success(response, "Flight search completed successfully"));
+        } catch (FlightSearchTimeoutException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error during flight search: {}", e.getMessage(), e);
             return ResponseEntity.badRequest()
@@ -62,6 +98,105 @@ public class FlightController {
         }
     }
 
+    @Operation(summary = "Page a previous search", description = "Re-sorts, filters and pages the results of an earlier search from its stored snapshot without querying flights again", tags = "Flights")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Results page retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "Search not found or expired", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/search/{searchId}")
+    public ResponseEntity<ApiResponse<SearchResultsPage>> getSearchResults(
+            @Parameter(description = "searchId returned in the search metadata", required = true) @PathVariable String searchId,
+            @Parameter(description = "Sort field: price, duration, departure or arrival") @RequestParam(defaultValue = "departure") String sort,
+            @Parameter(description = "Sort direction: asc or desc") @RequestParam(defaultValue = "asc") String direction,
+            @Parameter(description = "Only include these airlines") @RequestParam(required = false) List<String> airlines,
+            @Parameter(description = "Minimum price") @RequestParam(required = false) BigDecimal minPrice,
+            @Parameter(description = "Maximum price") @RequestParam(required = false) BigDecimal maxPrice,
+            @Parameter(description = "Maximum flight duration in minutes") @RequestParam(required = false) Integer maxDurationMinutes,
+            @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of flights per leg and page") @RequestParam(defaultValue = "20") int size) {
+
+        SearchResultsQuery query = SearchResultsQuery.builder()
+                .sortKey(FlightSortKey.from(sort))
+                .descending("desc".equalsIgnoreCase(direction))
+                .airlines(airlines == null ? Set.of() : Set.copyOf(airlines))
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .maxDurationMinutes(maxDurationMinutes)
+                .page(Math.max(0, page))
+                .size(Math.max(1, Math.min(size, 100)))
+                .build();
+
+        SearchResultsPage results = flightService.getSearchResults(searchId, query);
+        return ResponseEntity.ok(ApiResponse.success(results, "Search results retrieved successfully"));
+    }
+
+    @Operation(summary = "Batch flight search", description = "Runs several flight searches in one call, loading each distinct route and day once; results follow request order", tags = "Flights")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Batch search completed successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid search parameters", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @PostMapping("/search/batch")
+    public ResponseEntity<ApiResponse<BatchFlightSearchResponse>> searchFlightsBatch(
+            @Parameter(description = "Flight searches to run", required = true) @Valid @RequestBody BatchFlightSearchRequest request) {
+
+        log.info("Batch flight search request received with {} searches", request.getSearches().size());
+
+        try {
+            BatchFlightSearchResponse response = flightService.searchFlightsBatch(request);
+            return ResponseEntity.ok(ApiResponse.success(response, "Batch flight search completed successfully"));
+        } catch (FlightSearchTimeoutException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error during batch flight search: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("FLIGHT_SEARCH_ERROR", "Error occurred during flight search"));
+        }
+    }
+
+    @Operation(summary = "Stream flight search", description = "Streams matching flights as newline-delimited JSON while they are read, followed by a completion line", tags = "Flights")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Search results streamed"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid search parameters", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @PostMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamFlights(
+            @Parameter(description = "Flight search criteria", required = true) @Valid @RequestBody FlightSearchRequest request) {
+
+        log.info("Streaming flight search request received: {} to {} on {}",
+                request.getOrigin(), request.getDestination(), request.getDepartureDate());
+
+        ObjectWriter lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        StreamingResponseBody body = outputStream -> {
+            try {
+                flightService.streamFlights(request, item -> writeLine(lineWriter, outputStream, item));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            } catch (Exception e) {
+                log.error("Error during streaming flight search: {}", e.getMessage(), e);
+                writeLine(lineWriter, outputStream, FlightStreamItem.error("Error occurred during flight search"));
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Low-fare calendar", description = "Returns the cheapest available price for each day of a month on a route", tags = "Flights")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Calendar retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid calendar parameters", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<FareCalendarResponse>> getFareCalendar(
+            @Parameter(description = "Origin location code", required = true) @RequestParam String origin,
+            @Parameter(description = "Destination location code", required = true) @RequestParam String destination,
+            @Parameter(description = "Month in yyyy-MM format", required = true) @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+
+        FareCalendarResponse calendar = flightService.getFareCalendar(origin, destination, month);
+        return ResponseEntity.ok(ApiResponse.success(calendar, "Fare calendar retrieved successfully"));
+    }
+
     @Operation(summary = "Create flight (Admin)", description = "Creates a new flight. Requires administrator permissions.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Flights - Admin")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "201", description = "Flight created successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
@@ -80,6 +215,30 @@ public class FlightController {
                 .body(ApiResponse.success(flight, "Flight created successfully"));
     }
 
+    @Operation(summary = "Bulk import flights (Admin)", description = "Streams a CSV (header row with CreateFlightRequest field names) or NDJSON body, validates every row and inserts accepted rows in JDBC batches. Rejected rows are listed in the report; the rest are imported.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Flights - Admin")
+    @PostMapping("/admin/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<FlightImportReport>> importFlights(
+            @Parameter(description = "csv or ndjson; defaults to the request Content-Type") @RequestParam(required = false) String format,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+
+        FlightImportReport report = flightImportService.importFlights(body, FlightImportFormat.from(format, contentType));
+        return ResponseEntity.ok(ApiResponse.success(report, String.format("Imported %d of %d flights",
+                report.getImported(), report.getTotalRows())));
+    }
+
+    @Operation(summary = "Bulk reprice flights (Admin)", description = "Applies a price rule (set, amount or percent, clamped to an optional floor and ceiling) to every upcoming flight matching a route or airline, optionally narrowed by cabin class and departure dates. Runs as chunked set-based updates.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Flights - Admin")
+    @PostMapping("/admin/reprice")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<FlightRepriceReport>> repriceFlights(
+            @Valid @RequestBody FlightRepriceRequest request) {
+
+        FlightRepriceReport report = flightRepricingService.repriceFlights(request);
+        return ResponseEntity.ok(ApiResponse.success(report, String.format("Repriced %d of %d flights",
+                report.getRepriced(), report.getMatched())));
+    }
+
     @GetMapping("/admin/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<FlightAdminDto>> getFlightById(@PathVariable Long id) {
@@ -90,16 +249,30 @@ public class FlightController {
 
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<FlightAdminDto>>> getAllFlights(
+    public ResponseEntity<ApiResponse<Slice<FlightAdminDto>>> getAllFlights(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "departureTime") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @Parameter(description = "Total count: exact, none (has-next only) or estimated (planner statistics)") @RequestParam(defaultValue = "exact") String count) {
 
         Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<FlightAdminDto> flights = flightService.getAllFlights(pageable);
+        Slice<FlightAdminDto> flights = flightService.getAllFlights(pageable, PageCountMode.from(count));
+        return ResponseEntity.ok(ApiResponse.success(flights, "Flights retrieved successfully"));
+    }
+
+    @GetMapping("/admin/keyset")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<FlightAdminCursorPage>> getAllFlightsByCursor(
+            @Parameter(description = "Continuation token from the previous page's nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of results per page") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "departureTime") String sortBy,
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "asc") String sortDir) {
+
+        FlightAdminCursorPage flights = flightService.getAllFlightsByCursor(sortBy, sortDir, cursor,
+                Math.max(1, Math.min(size, 100)));
         return ResponseEntity.ok(ApiResponse.success(flights, "Flights retrieved successfully"));
     }
 
@@ -112,24 +285,30 @@ public class FlightController {
     })
     @GetMapping("/search/admin")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<Page<FlightAdminDto>>> searchFlights(
+    public ResponseEntity<ApiResponse<Slice<FlightAdminDto>>> searchFlights(
             @Parameter(description = "Search term to find flights across multiple fields (flight number, airline, origin, destination, aircraft type, cabin class)", required = false) @RequestParam(required = false) String searchTerm,
             @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Number of results per page") @RequestParam(defaultValue = "20") int size,
-            @Parameter(description = "Field to sort by") @RequestParam(defaultValue = "departureTime") String sortBy,
-            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "Field to sort by, or relevance to rank matches of the search term") @RequestParam(defaultValue = "departureTime") String sortBy,
+            @Parameter(description = "Sort direction (asc or desc)") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "Total count: exact, none (has-next only) or estimated (planner statistics)") @RequestParam(defaultValue = "exact") String count) {
 
         log.info("Admin flight search request - term: '{}', page: {}, size: {}", searchTerm, page, size);
 
         try {
-            Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+            Sort sort = "relevance".equalsIgnoreCase(sortBy) ? Sort.unsorted()
+                    : sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
             Pageable pageable = PageRequest.of(page, size, sort);
 
-            Page<FlightAdminDto> flights = flightService.searchFlightsForAdmin(searchTerm, pageable);
+            Slice<FlightAdminDto> flights = flightService.searchFlightsForAdmin(searchTerm, pageable,
+                    PageCountMode.from(count));
 
+            long found = flights instanceof Page<FlightAdminDto> counted
+                    ? counted.getTotalElements()
+                    : flights.getNumberOfElements();
             String message = searchTerm != null && !searchTerm.trim().isEmpty()
-                    ? String.format("Found %d flights matching '%s'", flights.getTotalElements(), searchTerm)
-                    : String.format("Retrieved %d flights", flights.getTotalElements());
+                    ? String.format("Found %d flights matching '%s'", found, searchTerm)
+                    : String.format("Retrieved %d flights", found);
 
             return ResponseEntity.ok(ApiResponse.success(flights, message));
         } catch (Exception e) {
@@ -191,4 +370,14 @@ public class FlightController {
         List<FlightDto> flights = flightService.getUpcomingFlights(limit);
         return ResponseEntity.ok(ApiResponse.success(flights, "Upcoming flights retrieved successfully"));
     }
+
+    private void writeLine(ObjectWriter lineWriter, OutputStream outputStream, FlightStreamItem item) {
+        try {
+            lineWriter.writeValue(outputStream, item);
+            outputStream.write('\n');
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
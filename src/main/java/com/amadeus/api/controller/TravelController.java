@@ -0,0 +1,51 @@
+package com.amadeus.api.controller;
+
+import com.amadeus.api.dto.ApiResponse;
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.dto.response.TripPage;
+import com.amadeus.api.service.TripService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+
+@RestController
+@RequestMapping("/travel")
+@RequiredArgsConstructor
+@Tag(name = "Travel", description = "API for the authenticated user's trips")
+public class TravelController {
+
+    private final TripService tripService;
+
+    @Operation(summary = "My trips", description = "Booking history of the authenticated user, latest departure first. Pass the nextCursor of a page to get the one after it.", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Travel")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Trips retrieved successfully", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Invalid cursor", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/trips")
+    public ResponseEntity<ApiResponse<TripPage>> getTrips(
+            @Parameter(description = "Continuation token from the previous page's nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of trips per page") @RequestParam(defaultValue = "20") int size,
+            Principal principal) {
+
+        TripPage trips = tripService.getTrips(principal.getName(), cursor, Math.max(1, Math.min(size, 100)));
+        return ResponseEntity.ok(ApiResponse.success(trips, "Trips retrieved successfully"));
+    }
+
+    @Operation(summary = "Upcoming trips", description = "Next confirmed trips of the authenticated user, soonest first", security = @SecurityRequirement(name = "Bearer Authentication"), tags = "Travel")
+    @GetMapping("/trips/upcoming")
+    public ResponseEntity<ApiResponse<List<TripDto>>> getUpcomingTrips(Principal principal) {
+
+        List<TripDto> trips = tripService.getUpcomingTrips(principal.getName());
+        return ResponseEntity.ok(ApiResponse.success(trips, "Upcoming trips retrieved successfully"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.amadeus.api.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFlightSearchRequest {
+
+    @NotEmpty(message = "At least one search is required")
+    @Size(max = 50, message = "Maximum 50 searches per batch")
+    private List<@Valid @NotNull(message = "Search cannot be null") FlightSearchRequest> searches;
+
+}
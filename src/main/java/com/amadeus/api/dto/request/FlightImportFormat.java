@@ -0,0 +1,19 @@
+package com.amadeus.api.dto.request;
+
+import java.util.Locale;
+
+public enum FlightImportFormat {
+
+    CSV,
+    NDJSON;
+
+    public static FlightImportFormat from(String format, String contentType) {
+        if (format != null && !format.isBlank()) {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        }
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith("text/csv")) {
+            return CSV;
+        }
+        return NDJSON;
+    }
+}
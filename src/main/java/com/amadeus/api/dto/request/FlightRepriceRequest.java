@@ -0,0 +1,52 @@
+package com.amadeus.api.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRepriceRequest {
+
+    @Size(min = 2, max = 50, message = "Origin must be between 2 and 50 characters")
+    private String origin;
+
+    @Size(min = 2, max = 50, message = "Destination must be between 2 and 50 characters")
+    private String destination;
+
+    @Size(min = 2, max = 50, message = "Airline must be between 2 and 50 characters")
+    private String airline;
+
+    @Pattern(regexp = "^(Economy|Business|First)$", message = "Cabin class must be Economy, Business, or First")
+    private String cabinClass;
+
+    private LocalDate departureFrom;
+
+    private LocalDate departureTo;
+
+    @NotNull(message = "Adjustment is required")
+    private PriceAdjustment adjustment;
+
+    @NotNull(message = "Value is required")
+    @Digits(integer = 8, fraction = 2, message = "Value format is invalid")
+    private BigDecimal value;
+
+    @DecimalMin(value = "0.01", message = "Floor price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Floor price format is invalid")
+    private BigDecimal floorPrice;
+
+    @DecimalMin(value = "0.01", message = "Ceiling price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Ceiling price format is invalid")
+    private BigDecimal ceilingPrice;
+}
@@ -6,7 +6,10 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -37,4 +40,41 @@ public class FlightSearchRequest {
     @Max(value = 9, message = "Maximum 9 passengers allowed")
     private Integer passengers;
 
+    @Min(value = 0, message = "Max stops cannot be negative")
+    @Max(value = 1, message = "Maximum 1 stop supported")
+    private Integer maxStops;
+
+    @Min(value = 0, message = "Flexible days cannot be negative")
+    @Max(value = 3, message = "Maximum 3 flexible days allowed")
+    private Integer flexDays;
+
+    @Pattern(regexp = "^(price|duration|departure|arrival)$", message = "Sort must be 'price', 'duration', 'departure' or 'arrival'")
+    private String sortBy;
+
+    @Pattern(regexp = "^(asc|desc)$", message = "Sort direction must be 'asc' or 'desc'")
+    private String sortDirection;
+
+    private List<@NotBlank(message = "Airline cannot be blank") String> airlines;
+
+    @DecimalMin(value = "0", message = "Minimum price cannot be negative")
+    private BigDecimal minPrice;
+
+    @DecimalMin(value = "0", message = "Maximum price cannot be negative")
+    private BigDecimal maxPrice;
+
+    @Min(value = 1, message = "Maximum duration must be at least 1 minute")
+    private Integer maxDurationMinutes;
+
+    private LocalTime departureTimeFrom;
+
+    private LocalTime departureTimeTo;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Maximum page size is 100")
+    private Integer pageSize;
+
+    private String outboundCursor;
+
+    private String returnCursor;
+
 }
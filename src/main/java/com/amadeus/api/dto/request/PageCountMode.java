@@ -0,0 +1,17 @@
+package com.amadeus.api.dto.request;
+
+import java.util.Locale;
+
+public enum PageCountMode {
+
+    EXACT,
+    NONE,
+    ESTIMATED;
+
+    public static PageCountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,8 @@
+package com.amadeus.api.dto.request;
+
+public enum PriceAdjustment {
+
+    SET,
+    AMOUNT,
+    PERCENT
+}
@@ -0,0 +1,24 @@
+package com.amadeus.api.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldRequest {
+
+    @NotNull(message = "Flight id is required")
+    private Long flightId;
+
+    @NotNull(message = "Seats are required")
+    @Min(value = 1, message = "At least one seat must be held")
+    @Max(value = 9, message = "Cannot hold more than 9 seats at once")
+    private Integer seats;
+}
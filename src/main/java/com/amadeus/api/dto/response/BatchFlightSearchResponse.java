@@ -0,0 +1,20 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchFlightSearchResponse {
+
+    private List<FlightSearchResponse> results;
+    private Integer totalSearches;
+    private Integer uniqueSearches;
+    private Integer routeDaysQueried;
+}
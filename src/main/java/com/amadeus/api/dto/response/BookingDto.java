@@ -0,0 +1,28 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingDto {
+
+    private Long id;
+    private String reference;
+    private Long flightId;
+    private String flightNumber;
+    private String origin;
+    private String destination;
+    private LocalDateTime departureTime;
+    private Integer seats;
+    private BigDecimal totalPrice;
+    private String status;
+    private LocalDateTime createdAt;
+}
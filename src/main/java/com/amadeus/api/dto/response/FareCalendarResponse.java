@@ -0,0 +1,32 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareCalendarResponse {
+
+    private String origin;
+    private String destination;
+    private String month;
+    private String currency;
+    private List<CalendarDay> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CalendarDay {
+        private LocalDate date;
+        private BigDecimal lowestPrice;
+    }
+}
@@ -0,0 +1,22 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlexibleDateDto {
+
+    private LocalDate date;
+    private BigDecimal cheapestPrice;
+    private Integer totalFlights;
+    private List<FlightDto> flights;
+}
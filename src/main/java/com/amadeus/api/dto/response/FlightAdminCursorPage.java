@@ -0,0 +1,22 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightAdminCursorPage {
+
+    private List<FlightAdminDto> content;
+    private Integer size;
+    private String sortBy;
+    private String sortDir;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -22,6 +22,7 @@ public class FlightAdminDto {
     private LocalDateTime departureTime;
     private LocalDateTime arrivalTime;
     private String duration;
+    private Integer durationMinutes;
     private BigDecimal price;
     private String aircraftType;
     private Integer availableSeats;
@@ -0,0 +1,23 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightImportReport {
+
+    private String format;
+    private Long totalRows;
+    private Long imported;
+    private Long rejected;
+    private List<FlightImportError> errors;
+    private boolean errorsTruncated;
+    private Long durationMs;
+}
@@ -0,0 +1,19 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightRepriceReport {
+
+    private Long matched;
+    private Long repriced;
+    private Integer chunks;
+    private Integer routeDays;
+    private Long durationMs;
+}
@@ -15,5 +15,8 @@ public class FlightSearchResponse {
 
     private List<FlightDto> outboundFlights;
     private List<FlightDto> returnFlights;
+    private List<ItineraryDto> outboundConnections;
+    private List<ItineraryDto> returnConnections;
+    private List<FlexibleDateDto> flexibleDates;
     private SearchMetadata metadata;
 }
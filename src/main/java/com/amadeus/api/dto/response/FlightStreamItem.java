@@ -0,0 +1,49 @@
+package com.amadeus.api.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FlightStreamItem {
+
+    public static final String FLIGHT = "flight";
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+
+    private String type;
+    private String leg;
+    private FlightDto flight;
+    private String searchId;
+    private Integer totalResults;
+    private String message;
+
+    public static FlightStreamItem flight(String leg, FlightDto flight) {
+        return FlightStreamItem.builder()
+                .type(FLIGHT)
+                .leg(leg)
+                .flight(flight)
+                .build();
+    }
+
+    public static FlightStreamItem complete(String searchId, int totalResults) {
+        return FlightStreamItem.builder()
+                .type(COMPLETE)
+                .searchId(searchId)
+                .totalResults(totalResults)
+                .build();
+    }
+
+    public static FlightStreamItem error(String message) {
+        return FlightStreamItem.builder()
+                .type(ERROR)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItineraryDto {
+
+    private List<FlightDto> segments;
+    private Integer stops;
+    private LocalDateTime departureTime;
+    private LocalDateTime arrivalTime;
+    private String totalDuration;
+    private BigDecimal totalPrice;
+}
@@ -17,4 +17,6 @@ public class SearchMetadata {
     private LocalDateTime searchTime;
     private Integer totalResults;
     private String currency;
+    private String outboundNextCursor;
+    private String returnNextCursor;
 }
@@ -0,0 +1,26 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultsPage {
+
+    private String searchId;
+    private LocalDateTime searchTime;
+    private List<FlightDto> outboundFlights;
+    private List<FlightDto> returnFlights;
+    private Integer page;
+    private Integer size;
+    private Integer totalPages;
+    private Integer totalOutbound;
+    private Integer totalReturn;
+}
@@ -0,0 +1,23 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatHoldDto {
+
+    private String holdId;
+    private Long flightId;
+    private String flightNumber;
+    private Integer seats;
+    private BigDecimal totalPrice;
+    private LocalDateTime expiresAt;
+}
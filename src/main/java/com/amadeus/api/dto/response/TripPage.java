@@ -0,0 +1,20 @@
+package com.amadeus.api.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TripPage {
+
+    private List<TripDto> content;
+    private Integer size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,6 @@
+package com.amadeus.api.entity;
+
+public enum BookingStatus {
+    CONFIRMED,
+    CANCELLED
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @Entity
@@ -41,6 +42,9 @@ public class Flight {
     @Column(nullable = false)
     private String duration;
 
+    @Column(nullable = false)
+    private Integer durationMinutes;
+
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
@@ -66,10 +70,18 @@ public class Flight {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        refreshDurationMinutes();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        refreshDurationMinutes();
+    }
+
+    public void refreshDurationMinutes() {
+        if (departureTime != null && arrivalTime != null) {
+            durationMinutes = Math.toIntExact(Duration.between(departureTime, arrivalTime).toMinutes());
+        }
     }
 }
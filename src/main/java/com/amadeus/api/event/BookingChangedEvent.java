@@ -0,0 +1,11 @@
+package com.amadeus.api.event;
+
+import lombok.Value;
+
+@Value
+public class BookingChangedEvent {
+
+    Long bookingId;
+    String reference;
+    Long userId;
+}
@@ -0,0 +1,37 @@
+package com.amadeus.api.event;
+
+import com.amadeus.api.search.FlightSnapshot;
+import lombok.Value;
+
+import java.util.Objects;
+
+@Value
+public class FlightChangedEvent {
+
+    Long flightId;
+    FlightSnapshot previous;
+    FlightSnapshot current;
+
+    public static FlightChangedEvent created(FlightSnapshot current) {
+        return new FlightChangedEvent(current.getId(), null, current);
+    }
+
+    public static FlightChangedEvent updated(FlightSnapshot previous, FlightSnapshot current) {
+        return new FlightChangedEvent(current.getId(), previous, current);
+    }
+
+    public static FlightChangedEvent deleted(FlightSnapshot previous) {
+        return new FlightChangedEvent(previous.getId(), previous, null);
+    }
+
+    // Bookings copy the flight number, route and departure time.
+    public boolean changesItinerary() {
+        if (previous == null || current == null) {
+            return previous != null;
+        }
+        return !Objects.equals(previous.getFlightNumber(), current.getFlightNumber())
+                || !Objects.equals(previous.getOrigin(), current.getOrigin())
+                || !Objects.equals(previous.getDestination(), current.getDestination())
+                || !Objects.equals(previous.getDepartureTime(), current.getDepartureTime());
+    }
+}
@@ -0,0 +1,24 @@
+package com.amadeus.api.event;
+
+import com.amadeus.api.repository.FlightSeatView;
+import com.amadeus.api.search.RouteDayKey;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+public class FlightSeatsChangedEvent {
+
+    Long flightId;
+    RouteDayKey routeDay;
+    BigDecimal price;
+    int delta;
+    int remainingSeats;
+    boolean active;
+
+    public static FlightSeatsChangedEvent of(FlightSeatView flight, int delta) {
+        return new FlightSeatsChangedEvent(flight.getId(),
+                new RouteDayKey(flight.getOrigin(), flight.getDestination(), flight.getDepartureTime().toLocalDate()),
+                flight.getPrice(), delta, flight.getAvailableSeats(), flight.isActive());
+    }
+}
@@ -0,0 +1,12 @@
+package com.amadeus.api.event;
+
+import com.amadeus.api.search.FlightSnapshot;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class FlightsImportedEvent {
+
+    List<FlightSnapshot> flights;
+}
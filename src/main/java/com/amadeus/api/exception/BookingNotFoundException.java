@@ -0,0 +1,12 @@
+package com.amadeus.api.exception;
+
+public class BookingNotFoundException extends RuntimeException {
+
+    public BookingNotFoundException(Long id) {
+        super("Booking not found with id: " + id);
+    }
+
+    public BookingNotFoundException(String reference) {
+        super("Booking not found with reference: " + reference);
+    }
+}
@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class BookingReferenceUnavailableException extends RuntimeException {
+
+    public BookingReferenceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class FlightInUseException extends RuntimeException {
+
+    public FlightInUseException(String message) {
+        super(message);
+    }
+}
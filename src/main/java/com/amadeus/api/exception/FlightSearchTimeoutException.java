@@ -0,0 +1,12 @@
+package com.amadeus.api.exception;
+
+public class FlightSearchTimeoutException extends RuntimeException {
+
+    public FlightSearchTimeoutException(String message) {
+        super(message);
+    }
+
+    public FlightSearchTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
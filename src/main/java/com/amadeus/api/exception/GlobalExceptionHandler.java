@@ -2,6 +2,7 @@ package com.amadeus.api.exception;
 
 import com.amadeus.api.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -23,6 +24,79 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("FLIGHT_NOT_FOUND", ex.getMessage()));
     }
 
+    @ExceptionHandler(SearchNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSearchNotFoundException(SearchNotFoundException ex) {
+        log.warn("Search snapshot not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("SEARCH_NOT_FOUND", ex.getMessage()));
+    }
+
+    @ExceptionHandler(BookingNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBookingNotFoundException(BookingNotFoundException ex) {
+        log.warn("Booking not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("BOOKING_NOT_FOUND", ex.getMessage()));
+    }
+
+    @ExceptionHandler(SeatHoldNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSeatHoldNotFoundException(SeatHoldNotFoundException ex) {
+        log.warn("Seat hold not found: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error("HOLD_NOT_FOUND", ex.getMessage()));
+    }
+
+    @ExceptionHandler(SeatsUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSeatsUnavailableException(SeatsUnavailableException ex) {
+        log.info("Seats unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("SEATS_UNAVAILABLE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(SeatWriterUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleSeatWriterUnavailableException(SeatWriterUnavailableException ex) {
+        log.warn("Seat writer unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("SEAT_WRITER_UNAVAILABLE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(FlightSearchTimeoutException.class)
+    public ResponseEntity<ApiResponse<Void>> handleFlightSearchTimeoutException(FlightSearchTimeoutException ex) {
+        log.warn("Flight search timed out: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("SEARCH_TIMEOUT", ex.getMessage()));
+    }
+
+    @ExceptionHandler(BookingNotCancellableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBookingNotCancellableException(BookingNotCancellableException ex) {
+        log.info("Booking not cancellable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("BOOKING_NOT_CANCELLABLE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(BookingReferenceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBookingReferenceUnavailableException(
+            BookingReferenceUnavailableException ex) {
+        log.error("Booking reference unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error("REFERENCE_UNAVAILABLE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(FlightInUseException.class)
+    public ResponseEntity<ApiResponse<Void>> handleFlightInUseException(FlightInUseException ex) {
+        log.info("Flight in use: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("FLIGHT_IN_USE", ex.getMessage()));
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDataIntegrityViolationException(
+            DataIntegrityViolationException ex) {
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error("DATA_CONFLICT",
+                        "The request conflicts with data that references or constrains this resource"));
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiResponse<Void>> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime exception: {}", ex.getMessage(), ex);
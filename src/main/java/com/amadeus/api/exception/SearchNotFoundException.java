@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class SearchNotFoundException extends RuntimeException {
+
+    public SearchNotFoundException(String searchId) {
+        super("Search not found or expired: " + searchId);
+    }
+}
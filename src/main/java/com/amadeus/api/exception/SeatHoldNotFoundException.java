@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class SeatHoldNotFoundException extends RuntimeException {
+
+    public SeatHoldNotFoundException(String holdId) {
+        super("Seat hold not found or expired: " + holdId);
+    }
+}
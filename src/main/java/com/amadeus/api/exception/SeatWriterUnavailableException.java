@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class SeatWriterUnavailableException extends RuntimeException {
+
+    public SeatWriterUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.amadeus.api.exception;
+
+public class SeatsUnavailableException extends RuntimeException {
+
+    public SeatsUnavailableException(String message) {
+        super(message);
+    }
+}
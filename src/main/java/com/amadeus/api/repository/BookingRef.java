@@ -0,0 +1,11 @@
+package com.amadeus.api.repository;
+
+import lombok.Value;
+
+@Value
+public class BookingRef {
+
+    Long id;
+    String reference;
+    Long userId;
+}
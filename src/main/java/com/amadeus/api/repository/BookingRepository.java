@@ -0,0 +1,86 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.Booking;
+import com.amadeus.api.entity.BookingStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BookingRepository extends JpaRepository<Booking, Long> {
+
+    Optional<Booking> findByIdAndUserId(Long id, Long userId);
+
+    long countByFlightIdAndStatus(Long flightId, BookingStatus status);
+
+    boolean existsByReference(String reference);
+
+    @Query("SELECT new com.amadeus.api.repository.BookingView(b.id, b.reference, u.email, b.flightId, " +
+            "b.flightNumber, b.origin, b.destination, b.departureTime, b.seats, b.totalPrice, b.status, " +
+            "b.createdAt) " +
+            "FROM Booking b JOIN User u ON u.id = b.userId " +
+            "WHERE b.reference = :reference")
+    @Transactional(readOnly = true)
+    Optional<BookingView> findViewByReference(@Param("reference") String reference);
+
+    @Query("SELECT new com.amadeus.api.repository.TripView(b.id, b.reference, b.flightId, b.flightNumber, " +
+            "b.origin, b.destination, b.departureTime, b.seats, b.totalPrice, b.status) " +
+            "FROM Booking b WHERE b.userId = :userId " +
+            "ORDER BY b.departureTime DESC, b.id DESC")
+    @Transactional(readOnly = true)
+    List<TripView> findTrips(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("SELECT new com.amadeus.api.repository.TripView(b.id, b.reference, b.flightId, b.flightNumber, " +
+            "b.origin, b.destination, b.departureTime, b.seats, b.totalPrice, b.status) " +
+            "FROM Booking b WHERE b.userId = :userId " +
+            "AND b.departureTime <= :departureTime " +
+            "AND (b.departureTime < :departureTime OR b.id < :id) " +
+            "ORDER BY b.departureTime DESC, b.id DESC")
+    @Transactional(readOnly = true)
+    List<TripView> findTripsBefore(@Param("userId") Long userId,
+            @Param("departureTime") LocalDateTime departureTime,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    @Query("SELECT new com.amadeus.api.repository.TripView(b.id, b.reference, b.flightId, b.flightNumber, " +
+            "b.origin, b.destination, b.departureTime, b.seats, b.totalPrice, b.status) " +
+            "FROM Booking b WHERE b.userId = :userId " +
+            "AND b.status = :status " +
+            "AND b.departureTime > :now " +
+            "ORDER BY b.departureTime, b.id")
+    @Transactional(readOnly = true)
+    List<TripView> findUpcomingTrips(@Param("userId") Long userId,
+            @Param("status") BookingStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable);
+
+    @Query("SELECT new com.amadeus.api.repository.BookingRef(b.id, b.reference, b.userId) " +
+            "FROM Booking b WHERE b.flightId = :flightId")
+    List<BookingRef> findRefsByFlightId(@Param("flightId") Long flightId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.flightNumber = :flightNumber, b.origin = :origin, " +
+            "b.destination = :destination, b.departureTime = :departureTime " +
+            "WHERE b.flightId = :flightId")
+    int updateItinerary(@Param("flightId") Long flightId,
+            @Param("flightNumber") String flightNumber,
+            @Param("origin") String origin,
+            @Param("destination") String destination,
+            @Param("departureTime") LocalDateTime departureTime);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :status, b.updatedAt = :now " +
+            "WHERE b.id = :id AND b.status = :expected")
+    int updateStatus(@Param("id") Long id,
+            @Param("expected") BookingStatus expected,
+            @Param("status") BookingStatus status,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,24 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.BookingStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Value
+public class BookingView {
+
+    Long id;
+    String reference;
+    String userEmail;
+    Long flightId;
+    String flightNumber;
+    String origin;
+    String destination;
+    LocalDateTime departureTime;
+    int seats;
+    BigDecimal totalPrice;
+    BookingStatus status;
+    LocalDateTime createdAt;
+}
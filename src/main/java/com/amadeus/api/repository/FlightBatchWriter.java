@@ -0,0 +1,41 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.Flight;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FlightBatchWriter {
+
+    private static final String INSERT_FLIGHT = "INSERT INTO flights (flight_number, airline, origin, destination, "
+            + "departure_time, arrival_time, duration, duration_minutes, price, aircraft_type, available_seats, "
+            + "cabin_class, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Flight> flights) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(INSERT_FLIGHT, flights, flights.size(), (statement, flight) -> {
+            statement.setString(1, flight.getFlightNumber());
+            statement.setString(2, flight.getAirline());
+            statement.setString(3, flight.getOrigin());
+            statement.setString(4, flight.getDestination());
+            statement.setObject(5, flight.getDepartureTime());
+            statement.setObject(6, flight.getArrivalTime());
+            statement.setString(7, flight.getDuration());
+            statement.setInt(8, flight.getDurationMinutes());
+            statement.setBigDecimal(9, flight.getPrice());
+            statement.setString(10, flight.getAircraftType());
+            statement.setInt(11, flight.getAvailableSeats());
+            statement.setString(12, flight.getCabinClass());
+            statement.setBoolean(13, flight.isActive());
+            statement.setObject(14, now);
+            statement.setObject(15, now);
+        });
+    }
+}
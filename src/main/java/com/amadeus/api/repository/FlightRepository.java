@@ -1,29 +1,104 @@
 package com.amadeus.api.repository;
 
+import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.entity.Flight;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 import java.time.LocalDateTime;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @Repository
-public interface FlightRepository extends JpaRepository<Flight, Long> {
+public interface FlightRepository extends JpaRepository<Flight, Long>, FlightSearchRepository {
 
         @Query("SELECT f FROM Flight f WHERE f.origin = :origin " +
                         "AND f.destination = :destination " +
                         "AND f.departureTime >= :departureDate " +
                         "AND f.departureTime < :nextDay " +
                         "AND f.active = true " +
-                        "AND f.availableSeats > 0 " +
+                        "AND f.availableSeats >= :seats " +
                         "ORDER BY f.departureTime")
         List<Flight> findAvailableFlights(@Param("origin") String origin,
                         @Param("destination") String destination,
                         @Param("departureDate") LocalDateTime departureDate,
-                        @Param("nextDay") LocalDateTime nextDay);
+                        @Param("nextDay") LocalDateTime nextDay,
+                        @Param("seats") int seats);
+
+        @Transactional(readOnly = true)
+        @Query("SELECT new com.amadeus.api.dto.response.FlightDto(f.flightNumber, f.airline, f.origin, " +
+                        "f.destination, f.departureTime, f.arrivalTime, f.duration, f.price, f.aircraftType, " +
+                        "f.availableSeats, f.cabinClass) FROM Flight f WHERE f.origin = :origin " +
+                        "AND f.destination = :destination " +
+                        "AND f.departureTime >= :departureDate " +
+                        "AND f.departureTime < :nextDay " +
+                        "AND f.active = true " +
+                        "AND f.availableSeats >= :seats " +
+                        "ORDER BY f.departureTime")
+        List<FlightDto> findAvailableFlightDtos(@Param("origin") String origin,
+                        @Param("destination") String destination,
+                        @Param("departureDate") LocalDateTime departureDate,
+                        @Param("nextDay") LocalDateTime nextDay,
+                        @Param("seats") int seats);
+
+        @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "200"))
+        @Query("SELECT new com.amadeus.api.dto.response.FlightDto(f.flightNumber, f.airline, f.origin, " +
+                        "f.destination, f.departureTime, f.arrivalTime, f.duration, f.price, f.aircraftType, " +
+                        "f.availableSeats, f.cabinClass) FROM Flight f WHERE f.origin = :origin " +
+                        "AND f.destination = :destination " +
+                        "AND f.departureTime >= :departureDate " +
+                        "AND f.departureTime < :nextDay " +
+                        "AND f.active = true " +
+                        "AND f.availableSeats >= :seats " +
+                        "ORDER BY f.departureTime")
+        Stream<FlightDto> streamAvailableFlightDtos(@Param("origin") String origin,
+                        @Param("destination") String destination,
+                        @Param("departureDate") LocalDateTime departureDate,
+                        @Param("nextDay") LocalDateTime nextDay,
+                        @Param("seats") int seats);
+
+        @Transactional(readOnly = true)
+        @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+        @Query("SELECT f FROM Flight f WHERE f.origin = :origin " +
+                        "AND f.destination <> :destination " +
+                        "AND f.departureTime >= :from " +
+                        "AND f.departureTime < :to " +
+                        "AND f.active = true " +
+                        "AND f.availableSeats >= :seats " +
+                        "ORDER BY f.departureTime")
+        List<Flight> findAvailableDepartures(@Param("origin") String origin,
+                        @Param("destination") String excludedDestination,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to,
+                        @Param("seats") int seats);
+
+        @Transactional(readOnly = true)
+        @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+        @Query("SELECT f FROM Flight f WHERE f.destination = :destination " +
+                        "AND f.origin <> :origin " +
+                        "AND f.departureTime >= :from " +
+                        "AND f.departureTime < :to " +
+                        "AND f.active = true " +
+                        "AND f.availableSeats >= :seats " +
+                        "ORDER BY f.departureTime")
+        List<Flight> findAvailableArrivals(@Param("destination") String destination,
+                        @Param("origin") String excludedOrigin,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to,
+                        @Param("seats") int seats);
 
         @Query("SELECT f FROM Flight f WHERE f.origin = :origin " +
                         "AND f.destination = :destination " +
@@ -38,8 +113,53 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
 
         List<Flight> findByOriginAndDestinationAndActiveTrue(String origin, String destination);
 
+        List<Flight> findByActiveTrue();
+
         boolean existsByFlightNumberAndDepartureTime(String flightNumber, LocalDateTime departureTime);
 
+        @Query("SELECT CASE WHEN EXISTS (SELECT b.id FROM Booking b WHERE b.flightId = :flightId) " +
+                        "OR EXISTS (SELECT h.id FROM SeatHold h WHERE h.flightId = :flightId) " +
+                        "THEN true ELSE false END FROM Flight f WHERE f.id = :flightId")
+        boolean hasBookingsOrHolds(@Param("flightId") Long flightId);
+
+        @Query("SELECT new com.amadeus.api.repository.FlightScheduleKey(f.flightNumber, f.departureTime) " +
+                        "FROM Flight f WHERE f.flightNumber IN :flightNumbers " +
+                        "AND f.departureTime >= :from " +
+                        "AND f.departureTime <= :to")
+        List<FlightScheduleKey> findScheduleKeys(@Param("flightNumbers") Collection<String> flightNumbers,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+
+        @Query("SELECT f FROM Flight f WHERE f.flightNumber IN :flightNumbers " +
+                        "AND f.departureTime >= :from " +
+                        "AND f.departureTime <= :to")
+        List<Flight> findScheduledFlights(@Param("flightNumbers") Collection<String> flightNumbers,
+                        @Param("from") LocalDateTime from,
+                        @Param("to") LocalDateTime to);
+
+        @Modifying
+        @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats - :seats, f.updatedAt = :now " +
+                        "WHERE f.id = :id " +
+                        "AND f.active = true " +
+                        "AND f.departureTime > :now " +
+                        "AND f.availableSeats >= :seats")
+        int decrementAvailableSeats(@Param("id") Long id,
+                        @Param("seats") int seats,
+                        @Param("now") LocalDateTime now);
+
+        @Modifying
+        @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats + :seats, f.updatedAt = :now " +
+                        "WHERE f.id = :id " +
+                        "AND f.departureTime > :now")
+        int incrementAvailableSeats(@Param("id") Long id,
+                        @Param("seats") int seats,
+                        @Param("now") LocalDateTime now);
+
+        @Query("SELECT new com.amadeus.api.repository.FlightSeatView(f.id, f.flightNumber, f.origin, " +
+                        "f.destination, f.departureTime, f.price, f.availableSeats, f.active) " +
+                        "FROM Flight f WHERE f.id = :id")
+        Optional<FlightSeatView> findSeatView(@Param("id") Long id);
+
         @Query("SELECT DISTINCT f.origin FROM Flight f WHERE f.active = true ORDER BY f.origin")
         List<String> findDistinctOrigins();
 
@@ -52,8 +172,11 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
                         "ORDER BY 1")
         List<String> findDistinctLocations();
 
-        @Query("SELECT f FROM Flight f WHERE f.departureTime >= :startDate AND f.active = true ORDER BY f.departureTime")
-        List<Flight> findUpcomingFlights(@Param("startDate") LocalDateTime startDate, Pageable pageable);
+        @Query("SELECT new com.amadeus.api.dto.response.FlightDto(f.flightNumber, f.airline, f.origin, " +
+                        "f.destination, f.departureTime, f.arrivalTime, f.duration, f.price, f.aircraftType, " +
+                        "f.availableSeats, f.cabinClass) FROM Flight f " +
+                        "WHERE f.departureTime >= :startDate AND f.active = true ORDER BY f.departureTime")
+        List<FlightDto> findUpcomingFlightDtos(@Param("startDate") LocalDateTime startDate, Pageable pageable);
 
         @Query("SELECT f FROM Flight f WHERE " +
                         "(LOWER(f.flightNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
@@ -64,4 +187,16 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
                         "LOWER(f.cabinClass) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
                         "ORDER BY f.departureTime DESC")
         Page<Flight> searchFlightsByMultipleFields(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+        @Query("SELECT f FROM Flight f WHERE " +
+                        "(LOWER(f.flightNumber) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(f.airline) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(f.origin) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(f.destination) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(f.aircraftType) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+                        "LOWER(f.cabinClass) LIKE LOWER(CONCAT('%', :searchTerm, '%'))) " +
+                        "ORDER BY f.departureTime DESC")
+        Slice<Flight> searchFlightsByMultipleFieldsSlice(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+        Slice<Flight> findAllBy(Pageable pageable);
 }
@@ -0,0 +1,18 @@
+package com.amadeus.api.repository;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder(toBuilder = true)
+public class FlightRepriceCriteria {
+
+    String origin;
+    String destination;
+    String airline;
+    String cabinClass;
+    LocalDateTime departureFrom;
+    LocalDateTime departureTo;
+}
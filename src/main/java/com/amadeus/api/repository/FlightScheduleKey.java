@@ -0,0 +1,12 @@
+package com.amadeus.api.repository;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+public class FlightScheduleKey {
+
+    String flightNumber;
+    LocalDateTime departureTime;
+}
@@ -0,0 +1,37 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminSortKey;
+import com.amadeus.api.search.FlightSearchCriteria;
+import com.amadeus.api.search.RouteDayKey;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface FlightSearchRepository {
+
+    @Transactional(readOnly = true)
+    List<Flight> searchAvailableFlights(FlightSearchCriteria criteria);
+
+    @Transactional(readOnly = true)
+    List<FlightDto> findBookableFlightDtos(Collection<RouteDayKey> routeDays);
+
+    @Transactional(readOnly = true)
+    List<Flight> findAdminFlights(AdminSortKey sortKey, boolean descending, AdminFlightCursor after, int limit);
+
+    @Transactional(readOnly = true)
+    List<Flight> findRepriceCandidates(FlightRepriceCriteria criteria, Long afterId, int limit);
+
+    @Transactional
+    int repriceFlights(Collection<Long> ids, PriceRule rule, LocalDateTime updatedAt);
+
+    @Transactional(readOnly = true)
+    long estimateFlightCount();
+
+    @Transactional(readOnly = true)
+    long estimateFlightSearchCount(String searchTerm);
+}
@@ -0,0 +1,265 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminSortKey;
+import com.amadeus.api.search.FlightSearchCriteria;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.RouteDayKey;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public class FlightSearchRepositoryImpl implements FlightSearchRepository {
+
+    private static final String MULTI_FIELD_MATCH = "lower(flight_number) LIKE :pattern "
+            + "OR lower(airline) LIKE :pattern "
+            + "OR lower(origin) LIKE :pattern "
+            + "OR lower(destination) LIKE :pattern "
+            + "OR lower(aircraft_type) LIKE :pattern "
+            + "OR lower(cabin_class) LIKE :pattern";
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Flight> searchAvailableFlights(FlightSearchCriteria criteria) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT f FROM Flight f WHERE f.origin = :origin "
+                + "AND f.destination = :destination "
+                + "AND f.departureTime >= :departureFrom "
+                + "AND f.departureTime < :departureTo "
+                + "AND f.active = true "
+                + "AND f.availableSeats >= :seats");
+        parameters.put("origin", criteria.getOrigin());
+        parameters.put("destination", criteria.getDestination());
+        parameters.put("departureFrom", criteria.getDepartureFrom());
+        parameters.put("departureTo", criteria.getDepartureTo());
+        parameters.put("seats", criteria.getSeats());
+
+        if (!criteria.getAirlines().isEmpty()) {
+            jpql.append(" AND f.airline IN :airlines");
+            parameters.put("airlines", criteria.getAirlines());
+        }
+        if (criteria.getMinPrice() != null) {
+            jpql.append(" AND f.price >= :minPrice");
+            parameters.put("minPrice", criteria.getMinPrice());
+        }
+        if (criteria.getMaxPrice() != null) {
+            jpql.append(" AND f.price <= :maxPrice");
+            parameters.put("maxPrice", criteria.getMaxPrice());
+        }
+        if (criteria.getMaxDurationMinutes() != null) {
+            jpql.append(" AND f.durationMinutes <= :maxDurationMinutes");
+            parameters.put("maxDurationMinutes", criteria.getMaxDurationMinutes());
+        }
+
+        FlightSortKey sortKey = criteria.getSortKey();
+        String sortExpression = sortKey.expression();
+        if (criteria.getAfter() != null) {
+            jpql.append(" AND (").append(sortExpression).append(criteria.isDescending() ? " < " : " > ")
+                    .append(":sortValue OR (").append(sortExpression).append(" = :sortValue AND f.id > :lastId))");
+            parameters.put("sortValue", criteria.getAfter().getSortValue());
+            parameters.put("lastId", criteria.getAfter().getId());
+        }
+        jpql.append(" ORDER BY ").append(sortExpression).append(criteria.isDescending() ? " DESC" : " ASC")
+                .append(", f.id ASC");
+
+        TypedQuery<Flight> query = entityManager.createQuery(jpql.toString(), Flight.class)
+                .setHint(HINT_READ_ONLY, true);
+        parameters.forEach(query::setParameter);
+        if (criteria.getLimit() != null) {
+            query.setMaxResults(criteria.getLimit());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<FlightDto> findBookableFlightDtos(Collection<RouteDayKey> routeDays) {
+        if (routeDays.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT new com.amadeus.api.dto.response.FlightDto(f.flightNumber, "
+                + "f.airline, f.origin, f.destination, f.departureTime, f.arrivalTime, f.duration, f.price, "
+                + "f.aircraftType, f.availableSeats, f.cabinClass) FROM Flight f "
+                + "WHERE f.active = true AND f.availableSeats >= 1 AND (");
+        int index = 0;
+        for (RouteDayKey routeDay : routeDays) {
+            if (index > 0) {
+                jpql.append(" OR ");
+            }
+            jpql.append("(f.origin = :origin").append(index)
+                    .append(" AND f.destination = :destination").append(index)
+                    .append(" AND f.departureTime >= :from").append(index)
+                    .append(" AND f.departureTime < :to").append(index).append(")");
+            parameters.put("origin" + index, routeDay.getOrigin());
+            parameters.put("destination" + index, routeDay.getDestination());
+            parameters.put("from" + index, routeDay.getDay().atStartOfDay());
+            parameters.put("to" + index, routeDay.getDay().plusDays(1).atStartOfDay());
+            index++;
+        }
+        jpql.append(") ORDER BY f.departureTime");
+
+        TypedQuery<FlightDto> query = entityManager.createQuery(jpql.toString(), FlightDto.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Flight> findAdminFlights(AdminSortKey sortKey, boolean descending, AdminFlightCursor after,
+            int limit) {
+        String sortExpression = sortKey.expression();
+        String direction = descending ? " DESC" : " ASC";
+        StringBuilder jpql = new StringBuilder("SELECT f FROM Flight f");
+        if (after != null) {
+            String comparison = descending ? " < " : " > ";
+            jpql.append(" WHERE (").append(sortExpression).append(comparison).append(":sortValue OR (")
+                    .append(sortExpression).append(" = :sortValue AND f.id").append(comparison).append(":lastId))");
+        }
+        jpql.append(" ORDER BY ").append(sortExpression).append(direction).append(", f.id").append(direction);
+
+        TypedQuery<Flight> query = entityManager.createQuery(jpql.toString(), Flight.class)
+                .setHint(HINT_READ_ONLY, true)
+                .setMaxResults(limit);
+        if (after != null) {
+            query.setParameter("sortValue", after.getSortValue());
+            query.setParameter("lastId", after.getId());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public List<Flight> findRepriceCandidates(FlightRepriceCriteria criteria, Long afterId, int limit) {
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT f FROM Flight f WHERE f.departureTime >= :departureFrom");
+        parameters.put("departureFrom", criteria.getDepartureFrom());
+
+        if (criteria.getDepartureTo() != null) {
+            jpql.append(" AND f.departureTime < :departureTo");
+            parameters.put("departureTo", criteria.getDepartureTo());
+        }
+        if (criteria.getOrigin() != null) {
+            jpql.append(" AND f.origin = :origin");
+            parameters.put("origin", criteria.getOrigin());
+        }
+        if (criteria.getDestination() != null) {
+            jpql.append(" AND f.destination = :destination");
+            parameters.put("destination", criteria.getDestination());
+        }
+        if (criteria.getAirline() != null) {
+            jpql.append(" AND f.airline = :airline");
+            parameters.put("airline", criteria.getAirline());
+        }
+        if (criteria.getCabinClass() != null) {
+            jpql.append(" AND f.cabinClass = :cabinClass");
+            parameters.put("cabinClass", criteria.getCabinClass());
+        }
+        if (afterId != null) {
+            jpql.append(" AND f.id > :lastId");
+            parameters.put("lastId", afterId);
+        }
+        jpql.append(" ORDER BY f.id");
+
+        TypedQuery<Flight> query = entityManager.createQuery(jpql.toString(), Flight.class)
+                .setHint(HINT_READ_ONLY, true)
+                .setMaxResults(limit);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    @Override
+    public int repriceFlights(Collection<Long> ids, PriceRule rule, LocalDateTime updatedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> parameters = new HashMap<>();
+        String price = switch (rule.getAdjustment()) {
+            case SET -> {
+                parameters.put("price", rule.clamp(rule.getValue()));
+                yield ":price";
+            }
+            case AMOUNT -> {
+                parameters.put("amount", rule.getValue());
+                yield clamped("(f.price + :amount)", rule, parameters);
+            }
+            case PERCENT -> {
+                parameters.put("factor", rule.factor());
+                yield clamped("round(f.price * cast(:factor as BigDecimal(12, 6)), 2)", rule, parameters);
+            }
+        };
+        parameters.put("updatedAt", updatedAt);
+        parameters.put("ids", ids);
+
+        Query query = entityManager.createQuery("UPDATE Flight f SET f.price = " + price
+                + ", f.updatedAt = :updatedAt WHERE f.id IN :ids");
+        parameters.forEach(query::setParameter);
+        int updated = query.executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private static String clamped(String expression, PriceRule rule, Map<String, Object> parameters) {
+        StringBuilder clamped = new StringBuilder("CASE WHEN ").append(expression).append(" < :floor THEN :floor");
+        parameters.put("floor", rule.getFloor());
+        if (rule.getCeiling() != null) {
+            clamped.append(" WHEN ").append(expression).append(" > :ceiling THEN :ceiling");
+            parameters.put("ceiling", rule.getCeiling());
+        }
+        return clamped.append(" ELSE ").append(expression).append(" END").toString();
+    }
+
+    @Override
+    public long estimateFlightCount() {
+        if (isPostgres()) {
+            Number reltuples = (Number) entityManager.createNativeQuery(
+                            "SELECT reltuples FROM pg_class WHERE oid = CAST('flights' AS regclass)")
+                    .getSingleResult();
+            if (reltuples.longValue() >= 0) {
+                return reltuples.longValue();
+            }
+        }
+        return entityManager.createQuery("SELECT COUNT(f) FROM Flight f", Long.class).getSingleResult();
+    }
+
+    @Override
+    public long estimateFlightSearchCount(String searchTerm) {
+        String pattern = "%" + searchTerm.toLowerCase(Locale.ROOT) + "%";
+        if (isPostgres()) {
+            List<?> plan = entityManager.createNativeQuery("EXPLAIN SELECT 1 FROM flights WHERE " + MULTI_FIELD_MATCH)
+                    .setParameter("pattern", pattern)
+                    .getResultList();
+            Matcher rows = PLAN_ROWS.matcher(String.valueOf(plan.get(0)));
+            if (rows.find()) {
+                return Long.parseLong(rows.group(1));
+            }
+        }
+        return ((Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM flights WHERE " + MULTI_FIELD_MATCH)
+                .setParameter("pattern", pattern)
+                .getSingleResult()).longValue();
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+}
@@ -0,0 +1,26 @@
+package com.amadeus.api.repository;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Value
+public class FlightSeatView {
+
+    Long id;
+    String flightNumber;
+    String origin;
+    String destination;
+    LocalDateTime departureTime;
+    BigDecimal price;
+    int availableSeats;
+    boolean active;
+
+    public String unavailableReason(int seats, LocalDateTime now) {
+        if (!active || !departureTime.isAfter(now)) {
+            return "Flight " + flightNumber + " is not open for booking";
+        }
+        return "Only " + availableSeats + " seats left on flight " + flightNumber + ", requested " + seats;
+    }
+}
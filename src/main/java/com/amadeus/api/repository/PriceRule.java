@@ -0,0 +1,44 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.dto.request.PriceAdjustment;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+@Value
+public class PriceRule {
+
+    public static final BigDecimal MINIMUM_PRICE = new BigDecimal("0.01");
+
+    PriceAdjustment adjustment;
+    BigDecimal value;
+    BigDecimal floor;
+    BigDecimal ceiling;
+
+    public PriceRule(PriceAdjustment adjustment, BigDecimal value, BigDecimal floor, BigDecimal ceiling) {
+        if (adjustment == PriceAdjustment.PERCENT && value.compareTo(BigDecimal.valueOf(-100)) <= 0) {
+            throw new IllegalArgumentException("Percent adjustment must be greater than -100");
+        }
+        if (floor != null && ceiling != null && floor.compareTo(ceiling) > 0) {
+            throw new IllegalArgumentException("Floor price cannot be greater than ceiling price");
+        }
+        this.adjustment = adjustment;
+        this.value = value;
+        this.floor = floor == null ? MINIMUM_PRICE : floor.max(MINIMUM_PRICE);
+        this.ceiling = ceiling;
+    }
+
+    public BigDecimal factor() {
+        return BigDecimal.ONE.add(value.movePointLeft(2));
+    }
+
+    public BigDecimal clamp(BigDecimal price) {
+        if (price.compareTo(floor) < 0) {
+            return floor;
+        }
+        if (ceiling != null && price.compareTo(ceiling) > 0) {
+            return ceiling;
+        }
+        return price;
+    }
+}
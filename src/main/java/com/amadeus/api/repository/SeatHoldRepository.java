@@ -0,0 +1,21 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.SeatHold;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SeatHoldRepository extends JpaRepository<SeatHold, String> {
+
+    @Query("SELECT new com.amadeus.api.repository.SeatHoldExpiry(h.id, h.expiresAt) FROM SeatHold h")
+    List<SeatHoldExpiry> findAllExpiries();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM SeatHold h WHERE h.id = :id")
+    int deleteHold(@Param("id") String id);
+}
@@ -0,0 +1,35 @@
+package com.amadeus.api.repository;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+@Value
+public class TripCursor {
+
+    private static final String SEPARATOR = "|";
+
+    LocalDateTime departureTime;
+    Long id;
+
+    public static TripCursor after(TripView trip) {
+        return new TripCursor(trip.getDepartureTime(), trip.getId());
+    }
+
+    public static TripCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 2);
+            return new TripCursor(LocalDateTime.parse(parts[1]), Long.valueOf(parts[0]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid trip cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = id + SEPARATOR + departureTime;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,22 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.BookingStatus;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Value
+public class TripView {
+
+    Long id;
+    String reference;
+    Long flightId;
+    String flightNumber;
+    String origin;
+    String destination;
+    LocalDateTime departureTime;
+    int seats;
+    BigDecimal totalPrice;
+    BookingStatus status;
+}
@@ -2,6 +2,8 @@ package com.amadeus.api.repository;
 
 import com.amadeus.api.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -14,4 +16,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     
     Optional<User> findByEmailAndEnabledTrue(String email);
+
+    @Query("SELECT u.id FROM User u WHERE u.email = :email AND u.enabled = true")
+    Optional<Long> findEnabledIdByEmail(@Param("email") String email);
 }
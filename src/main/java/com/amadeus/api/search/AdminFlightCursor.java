@@ -0,0 +1,41 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Value
+public class AdminFlightCursor {
+
+    private static final String SEPARATOR = "|";
+
+    AdminSortKey sortKey;
+    boolean descending;
+    Comparable<?> sortValue;
+    Long id;
+
+    public static AdminFlightCursor after(AdminSortKey sortKey, boolean descending, Flight flight) {
+        return new AdminFlightCursor(sortKey, descending, sortKey.valueOf(flight), flight.getId());
+    }
+
+    public static AdminFlightCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4);
+            AdminSortKey sortKey = AdminSortKey.valueOf(parts[0]);
+            return new AdminFlightCursor(sortKey, "desc".equals(parts[1]), sortKey.parse(parts[3]),
+                    Long.valueOf(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid admin flight cursor", e);
+        }
+    }
+
+    public String encode() {
+        String value = sortValue instanceof BigDecimal decimal ? decimal.toPlainString() : sortValue.toString();
+        String raw = sortKey.name() + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
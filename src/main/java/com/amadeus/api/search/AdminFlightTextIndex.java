@@ -0,0 +1,284 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+// Trigram inverted index over the admin-searchable flight fields; shorter terms scan the documents.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdminFlightTextIndex {
+
+    static final int GRAM = 3;
+
+    private static final Comparator<Match> RANKING = Comparator
+            .comparingInt(Match::getScore).reversed()
+            .thenComparing(match -> match.getDocument().getFlight().getDepartureTime(), Comparator.reverseOrder())
+            .thenComparing(match -> match.getDocument().getId());
+
+    private static final Map<String, Function<FlightSnapshot, Comparable<?>>> SORTABLE = Map.of(
+            "departureTime", FlightSnapshot::getDepartureTime,
+            "arrivalTime", FlightSnapshot::getArrivalTime,
+            "price", FlightSnapshot::getPrice,
+            "durationMinutes", FlightSnapshot::durationMinutes,
+            "availableSeats", FlightSnapshot::getAvailableSeats,
+            "flightNumber", FlightSnapshot::getFlightNumber,
+            "airline", FlightSnapshot::getAirline,
+            "origin", FlightSnapshot::getOrigin,
+            "destination", FlightSnapshot::getDestination);
+
+    private final FlightRepository flightRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private volatile Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    // Holds writeLock across the read so flight and seat events wait for the new maps instead of being lost.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<Flight> flights = flightRepository.findAll();
+
+            Map<Long, Document> newDocuments = new ConcurrentHashMap<>();
+            Map<String, Set<Long>> newPostings = new ConcurrentHashMap<>();
+            flights.forEach(flight -> add(Document.of(FlightSnapshot.from(flight)), newDocuments, newPostings));
+
+            documents = newDocuments;
+            postings = newPostings;
+            ready = true;
+            log.info("Admin flight text index loaded: {} flights, {} trigrams", newDocuments.size(),
+                    newPostings.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    // Fields outside SORTABLE (e.g. createdAt) are not kept in the index; callers sort those in the database.
+    public boolean canSort(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE.containsKey(order.getProperty()));
+    }
+
+    public Page<Long> search(String searchTerm, Pageable pageable) {
+        String needle = searchTerm.trim().toLowerCase(Locale.ROOT);
+        Comparator<Match> order = ordering(pageable.getSort());
+
+        List<Match> matches = new ArrayList<>();
+        for (Long id : needle.length() < GRAM ? documents.keySet() : candidates(needle)) {
+            Document document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            int score = document.score(needle);
+            if (score > 0) {
+                matches.add(new Match(document, score));
+            }
+        }
+        matches.sort(order);
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<Long> ids = matches.subList(from, to).stream()
+                .map(match -> match.getDocument().getId())
+                .toList();
+        return new PageImpl<>(ids, pageable, matches.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparator<Match> ordering(Sort sort) {
+        if (sort.isUnsorted()) {
+            return RANKING;
+        }
+        Comparator<Match> order = null;
+        for (Sort.Order sortOrder : sort) {
+            Function<FlightSnapshot, Comparable<?>> extractor = SORTABLE.get(sortOrder.getProperty());
+            if (extractor == null) {
+                throw new IllegalArgumentException("Unsupported sort field for flight search: "
+                        + sortOrder.getProperty());
+            }
+            Comparator<Match> byProperty = Comparator.comparing(
+                    match -> (Comparable<Object>) extractor.apply(match.getDocument().getFlight()),
+                    Comparator.nullsLast(Comparator.naturalOrder()));
+            if (sortOrder.isDescending()) {
+                byProperty = byProperty.reversed();
+            }
+            order = order == null ? byProperty : order.thenComparing(byProperty);
+        }
+        return order.thenComparing(RANKING);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        if (event.getCurrent() == null) {
+            remove(event.getFlightId());
+        } else {
+            upsert(event.getCurrent());
+        }
+    }
+
+    @EventListener
+    public void onFlightsImported(FlightsImportedEvent event) {
+        event.getFlights().forEach(this::upsert);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        updateSeats(event.getFlightId(), event.getRemainingSeats());
+    }
+
+    public void upsert(FlightSnapshot flight) {
+        synchronized (writeLock) {
+            removeDocument(documents.get(flight.getId()));
+            add(Document.of(flight), documents, postings);
+        }
+    }
+
+    public void updateSeats(Long flightId, int availableSeats) {
+        synchronized (writeLock) {
+            Document existing = documents.get(flightId);
+            if (existing != null) {
+                FlightSnapshot flight = existing.getFlight();
+                documents.put(flightId, Document.of(flight.toBuilder()
+                        .availableSeats(availableSeats)
+                        .build()));
+            }
+        }
+    }
+
+    public void remove(Long flightId) {
+        synchronized (writeLock) {
+            removeDocument(documents.get(flightId));
+        }
+    }
+
+    private Collection<Long> candidates(String needle) {
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : grams(needle)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return List.of();
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    private static void add(Document document, Map<Long, Document> documents, Map<String, Set<Long>> postings) {
+        documents.put(document.getId(), document);
+        for (String gram : document.grams()) {
+            postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(document.getId());
+        }
+    }
+
+    private void removeDocument(Document document) {
+        if (document == null) {
+            return;
+        }
+        documents.remove(document.getId());
+        for (String gram : document.grams()) {
+            postings.computeIfPresent(gram, (key, ids) -> {
+                ids.remove(document.getId());
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    @Value
+    private static class Document {
+
+        private static final int[] FIELD_WEIGHTS = {6, 3, 4, 4, 2, 1};
+
+        Long id;
+        FlightSnapshot flight;
+        String[] fields;
+
+        static Document of(FlightSnapshot flight) {
+            return new Document(flight.getId(), flight, new String[] {
+                    normalize(flight.getFlightNumber()),
+                    normalize(flight.getAirline()),
+                    normalize(flight.getOrigin()),
+                    normalize(flight.getDestination()),
+                    normalize(flight.getAircraftType()),
+                    normalize(flight.getCabinClass())
+            });
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String field : fields) {
+                grams.addAll(AdminFlightTextIndex.grams(field));
+            }
+            return grams;
+        }
+
+        int score(String needle) {
+            int score = 0;
+            for (int i = 0; i < fields.length; i++) {
+                String field = fields[i];
+                if (field.equals(needle)) {
+                    score += FIELD_WEIGHTS[i] * 4;
+                } else if (field.startsWith(needle)) {
+                    score += FIELD_WEIGHTS[i] * 2;
+                } else if (field.contains(needle)) {
+                    score += FIELD_WEIGHTS[i];
+                }
+            }
+            return score;
+        }
+
+        private static String normalize(String value) {
+            return value == null ? "" : value.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Value
+    private static class Match {
+        Document document;
+        int score;
+    }
+}
@@ -0,0 +1,59 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+public enum AdminSortKey {
+
+    DEPARTURE_TIME("departureTime", Flight::getDepartureTime, LocalDateTime::parse),
+    ARRIVAL_TIME("arrivalTime", Flight::getArrivalTime, LocalDateTime::parse),
+    PRICE("price", Flight::getPrice, BigDecimal::new),
+    DURATION_MINUTES("durationMinutes", Flight::getDurationMinutes, Integer::valueOf),
+    FLIGHT_NUMBER("flightNumber", Flight::getFlightNumber, Function.identity()),
+    AIRLINE("airline", Flight::getAirline, Function.identity()),
+    ORIGIN("origin", Flight::getOrigin, Function.identity()),
+    DESTINATION("destination", Flight::getDestination, Function.identity()),
+    CREATED_AT("createdAt", Flight::getCreatedAt, LocalDateTime::parse);
+
+    private final String property;
+    private final Function<Flight, ? extends Comparable<?>> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    AdminSortKey(String property, Function<Flight, ? extends Comparable<?>> extractor,
+            Function<String, ? extends Comparable<?>> parser) {
+        this.property = property;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static AdminSortKey from(String property) {
+        if (property == null || property.isBlank()) {
+            return DEPARTURE_TIME;
+        }
+        for (AdminSortKey sortKey : values()) {
+            if (sortKey.property.equals(property.trim())) {
+                return sortKey;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort field: " + property);
+    }
+
+    public String property() {
+        return property;
+    }
+
+    public String expression() {
+        return "f." + property;
+    }
+
+    public Comparable<?> valueOf(Flight flight) {
+        return extractor.apply(flight);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,141 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConnectionSearch {
+
+    private static final Comparator<Itinerary> RANKING = Comparator
+            .comparing(Itinerary::getScore)
+            .thenComparing(Itinerary::getDepartureTime);
+
+    private final FlightSearchIndex flightSearchIndex;
+    private final FlightRepository flightRepository;
+    private final FlightSearchProperties searchProperties;
+
+    public List<Itinerary> findOneStopItineraries(String origin, String destination, LocalDate date, int seats,
+            boolean useIndex) {
+        FlightSearchProperties.Connections settings = searchProperties.getConnections();
+        long deadline = System.nanoTime() + settings.getTimeBudget().toNanos();
+        LocalDate lastSecondLegDay = date.plusDays(2 + settings.getMaxConnectionTime().toDays());
+
+        Map<String, List<FlightSnapshot>> firstLegsByHub = new HashMap<>();
+        Map<String, List<FlightSnapshot>> secondLegsByHub = new HashMap<>();
+        if (useIndex) {
+            loadLegsFromIndex(origin, destination, date, lastSecondLegDay, seats, firstLegsByHub, secondLegsByHub);
+        } else {
+            loadLegsFromDatabase(origin, destination, date, lastSecondLegDay, seats, firstLegsByHub,
+                    secondLegsByHub);
+        }
+
+        PriorityQueue<Itinerary> best = new PriorityQueue<>(RANKING.reversed());
+        int combinations = 0;
+
+        hubs:
+        for (Map.Entry<String, List<FlightSnapshot>> entry : firstLegsByHub.entrySet()) {
+            List<FlightSnapshot> secondLegs = secondLegsByHub.getOrDefault(entry.getKey(), List.of());
+            if (secondLegs.isEmpty()) {
+                continue;
+            }
+
+            for (FlightSnapshot firstLeg : entry.getValue()) {
+                if (System.nanoTime() > deadline) {
+                    log.warn("Connection search {} -> {} on {} hit its time budget after {} combinations",
+                            origin, destination, date, combinations);
+                    break hubs;
+                }
+
+                LocalDateTime earliest = firstLeg.getArrivalTime().plus(settings.getMinConnectionTime());
+                LocalDateTime latest = firstLeg.getArrivalTime().plus(settings.getMaxConnectionTime());
+                for (int i = firstDepartingAtOrAfter(secondLegs, earliest); i < secondLegs.size(); i++) {
+                    FlightSnapshot secondLeg = secondLegs.get(i);
+                    if (secondLeg.getDepartureTime().isAfter(latest)) {
+                        break;
+                    }
+                    combinations++;
+                    offer(best, Itinerary.of(List.of(firstLeg, secondLeg), settings.getPricePerMinute()),
+                            settings.getMaxResults());
+                }
+            }
+        }
+
+        List<Itinerary> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        log.debug("Connection search {} -> {} on {} scored {} combinations across {} hubs",
+                origin, destination, date, combinations, firstLegsByHub.size());
+        return ranked;
+    }
+
+    private void loadLegsFromIndex(String origin, String destination, LocalDate date, LocalDate lastSecondLegDay,
+            int seats, Map<String, List<FlightSnapshot>> firstLegsByHub,
+            Map<String, List<FlightSnapshot>> secondLegsByHub) {
+        for (String hub : flightSearchIndex.routeGraph().hubsBetween(origin, destination)) {
+            List<FlightSnapshot> firstLegs = flightSearchIndex.findAvailableFlights(origin, hub, date, seats);
+            if (firstLegs.isEmpty()) {
+                continue;
+            }
+
+            List<FlightSnapshot> secondLegs = new ArrayList<>();
+            for (LocalDate day = date; !day.isAfter(lastSecondLegDay); day = day.plusDays(1)) {
+                secondLegs.addAll(flightSearchIndex.findAvailableFlights(hub, destination, day, seats));
+            }
+            firstLegsByHub.put(hub, firstLegs);
+            secondLegsByHub.put(hub, secondLegs);
+        }
+    }
+
+    private void loadLegsFromDatabase(String origin, String destination, LocalDate date, LocalDate lastSecondLegDay,
+            int seats, Map<String, List<FlightSnapshot>> firstLegsByHub,
+            Map<String, List<FlightSnapshot>> secondLegsByHub) {
+        LocalDateTime startOfDay = date.atStartOfDay();
+
+        firstLegsByHub.putAll(flightRepository.findAvailableDepartures(
+                        origin, destination, startOfDay, startOfDay.plusDays(1), seats).stream()
+                .map(FlightSnapshot::from)
+                .collect(Collectors.groupingBy(FlightSnapshot::getDestination)));
+
+        secondLegsByHub.putAll(flightRepository.findAvailableArrivals(
+                        destination, origin, startOfDay, lastSecondLegDay.plusDays(1).atStartOfDay(), seats).stream()
+                .map(FlightSnapshot::from)
+                .collect(Collectors.groupingBy(FlightSnapshot::getOrigin)));
+    }
+
+    private int firstDepartingAtOrAfter(List<FlightSnapshot> flights, LocalDateTime time) {
+        int low = 0;
+        int high = flights.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (flights.get(mid).getDepartureTime().isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void offer(PriorityQueue<Itinerary> best, Itinerary itinerary, int maxResults) {
+        if (best.size() < maxResults) {
+            best.add(itinerary);
+        } else if (RANKING.compare(itinerary, best.peek()) < 0) {
+            best.poll();
+            best.add(itinerary);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FareCalendar {
+
+    private final FlightRepository flightRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Map<RouteDayKey, DayFares> fares = new ConcurrentHashMap<>();
+
+    // Holds writeLock across the read so flight and seat events wait for the new map instead of being lost.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<Flight> flights = flightRepository.findByActiveTrue();
+
+            Map<RouteDayKey, DayFares> newFares = new ConcurrentHashMap<>();
+            for (Flight flight : flights) {
+                FlightSnapshot snapshot = FlightSnapshot.from(flight);
+                if (snapshot.hasAvailableSeats()) {
+                    newFares.computeIfAbsent(snapshot.routeDayKey(), key -> new DayFares())
+                            .put(snapshot.getId(), snapshot.getPrice());
+                }
+            }
+
+            fares = newFares;
+            log.info("Fare calendar loaded: {} route/day aggregates", newFares.size());
+        }
+    }
+
+    public Map<LocalDate, BigDecimal> lowestFares(String origin, String destination, YearMonth month) {
+        Map<LocalDate, BigDecimal> days = new LinkedHashMap<>();
+        for (int dayOfMonth = 1; dayOfMonth <= month.lengthOfMonth(); dayOfMonth++) {
+            LocalDate day = month.atDay(dayOfMonth);
+            DayFares dayFares = fares.get(new RouteDayKey(origin, destination, day));
+            days.put(day, dayFares == null ? null : dayFares.lowest());
+        }
+        return days;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        synchronized (writeLock) {
+            FlightSnapshot previous = event.getPrevious();
+            if (previous != null) {
+                remove(previous.routeDayKey(), previous.getId());
+            }
+
+            FlightSnapshot current = event.getCurrent();
+            if (current != null && current.isActive() && current.hasAvailableSeats()) {
+                put(current.routeDayKey(), current.getId(), current.getPrice());
+            }
+        }
+    }
+
+    @EventListener
+    public void onFlightsImported(FlightsImportedEvent event) {
+        synchronized (writeLock) {
+            for (FlightSnapshot flight : event.getFlights()) {
+                if (flight.isActive() && flight.hasAvailableSeats()) {
+                    put(flight.routeDayKey(), flight.getId(), flight.getPrice());
+                }
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        synchronized (writeLock) {
+            if (event.isActive() && event.getRemainingSeats() > 0) {
+                put(event.getRouteDay(), event.getFlightId(), event.getPrice());
+            } else {
+                remove(event.getRouteDay(), event.getFlightId());
+            }
+        }
+    }
+
+    public int evictPastDays(LocalDate today) {
+        synchronized (writeLock) {
+            int before = fares.size();
+            fares.keySet().removeIf(key -> key.getDay().isBefore(today));
+            return before - fares.size();
+        }
+    }
+
+    private void put(RouteDayKey key, Long flightId, BigDecimal price) {
+        fares.compute(key, (day, dayFares) -> {
+            DayFares updated = dayFares == null ? new DayFares() : dayFares;
+            updated.put(flightId, price);
+            return updated;
+        });
+    }
+
+    private void remove(RouteDayKey key, Long flightId) {
+        fares.computeIfPresent(key, (day, dayFares) -> {
+            dayFares.remove(flightId);
+            return dayFares.isEmpty() ? null : dayFares;
+        });
+    }
+
+    private static class DayFares {
+
+        private final Map<Long, BigDecimal> pricesByFlight = new HashMap<>();
+        private volatile BigDecimal lowest;
+
+        synchronized void put(Long flightId, BigDecimal price) {
+            pricesByFlight.put(flightId, price);
+            if (lowest == null || price.compareTo(lowest) < 0) {
+                lowest = price;
+            } else {
+                recomputeLowest();
+            }
+        }
+
+        synchronized void remove(Long flightId) {
+            BigDecimal removed = pricesByFlight.remove(flightId);
+            if (removed != null && lowest != null && removed.compareTo(lowest) == 0) {
+                recomputeLowest();
+            }
+        }
+
+        synchronized boolean isEmpty() {
+            return pricesByFlight.isEmpty();
+        }
+
+        BigDecimal lowest() {
+            return lowest;
+        }
+
+        private void recomputeLowest() {
+            lowest = pricesByFlight.values().stream()
+                    .min(BigDecimal::compareTo)
+                    .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class FlightSearchCache {
+
+    private final Cache<RouteDayKey, List<FlightDto>> cache;
+    private final boolean enabled;
+
+    public FlightSearchCache(FlightSearchProperties searchProperties, MeterRegistry meterRegistry) {
+        FlightSearchProperties.Cache settings = searchProperties.getCache();
+        this.enabled = settings.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "flightSearch");
+    }
+
+    public List<FlightDto> get(RouteDayKey key, int seats, BiFunction<RouteDayKey, Integer, List<FlightDto>> loader) {
+        if (!enabled) {
+            return loader.apply(key, seats);
+        }
+        List<FlightDto> bookable = cache.get(key, routeDay -> List.copyOf(loader.apply(routeDay, 1)));
+        if (seats <= 1) {
+            return bookable;
+        }
+        return bookable.stream()
+                .filter(flight -> flight.getAvailableSeats() >= seats)
+                .toList();
+    }
+
+    public Map<RouteDayKey, List<FlightDto>> getAll(Set<RouteDayKey> keys,
+            Function<Set<RouteDayKey>, Map<RouteDayKey, List<FlightDto>>> bookableLoader) {
+        if (!enabled) {
+            return bookableLoader.apply(keys);
+        }
+        return cache.getAll(keys, missing -> bookableLoader.apply(Set.copyOf(missing)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        invalidate(event.getPrevious());
+        invalidate(event.getCurrent());
+    }
+
+    @EventListener
+    public void onFlightsImported(FlightsImportedEvent event) {
+        event.getFlights().forEach(this::invalidate);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        cache.invalidate(event.getRouteDay());
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private void invalidate(FlightSnapshot flight) {
+        if (flight == null) {
+            return;
+        }
+        RouteDayKey key = flight.routeDayKey();
+        cache.invalidate(key);
+        log.debug("Invalidated flight search cache entry {}", key);
+    }
+}
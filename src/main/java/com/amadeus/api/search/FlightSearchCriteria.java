@@ -0,0 +1,44 @@
+package com.amadeus.api.search;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Value
+@Builder(toBuilder = true)
+public class FlightSearchCriteria {
+
+    String origin;
+    String destination;
+    LocalDateTime departureFrom;
+    LocalDateTime departureTo;
+    @Builder.Default
+    int seats = 1;
+    @Builder.Default
+    Set<String> airlines = Set.of();
+    BigDecimal minPrice;
+    BigDecimal maxPrice;
+    Integer maxDurationMinutes;
+    @Builder.Default
+    FlightSortKey sortKey = FlightSortKey.DEPARTURE;
+    boolean descending;
+    SearchCursor after;
+    Integer limit;
+
+    public boolean matches(FlightSnapshot flight) {
+        return flight.getOrigin().equals(origin)
+                && flight.getDestination().equals(destination)
+                && !flight.getDepartureTime().isBefore(departureFrom)
+                && flight.getDepartureTime().isBefore(departureTo)
+                && flight.isActive()
+                && flight.hasAvailableSeats(seats)
+                && (airlines.isEmpty() || airlines.contains(flight.getAirline()))
+                && (minPrice == null || flight.getPrice().compareTo(minPrice) >= 0)
+                && (maxPrice == null || flight.getPrice().compareTo(maxPrice) <= 0)
+                && (maxDurationMinutes == null || flight.durationMinutes() <= maxDurationMinutes)
+                && (after == null || after.precedes(flight));
+    }
+}
@@ -0,0 +1,195 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlightSearchIndex {
+
+    private static final Comparator<FlightSnapshot> DEPARTURE_ORDER = Comparator
+            .comparing(FlightSnapshot::getDepartureTime)
+            .thenComparing(FlightSnapshot::getId);
+
+    private final FlightRepository flightRepository;
+
+    private final Object writeLock = new Object();
+    private volatile Map<RouteDayKey, List<FlightSnapshot>> buckets = new ConcurrentHashMap<>();
+    private volatile Map<Long, FlightSnapshot> flightsById = new ConcurrentHashMap<>();
+    private volatile RouteGraph routeGraph;
+    private volatile boolean ready;
+
+    // Holds writeLock across the read so flight and seat events wait for the new maps instead of being lost.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (writeLock) {
+            List<Flight> flights = flightRepository.findByActiveTrue();
+
+            Map<RouteDayKey, List<FlightSnapshot>> newBuckets = new ConcurrentHashMap<>();
+            Map<Long, FlightSnapshot> newFlightsById = new ConcurrentHashMap<>();
+            for (Flight flight : flights) {
+                FlightSnapshot snapshot = FlightSnapshot.from(flight);
+                newFlightsById.put(snapshot.getId(), snapshot);
+                newBuckets.computeIfAbsent(snapshot.routeDayKey(), key -> new ArrayList<>()).add(snapshot);
+            }
+            newBuckets.replaceAll((key, bucket) -> {
+                bucket.sort(DEPARTURE_ORDER);
+                return Collections.unmodifiableList(bucket);
+            });
+
+            buckets = newBuckets;
+            flightsById = newFlightsById;
+            routeGraph = null;
+            ready = true;
+            log.info("Flight search index loaded: {} flights in {} route/day buckets", newFlightsById.size(),
+                    newBuckets.size());
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return flightsById.size();
+    }
+
+    public List<FlightSnapshot> findAvailableFlights(String origin, String destination, LocalDate day, int seats) {
+        List<FlightSnapshot> bucket = buckets.get(new RouteDayKey(origin, destination, day));
+        if (bucket == null) {
+            return List.of();
+        }
+        return bucket.stream()
+                .filter(flight -> flight.hasAvailableSeats(seats))
+                .toList();
+    }
+
+    public List<FlightSnapshot> search(FlightSearchCriteria criteria) {
+        Stream<FlightSnapshot> candidates = criteria.getDepartureFrom().toLocalDate()
+                .datesUntil(criteria.getDepartureTo().toLocalDate().plusDays(1))
+                .map(day -> buckets.getOrDefault(
+                        new RouteDayKey(criteria.getOrigin(), criteria.getDestination(), day), List.of()))
+                .flatMap(List::stream)
+                .filter(criteria::matches);
+
+        if (criteria.getSortKey() != FlightSortKey.DEPARTURE || criteria.isDescending()) {
+            candidates = candidates.sorted(criteria.getSortKey().comparator(criteria.isDescending()));
+        }
+        if (criteria.getLimit() != null) {
+            candidates = candidates.limit(criteria.getLimit());
+        }
+        return candidates.toList();
+    }
+
+    public RouteGraph routeGraph() {
+        RouteGraph graph = routeGraph;
+        if (graph == null) {
+            synchronized (writeLock) {
+                if (routeGraph == null) {
+                    routeGraph = RouteGraph.of(buckets.keySet());
+                }
+                graph = routeGraph;
+            }
+        }
+        return graph;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFlightChanged(FlightChangedEvent event) {
+        FlightSnapshot current = event.getCurrent();
+        if (current == null || !current.isActive()) {
+            remove(event.getFlightId());
+        } else {
+            upsert(current);
+        }
+    }
+
+    @EventListener
+    public void onFlightsImported(FlightsImportedEvent event) {
+        event.getFlights().stream()
+                .filter(FlightSnapshot::isActive)
+                .forEach(this::upsert);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSeatsChanged(FlightSeatsChangedEvent event) {
+        updateSeats(event.getFlightId(), event.getRemainingSeats());
+    }
+
+    public void upsert(FlightSnapshot flight) {
+        synchronized (writeLock) {
+            removeFromBucket(flightsById.get(flight.getId()));
+            flightsById.put(flight.getId(), flight);
+
+            List<FlightSnapshot> bucket = new ArrayList<>(buckets.getOrDefault(flight.routeDayKey(), List.of()));
+            int position = Collections.binarySearch(bucket, flight, DEPARTURE_ORDER);
+            bucket.add(position < 0 ? -position - 1 : position, flight);
+            buckets.put(flight.routeDayKey(), Collections.unmodifiableList(bucket));
+            routeGraph = null;
+        }
+    }
+
+    public void updateSeats(Long flightId, int availableSeats) {
+        synchronized (writeLock) {
+            FlightSnapshot existing = flightsById.get(flightId);
+            if (existing != null) {
+                upsert(existing.toBuilder().availableSeats(availableSeats).build());
+            }
+        }
+    }
+
+    public void remove(Long flightId) {
+        synchronized (writeLock) {
+            removeFromBucket(flightsById.remove(flightId));
+            routeGraph = null;
+        }
+    }
+
+    public int evictPastDays(LocalDate today) {
+        synchronized (writeLock) {
+            int before = buckets.size();
+            buckets.keySet().removeIf(key -> key.getDay().isBefore(today));
+            flightsById.values().removeIf(flight -> flight.routeDayKey().getDay().isBefore(today));
+            routeGraph = null;
+            return before - buckets.size();
+        }
+    }
+
+    private void removeFromBucket(FlightSnapshot existing) {
+        if (existing == null) {
+            return;
+        }
+        RouteDayKey key = existing.routeDayKey();
+        List<FlightSnapshot> bucket = buckets.get(key);
+        if (bucket == null) {
+            return;
+        }
+        List<FlightSnapshot> remaining = bucket.stream()
+                .filter(flight -> !flight.getId().equals(existing.getId()))
+                .toList();
+        if (remaining.isEmpty()) {
+            buckets.remove(key);
+        } else {
+            buckets.put(key, remaining);
+        }
+    }
+}
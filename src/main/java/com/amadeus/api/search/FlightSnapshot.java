@@ -0,0 +1,62 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Value
+@Builder(toBuilder = true)
+public class FlightSnapshot {
+
+    Long id;
+    String flightNumber;
+    String airline;
+    String origin;
+    String destination;
+    LocalDateTime departureTime;
+    LocalDateTime arrivalTime;
+    String duration;
+    BigDecimal price;
+    String aircraftType;
+    Integer availableSeats;
+    String cabinClass;
+    boolean active;
+
+    public static FlightSnapshot from(Flight flight) {
+        return FlightSnapshot.builder()
+                .id(flight.getId())
+                .flightNumber(flight.getFlightNumber())
+                .airline(flight.getAirline())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .departureTime(flight.getDepartureTime())
+                .arrivalTime(flight.getArrivalTime())
+                .duration(flight.getDuration())
+                .price(flight.getPrice())
+                .aircraftType(flight.getAircraftType())
+                .availableSeats(flight.getAvailableSeats())
+                .cabinClass(flight.getCabinClass())
+                .active(flight.isActive())
+                .build();
+    }
+
+    public RouteDayKey routeDayKey() {
+        return new RouteDayKey(origin, destination, departureTime.toLocalDate());
+    }
+
+    public int durationMinutes() {
+        return Math.toIntExact(Duration.between(departureTime, arrivalTime).toMinutes());
+    }
+
+    public boolean hasAvailableSeats() {
+        return hasAvailableSeats(1);
+    }
+
+    public boolean hasAvailableSeats(int seats) {
+        return availableSeats != null && availableSeats >= seats;
+    }
+}
@@ -0,0 +1,56 @@
+package com.amadeus.api.search;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.function.Function;
+
+public enum FlightSortKey {
+
+    PRICE("f.price", Comparator.comparing(FlightSnapshot::getPrice),
+            FlightSnapshot::getPrice, BigDecimal::new),
+    DURATION("f.durationMinutes", Comparator.comparingInt(FlightSnapshot::durationMinutes),
+            FlightSnapshot::durationMinutes, Integer::valueOf),
+    DEPARTURE("f.departureTime", Comparator.comparing(FlightSnapshot::getDepartureTime),
+            FlightSnapshot::getDepartureTime, LocalDateTime::parse),
+    ARRIVAL("f.arrivalTime", Comparator.comparing(FlightSnapshot::getArrivalTime),
+            FlightSnapshot::getArrivalTime, LocalDateTime::parse);
+
+    private final String expression;
+    private final Comparator<FlightSnapshot> order;
+    private final Function<FlightSnapshot, ? extends Comparable<?>> extractor;
+    private final Function<String, ? extends Comparable<?>> parser;
+
+    FlightSortKey(String expression, Comparator<FlightSnapshot> order,
+            Function<FlightSnapshot, ? extends Comparable<?>> extractor,
+            Function<String, ? extends Comparable<?>> parser) {
+        this.expression = expression;
+        this.order = order;
+        this.extractor = extractor;
+        this.parser = parser;
+    }
+
+    public static FlightSortKey from(String value) {
+        if (value == null || value.isBlank()) {
+            return DEPARTURE;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    public Comparator<FlightSnapshot> comparator(boolean descending) {
+        return (descending ? order.reversed() : order).thenComparing(FlightSnapshot::getId);
+    }
+
+    public Comparable<?> valueOf(FlightSnapshot flight) {
+        return extractor.apply(flight);
+    }
+
+    public Comparable<?> parse(String value) {
+        return parser.apply(value);
+    }
+}
@@ -0,0 +1,40 @@
+package com.amadeus.api.search;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+public class Itinerary {
+
+    List<FlightSnapshot> segments;
+    BigDecimal totalPrice;
+    long totalMinutes;
+    BigDecimal score;
+
+    public static Itinerary of(List<FlightSnapshot> segments, BigDecimal pricePerMinute) {
+        BigDecimal totalPrice = segments.stream()
+                .map(FlightSnapshot::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long totalMinutes = Duration.between(
+                segments.get(0).getDepartureTime(),
+                segments.get(segments.size() - 1).getArrivalTime()).toMinutes();
+        BigDecimal score = totalPrice.add(pricePerMinute.multiply(BigDecimal.valueOf(totalMinutes)));
+        return new Itinerary(List.copyOf(segments), totalPrice, totalMinutes, score);
+    }
+
+    public int getStops() {
+        return segments.size() - 1;
+    }
+
+    public LocalDateTime getDepartureTime() {
+        return segments.get(0).getDepartureTime();
+    }
+
+    public LocalDateTime getArrivalTime() {
+        return segments.get(segments.size() - 1).getArrivalTime();
+    }
+}
@@ -0,0 +1,139 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.exception.FlightSearchTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class ParallelLegExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final FlightSearchProperties searchProperties;
+    private final Timer wallTimer;
+    private final Timer sequentialTimer;
+    private final Timer savedTimer;
+
+    public ParallelLegExecutor(FlightSearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.searchProperties = searchProperties;
+
+        FlightSearchProperties.Parallel settings = searchProperties.getParallel();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                settings.getPoolSize(),
+                settings.getPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(settings.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "flight-search-leg-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+
+        new ExecutorServiceMetrics(executor, "flight.search.legs", List.of()).bindTo(meterRegistry);
+        this.wallTimer = Timer.builder("flight.search.parallel.wall")
+                .description("Wall-clock time of legs executed concurrently")
+                .register(meterRegistry);
+        this.sequentialTimer = Timer.builder("flight.search.parallel.sequential")
+                .description("Sum of individual leg times, i.e. the cost of running them one after the other")
+                .register(meterRegistry);
+        this.savedTimer = Timer.builder("flight.search.parallel.saved")
+                .description("Wall-clock time saved by overlapping legs")
+                .register(meterRegistry);
+    }
+
+    public <T> List<T> invokeAll(List<Supplier<T>> legs) {
+        long deadline = System.nanoTime() + searchProperties.getParallel().getDeadline().toNanos();
+        long start = System.nanoTime();
+        AtomicLong legNanos = new AtomicLong();
+
+        // Legs read through the replica router, which pins callers to the primary by their security context.
+        SecurityContext caller = SecurityContextHolder.getContext();
+        ExecutorCompletionService<T> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<T>> futures = new ArrayList<>(legs.size());
+        try {
+            for (Supplier<T> leg : legs) {
+                futures.add(completionService.submit(DelegatingSecurityContextCallable.create(() -> {
+                    long legStart = System.nanoTime();
+                    try {
+                        return leg.get();
+                    } finally {
+                        legNanos.addAndGet(System.nanoTime() - legStart);
+                    }
+                }, caller)));
+            }
+        } catch (RejectedExecutionException e) {
+            cancelAll(futures);
+            throw new FlightSearchTimeoutException("Flight search is at capacity, try again", e);
+        }
+
+        try {
+            for (int completed = 0; completed < legs.size(); completed++) {
+                long remaining = deadline - System.nanoTime();
+                Future<T> done = completionService.poll(remaining, TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new FlightSearchTimeoutException("Flight search legs did not finish within "
+                            + searchProperties.getParallel().getDeadline().toMillis() + " ms");
+                }
+                done.get();
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+
+            long wallNanos = System.nanoTime() - start;
+            wallTimer.record(wallNanos, TimeUnit.NANOSECONDS);
+            sequentialTimer.record(legNanos.get(), TimeUnit.NANOSECONDS);
+            savedTimer.record(Math.max(0, legNanos.get() - wallNanos), TimeUnit.NANOSECONDS);
+            return results;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Flight search leg failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new FlightSearchTimeoutException("Flight search was interrupted", e);
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        }
+    }
+
+    private void cancelAll(List<? extends Future<?>> futures) {
+        futures.forEach(future -> future.cancel(true));
+        log.debug("Cancelled {} outstanding flight search legs", futures.size());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
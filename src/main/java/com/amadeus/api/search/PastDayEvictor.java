@@ -0,0 +1,54 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PastDayEvictor {
+
+    private final FlightSearchIndex flightSearchIndex;
+    private final FareCalendar fareCalendar;
+    private final FlightSearchProperties searchProperties;
+    private ScheduledExecutorService ticker;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-past-day-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = searchProperties.getPastDayEviction().toMillis();
+        ticker.scheduleAtFixedRate(this::evict, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    void evict() {
+        LocalDate today = LocalDate.now();
+        try {
+            int buckets = flightSearchIndex.evictPastDays(today);
+            int fareDays = fareCalendar.evictPastDays(today);
+            log.debug("Evicted {} route/day buckets and {} fare calendar days before {}", buckets, fareDays, today);
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict past route/days: {}", e.getMessage());
+        }
+    }
+}
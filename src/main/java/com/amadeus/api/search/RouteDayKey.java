@@ -0,0 +1,13 @@
+package com.amadeus.api.search;
+
+import lombok.Value;
+
+import java.time.LocalDate;
+
+@Value
+public class RouteDayKey {
+
+    String origin;
+    String destination;
+    LocalDate day;
+}
@@ -0,0 +1,40 @@
+package com.amadeus.api.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class RouteGraph {
+
+    private final Map<String, Set<String>> destinationsByOrigin = new HashMap<>();
+    private final Map<String, Set<String>> originsByDestination = new HashMap<>();
+
+    public static RouteGraph of(Collection<RouteDayKey> keys) {
+        RouteGraph graph = new RouteGraph();
+        for (RouteDayKey key : keys) {
+            graph.destinationsByOrigin.computeIfAbsent(key.getOrigin(), origin -> new HashSet<>())
+                    .add(key.getDestination());
+            graph.originsByDestination.computeIfAbsent(key.getDestination(), destination -> new HashSet<>())
+                    .add(key.getOrigin());
+        }
+        return graph;
+    }
+
+    public Set<String> destinationsFrom(String origin) {
+        return destinationsByOrigin.getOrDefault(origin, Set.of());
+    }
+
+    public Set<String> originsTo(String destination) {
+        return originsByDestination.getOrDefault(destination, Set.of());
+    }
+
+    public Set<String> hubsBetween(String origin, String destination) {
+        Set<String> hubs = new HashSet<>(destinationsFrom(origin));
+        hubs.retainAll(originsTo(destination));
+        hubs.remove(origin);
+        hubs.remove(destination);
+        return hubs;
+    }
+}
@@ -0,0 +1,48 @@
+package com.amadeus.api.search;
+
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Value
+public class SearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    FlightSortKey sortKey;
+    boolean descending;
+    Comparable<?> sortValue;
+    Long id;
+
+    public static SearchCursor after(FlightSortKey sortKey, boolean descending, FlightSnapshot flight) {
+        return new SearchCursor(sortKey, descending, sortKey.valueOf(flight), flight.getId());
+    }
+
+    public static SearchCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 4);
+            FlightSortKey sortKey = FlightSortKey.valueOf(parts[0]);
+            return new SearchCursor(sortKey, "desc".equals(parts[1]), sortKey.parse(parts[2]), Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid search cursor", e);
+        }
+    }
+
+    public String encode() {
+        String value = sortValue instanceof BigDecimal decimal ? decimal.toPlainString() : sortValue.toString();
+        String raw = sortKey.name() + SEPARATOR + (descending ? "desc" : "asc") + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean precedes(FlightSnapshot flight) {
+        int comparison = ((Comparable) sortKey.valueOf(flight)).compareTo(sortValue);
+        if (descending) {
+            comparison = -comparison;
+        }
+        return comparison > 0 || (comparison == 0 && flight.getId() > id);
+    }
+}
@@ -0,0 +1,50 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.dto.response.FlightDto;
+import lombok.Builder;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Set;
+
+@Value
+@Builder
+public class SearchResultsQuery {
+
+    @Builder.Default
+    FlightSortKey sortKey = FlightSortKey.DEPARTURE;
+    boolean descending;
+    @Builder.Default
+    Set<String> airlines = Set.of();
+    BigDecimal minPrice;
+    BigDecimal maxPrice;
+    Integer maxDurationMinutes;
+    int page;
+    @Builder.Default
+    int size = 20;
+
+    public boolean matches(FlightDto flight) {
+        return (airlines.isEmpty() || airlines.contains(flight.getAirline()))
+                && (minPrice == null || flight.getPrice().compareTo(minPrice) >= 0)
+                && (maxPrice == null || flight.getPrice().compareTo(maxPrice) <= 0)
+                && (maxDurationMinutes == null || durationMinutes(flight) <= maxDurationMinutes);
+    }
+
+    public Comparator<FlightDto> comparator() {
+        Comparator<FlightDto> order = switch (sortKey) {
+            case PRICE -> Comparator.comparing(FlightDto::getPrice);
+            case DURATION -> Comparator.comparingLong(SearchResultsQuery::durationMinutes);
+            case DEPARTURE -> Comparator.comparing(FlightDto::getDepartureTime);
+            case ARRIVAL -> Comparator.comparing(FlightDto::getArrivalTime);
+        };
+        return (descending ? order.reversed() : order)
+                .thenComparing(FlightDto::getDepartureTime)
+                .thenComparing(FlightDto::getFlightNumber);
+    }
+
+    private static long durationMinutes(FlightDto flight) {
+        return Duration.between(flight.getDepartureTime(), flight.getArrivalTime()).toMinutes();
+    }
+}
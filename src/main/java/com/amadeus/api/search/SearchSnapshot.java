@@ -0,0 +1,25 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.dto.response.FlightSearchResponse;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+public class SearchSnapshot {
+
+    String searchId;
+    LocalDateTime searchTime;
+    List<FlightDto> outboundFlights;
+    List<FlightDto> returnFlights;
+
+    public static SearchSnapshot of(FlightSearchResponse response) {
+        return new SearchSnapshot(
+                response.getMetadata().getSearchId(),
+                response.getMetadata().getSearchTime(),
+                List.copyOf(response.getOutboundFlights()),
+                List.copyOf(response.getReturnFlights()));
+    }
+}
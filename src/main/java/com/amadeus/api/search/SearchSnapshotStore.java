@@ -0,0 +1,41 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+public class SearchSnapshotStore {
+
+    private final Cache<String, SearchSnapshot> snapshots;
+
+    public SearchSnapshotStore(FlightSearchProperties searchProperties, MeterRegistry meterRegistry) {
+        FlightSearchProperties.Snapshots settings = searchProperties.getSnapshots();
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "searchSnapshots");
+    }
+
+    public void save(FlightSearchResponse response) {
+        SearchSnapshot snapshot = SearchSnapshot.of(response);
+        snapshots.put(snapshot.getSearchId(), snapshot);
+    }
+
+    public Optional<SearchSnapshot> find(String searchId) {
+        return Optional.ofNullable(snapshots.getIfPresent(searchId));
+    }
+
+    public long size() {
+        snapshots.cleanUp();
+        return snapshots.estimatedSize();
+    }
+}
@@ -0,0 +1,18 @@
+package com.amadeus.api.service;
+
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.dto.response.BookingDto;
+
+public interface BookingService {
+
+    BookingDto createBooking(String userEmail, CreateBookingRequest request);
+
+    BookingDto cancelBooking(String userEmail, Long bookingId);
+
+    BookingDto confirmHold(String userEmail, String holdId);
+
+    BookingDto getBooking(String userEmail, String reference);
+
+    // Any user's booking, for staff.
+    BookingDto getBooking(String reference);
+}
@@ -0,0 +1,11 @@
+package com.amadeus.api.service;
+
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.amadeus.api.dto.response.FlightImportReport;
+
+import java.io.InputStream;
+
+public interface FlightImportService {
+
+    FlightImportReport importFlights(InputStream input, FlightImportFormat format);
+}
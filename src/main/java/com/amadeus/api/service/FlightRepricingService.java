@@ -0,0 +1,9 @@
+package com.amadeus.api.service;
+
+import com.amadeus.api.dto.request.FlightRepriceRequest;
+import com.amadeus.api.dto.response.FlightRepriceReport;
+
+public interface FlightRepricingService {
+
+    FlightRepriceReport repriceFlights(FlightRepriceRequest request);
+}
@@ -1,27 +1,50 @@
 package com.amadeus.api.service;
 
+import com.amadeus.api.dto.request.BatchFlightSearchRequest;
 import com.amadeus.api.dto.request.CreateFlightRequest;
 import com.amadeus.api.dto.request.FlightSearchRequest;
+import com.amadeus.api.dto.request.PageCountMode;
 import com.amadeus.api.dto.request.UpdateFlightRequest;
+import com.amadeus.api.dto.response.BatchFlightSearchResponse;
+import com.amadeus.api.dto.response.FareCalendarResponse;
+import com.amadeus.api.dto.response.FlightAdminCursorPage;
 import com.amadeus.api.dto.response.FlightAdminDto;
 import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.FlightStreamItem;
 import com.amadeus.api.dto.response.LocationDto;
+import com.amadeus.api.dto.response.SearchResultsPage;
+import com.amadeus.api.search.SearchResultsQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.YearMonth;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface FlightService {
 
     FlightSearchResponse searchFlights(FlightSearchRequest request);
 
+    BatchFlightSearchResponse searchFlightsBatch(BatchFlightSearchRequest request);
+
+    SearchResultsPage getSearchResults(String searchId, SearchResultsQuery query);
+
+    void streamFlights(FlightSearchRequest request, Consumer<FlightStreamItem> sink);
+
+    FareCalendarResponse getFareCalendar(String origin, String destination, YearMonth month);
+
     FlightAdminDto createFlight(CreateFlightRequest request);
 
     FlightAdminDto getFlightById(Long id);
 
     Page<FlightAdminDto> getAllFlights(Pageable pageable);
 
+    Slice<FlightAdminDto> getAllFlights(Pageable pageable, PageCountMode countMode);
+
+    FlightAdminCursorPage getAllFlightsByCursor(String sortBy, String sortDir, String cursor, int size);
+
     FlightAdminDto updateFlight(Long id, UpdateFlightRequest request);
 
     void deleteFlight(Long id);
@@ -35,4 +58,6 @@ public interface FlightService {
     List<FlightDto> getUpcomingFlights(int limit);
 
     Page<FlightAdminDto> searchFlightsForAdmin(String searchTerm, Pageable pageable);
+
+    Slice<FlightAdminDto> searchFlightsForAdmin(String searchTerm, Pageable pageable, PageCountMode countMode);
 }
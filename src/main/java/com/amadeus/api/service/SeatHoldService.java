@@ -0,0 +1,17 @@
+package com.amadeus.api.service;
+
+import com.amadeus.api.dto.request.SeatHoldRequest;
+import com.amadeus.api.dto.response.SeatHoldDto;
+import com.amadeus.api.entity.SeatHold;
+
+public interface SeatHoldService {
+
+    SeatHoldDto holdSeats(String userEmail, SeatHoldRequest request);
+
+    void releaseHold(String userEmail, String holdId);
+
+    // Deletes the hold but keeps its seats taken, inside the caller's transaction.
+    SeatHold claimHold(Long userId, String holdId);
+
+    int activeHolds();
+}
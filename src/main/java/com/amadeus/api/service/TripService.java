@@ -0,0 +1,13 @@
+package com.amadeus.api.service;
+
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.dto.response.TripPage;
+
+import java.util.List;
+
+public interface TripService {
+
+    TripPage getTrips(String userEmail, String cursor, int size);
+
+    List<TripDto> getUpcomingTrips(String userEmail);
+}
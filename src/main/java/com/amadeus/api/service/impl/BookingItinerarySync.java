@@ -0,0 +1,42 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.repository.BookingRef;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.search.FlightSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingItinerarySync {
+
+    private final BookingRepository bookingRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    @Transactional
+    public void onFlightChanged(FlightChangedEvent event) {
+        FlightSnapshot current = event.getCurrent();
+        if (current == null || !event.changesItinerary()) {
+            return;
+        }
+        List<BookingRef> bookings = bookingRepository.findRefsByFlightId(current.getId());
+        if (bookings.isEmpty()) {
+            return;
+        }
+        bookingRepository.updateItinerary(current.getId(), current.getFlightNumber(), current.getOrigin(),
+                current.getDestination(), current.getDepartureTime());
+        bookings.forEach(booking -> eventPublisher.publishEvent(
+                new BookingChangedEvent(booking.getId(), booking.getReference(), booking.getUserId())));
+        log.info("Flight {} changed itinerary, updated {} bookings", current.getFlightNumber(), bookings.size());
+    }
+}
@@ -0,0 +1,45 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.BookingProperties;
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.repository.BookingView;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+// Misses are not cached, so unknown references are never pinned in memory.
+@Component
+public class BookingLookupCache {
+
+    private final Cache<String, BookingView> cache;
+    private final boolean enabled;
+
+    public BookingLookupCache(BookingProperties bookingProperties, MeterRegistry meterRegistry) {
+        BookingProperties.Cache settings = bookingProperties.getCache();
+        this.enabled = settings.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bookingLookup");
+    }
+
+    public Optional<BookingView> get(String reference, Function<String, Optional<BookingView>> loader) {
+        if (!enabled) {
+            return loader.apply(reference);
+        }
+        return Optional.ofNullable(cache.get(reference, key -> loader.apply(key).orElse(null)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        cache.invalidate(event.getReference());
+    }
+}
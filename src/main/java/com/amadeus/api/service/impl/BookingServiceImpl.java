@@ -0,0 +1,197 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.dto.response.BookingDto;
+import com.amadeus.api.entity.Booking;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.entity.SeatHold;
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.BookingNotCancellableException;
+import com.amadeus.api.exception.BookingNotFoundException;
+import com.amadeus.api.exception.BookingReferenceUnavailableException;
+import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.UserNotFoundException;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.repository.BookingView;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightSeatView;
+import com.amadeus.api.repository.UserRepository;
+import com.amadeus.api.service.BookingService;
+import com.amadeus.api.service.SeatHoldService;
+import com.amadeus.api.util.BookingReferenceGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingServiceImpl implements BookingService {
+
+    private static final int MAX_REFERENCE_ATTEMPTS = 5;
+
+    private final BookingRepository bookingRepository;
+    private final FlightRepository flightRepository;
+    private final UserRepository userRepository;
+    private final SeatHoldService seatHoldService;
+    private final SeatWriteCoalescer seatWriteCoalescer;
+    private final BookingReferenceGenerator referenceGenerator;
+    private final BookingLookupCache bookingLookupCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public BookingDto createBooking(String userEmail, CreateBookingRequest request) {
+        Long userId = findUserId(userEmail);
+        int seats = request.getSeats();
+
+        BookingDto booking = seatWriteCoalescer.takeSeats(request.getFlightId(), seats, flight ->
+                convertToBookingDto(saveBooking(Booking.builder()
+                        .userId(userId)
+                        .seats(seats)
+                        .totalPrice(flight.getPrice().multiply(BigDecimal.valueOf(seats)))
+                        .status(BookingStatus.CONFIRMED)
+                        .build(), flight), flight));
+
+        log.info("Booked {} seats on flight {} for user {} as {}", seats, booking.getFlightNumber(), userId,
+                booking.getReference());
+        return booking;
+    }
+
+    @Override
+    @Transactional
+    public BookingDto cancelBooking(String userEmail, Long bookingId) {
+        Long userId = findUserId(userEmail);
+        Booking booking = bookingRepository.findByIdAndUserId(bookingId, userId)
+                .orElseThrow(() -> new BookingNotFoundException(bookingId));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (booking.getStatus() != BookingStatus.CONFIRMED
+                || bookingRepository.updateStatus(bookingId, BookingStatus.CONFIRMED, BookingStatus.CANCELLED,
+                        now) == 0) {
+            throw new BookingNotCancellableException("Booking " + bookingId + " is already cancelled");
+        }
+
+        if (flightRepository.incrementAvailableSeats(booking.getFlightId(), booking.getSeats(), now) == 0) {
+            throw new BookingNotCancellableException(
+                    "Booking " + bookingId + " is for a flight that has already departed");
+        }
+        FlightSeatView flight = flightRepository.findSeatView(booking.getFlightId())
+                .orElseThrow(() -> new FlightNotFoundException(booking.getFlightId()));
+        eventPublisher.publishEvent(FlightSeatsChangedEvent.of(flight, booking.getSeats()));
+
+        booking.setStatus(BookingStatus.CANCELLED);
+        eventPublisher.publishEvent(new BookingChangedEvent(booking.getId(), booking.getReference(), userId));
+        log.info("Cancelled booking {} and released {} seats on flight {}", bookingId, booking.getSeats(),
+                flight.getFlightNumber());
+        return convertToBookingDto(booking, flight);
+    }
+
+    @Override
+    @Transactional
+    public BookingDto confirmHold(String userEmail, String holdId) {
+        Long userId = findUserId(userEmail);
+        SeatHold hold = seatHoldService.claimHold(userId, holdId);
+        FlightSeatView flight = flightRepository.findSeatView(hold.getFlightId())
+                .orElseThrow(() -> new FlightNotFoundException(hold.getFlightId()));
+
+        Booking booking = saveBooking(Booking.builder()
+                .userId(userId)
+                .seats(hold.getSeats())
+                .totalPrice(hold.getTotalPrice())
+                .status(BookingStatus.CONFIRMED)
+                .build(), flight);
+
+        log.info("Confirmed seat hold {} as booking {} on flight {} for user {}", holdId, booking.getId(),
+                flight.getFlightNumber(), userId);
+        return convertToBookingDto(booking, flight);
+    }
+
+    @Override
+    public BookingDto getBooking(String userEmail, String reference) {
+        return findBookingView(reference)
+                .filter(booking -> booking.getUserEmail().equals(userEmail))
+                .map(this::convertToBookingDto)
+                .orElseThrow(() -> new BookingNotFoundException(reference));
+    }
+
+    @Override
+    public BookingDto getBooking(String reference) {
+        return findBookingView(reference)
+                .map(this::convertToBookingDto)
+                .orElseThrow(() -> new BookingNotFoundException(reference));
+    }
+
+    private Optional<BookingView> findBookingView(String reference) {
+        String normalized = BookingReferenceGenerator.normalize(reference);
+        if (normalized.isEmpty()) {
+            return Optional.empty();
+        }
+        return bookingLookupCache.get(normalized, bookingRepository::findViewByReference);
+    }
+
+    private Booking saveBooking(Booking booking, FlightSeatView flight) {
+        booking.setReference(newReference());
+        booking.setFlightId(flight.getId());
+        booking.setFlightNumber(flight.getFlightNumber());
+        booking.setOrigin(flight.getOrigin());
+        booking.setDestination(flight.getDestination());
+        booking.setDepartureTime(flight.getDepartureTime());
+        Booking saved = bookingRepository.save(booking);
+        eventPublisher.publishEvent(new BookingChangedEvent(saved.getId(), saved.getReference(), saved.getUserId()));
+        return saved;
+    }
+
+    private String newReference() {
+        for (int attempt = 0; attempt < MAX_REFERENCE_ATTEMPTS; attempt++) {
+            String reference = referenceGenerator.next();
+            if (!bookingRepository.existsByReference(reference)) {
+                return reference;
+            }
+        }
+        throw new BookingReferenceUnavailableException("Could not allocate a unique booking reference");
+    }
+
+    private Long findUserId(String userEmail) {
+        return userRepository.findEnabledIdByEmail(userEmail)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + userEmail));
+    }
+
+    private BookingDto convertToBookingDto(Booking booking, FlightSeatView flight) {
+        return BookingDto.builder()
+                .id(booking.getId())
+                .reference(booking.getReference())
+                .flightId(booking.getFlightId())
+                .flightNumber(flight.getFlightNumber())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .departureTime(flight.getDepartureTime())
+                .seats(booking.getSeats())
+                .totalPrice(booking.getTotalPrice())
+                .status(booking.getStatus().name())
+                .createdAt(booking.getCreatedAt())
+                .build();
+    }
+
+    private BookingDto convertToBookingDto(BookingView booking) {
+        return BookingDto.builder()
+                .id(booking.getId())
+                .reference(booking.getReference())
+                .flightId(booking.getFlightId())
+                .flightNumber(booking.getFlightNumber())
+                .origin(booking.getOrigin())
+                .destination(booking.getDestination())
+                .departureTime(booking.getDepartureTime())
+                .seats(booking.getSeats())
+                .totalPrice(booking.getTotalPrice())
+                .status(booking.getStatus().name())
+                .createdAt(booking.getCreatedAt())
+                .build();
+    }
+}
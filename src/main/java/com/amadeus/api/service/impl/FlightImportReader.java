@@ -0,0 +1,159 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.dto.request.CreateFlightRequest;
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// CSV input starts with a header naming the CreateFlightRequest fields; NDJSON carries one request per line.
+class FlightImportReader implements Closeable {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("flightNumber", "airline", "origin",
+            "destination", "departureTime", "arrivalTime", "duration", "price", "aircraftType", "availableSeats",
+            "cabinClass");
+
+    private final BufferedReader reader;
+    private final FlightImportFormat format;
+    private final ObjectMapper objectMapper;
+    private Map<String, Integer> columns;
+    private long lineNumber;
+
+    FlightImportReader(InputStream input, FlightImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    Row next() throws IOException {
+        String line = nextNonBlankLine();
+        if (format == FlightImportFormat.CSV && columns == null && line != null) {
+            columns = parseHeader(line);
+            line = nextNonBlankLine();
+        }
+        if (line == null) {
+            return null;
+        }
+        try {
+            return new Row(lineNumber, format == FlightImportFormat.CSV ? parseCsv(line) : parseJson(line), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private String nextNonBlankLine() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            lineNumber++;
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> names = splitCsv(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            header.put(names.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !header.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private CreateFlightRequest parseJson(String line) {
+        try {
+            return objectMapper.readValue(line, CreateFlightRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private CreateFlightRequest parseCsv(String line) {
+        List<String> values = splitCsv(line);
+        Boolean active = value(values, "active", Boolean::valueOf);
+        return CreateFlightRequest.builder()
+                .flightNumber(value(values, "flightNumber", Function.identity()))
+                .airline(value(values, "airline", Function.identity()))
+                .origin(value(values, "origin", Function.identity()))
+                .destination(value(values, "destination", Function.identity()))
+                .departureTime(value(values, "departureTime", LocalDateTime::parse))
+                .arrivalTime(value(values, "arrivalTime", LocalDateTime::parse))
+                .duration(value(values, "duration", Function.identity()))
+                .price(value(values, "price", BigDecimal::new))
+                .aircraftType(value(values, "aircraftType", Function.identity()))
+                .availableSeats(value(values, "availableSeats", Integer::valueOf))
+                .cabinClass(value(values, "cabinClass", Function.identity()))
+                .active(active == null ? Boolean.TRUE : active)
+                .build();
+    }
+
+    private <T> T value(List<String> values, String column, Function<String, T> parser) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size() || values.get(index).isBlank()) {
+            return null;
+        }
+        String raw = values.get(index).trim();
+        try {
+            return parser.apply(raw);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": '" + raw + "'");
+        }
+    }
+
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    @Value
+    static class Row {
+        long line;
+        CreateFlightRequest request;
+        String error;
+    }
+}
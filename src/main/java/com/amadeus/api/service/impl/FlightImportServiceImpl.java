@@ -0,0 +1,246 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.FlightImportProperties;
+import com.amadeus.api.dto.request.CreateFlightRequest;
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.amadeus.api.dto.response.FlightImportError;
+import com.amadeus.api.dto.response.FlightImportReport;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightBatchWriter;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightScheduleKey;
+import com.amadeus.api.search.FlightSnapshot;
+import com.amadeus.api.service.FlightImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightImportServiceImpl implements FlightImportService {
+
+    private final FlightRepository flightRepository;
+    private final FlightBatchWriter flightBatchWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final FlightImportProperties importProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public FlightImportReport importFlights(InputStream input, FlightImportFormat format) {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress(importProperties.getMaxReportedErrors());
+        Set<FlightScheduleKey> seen = new HashSet<>();
+        List<PendingFlight> batch = new ArrayList<>(importProperties.getBatchSize());
+
+        try (FlightImportReader reader = new FlightImportReader(input, format, objectMapper)) {
+            for (FlightImportReader.Row row = reader.next(); row != null; row = reader.next()) {
+                progress.totalRows++;
+                Flight flight = toFlight(row, progress);
+                if (flight == null) {
+                    continue;
+                }
+                if (!seen.add(new FlightScheduleKey(flight.getFlightNumber(), flight.getDepartureTime()))) {
+                    progress.reject(row.getLine(), flight.getFlightNumber(),
+                            "Duplicate of an earlier row for departure time " + flight.getDepartureTime());
+                    continue;
+                }
+                batch.add(new PendingFlight(row.getLine(), flight));
+                if (batch.size() >= importProperties.getBatchSize()) {
+                    writeBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            writeBatch(batch, progress);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read flight import", e);
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Imported {} of {} {} rows in {} ms ({} rejected)", progress.imported, progress.totalRows, format,
+                durationMs, progress.rejected);
+
+        return FlightImportReport.builder()
+                .format(format.name())
+                .totalRows(progress.totalRows)
+                .imported(progress.imported)
+                .rejected(progress.rejected)
+                .errors(progress.errors)
+                .errorsTruncated(progress.rejected > progress.errors.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private Flight toFlight(FlightImportReader.Row row, ImportProgress progress) {
+        if (row.getError() != null) {
+            progress.reject(row.getLine(), null, row.getError());
+            return null;
+        }
+
+        CreateFlightRequest request = row.getRequest();
+        Set<ConstraintViolation<CreateFlightRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(row.getLine(), request.getFlightNumber(), violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        if (!request.getArrivalTime().isAfter(request.getDepartureTime())) {
+            progress.reject(row.getLine(), request.getFlightNumber(), "Arrival time must be after departure time");
+            return null;
+        }
+
+        Flight flight = Flight.builder()
+                .flightNumber(request.getFlightNumber())
+                .airline(request.getAirline())
+                .origin(request.getOrigin().toUpperCase())
+                .destination(request.getDestination().toUpperCase())
+                .departureTime(request.getDepartureTime())
+                .arrivalTime(request.getArrivalTime())
+                .duration(request.getDuration())
+                .price(request.getPrice())
+                .aircraftType(request.getAircraftType())
+                .availableSeats(request.getAvailableSeats())
+                .cabinClass(request.getCabinClass())
+                .active(request.getActive() == null || request.getActive())
+                .build();
+        flight.refreshDurationMinutes();
+        return flight;
+    }
+
+    private void writeBatch(List<PendingFlight> batch, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<FlightScheduleKey> existing =
+                new HashSet<>(withinScheduleWindow(batch, flightRepository::findScheduleKeys));
+        List<PendingFlight> fresh = new ArrayList<>(batch.size());
+        for (PendingFlight pending : batch) {
+            Flight flight = pending.getFlight();
+            if (existing.contains(new FlightScheduleKey(flight.getFlightNumber(), flight.getDepartureTime()))) {
+                progress.reject(pending.getLine(), flight.getFlightNumber(), "Flight with number "
+                        + flight.getFlightNumber() + " already exists for departure time " + flight.getDepartureTime());
+            } else {
+                fresh.add(pending);
+            }
+        }
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        List<PendingFlight> inserted = new ArrayList<>(fresh.size());
+        try {
+            insert(fresh);
+            inserted.addAll(fresh);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Flight import batch of {} rows was rejected, retrying row by row: {}", fresh.size(),
+                    NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+            for (PendingFlight pending : fresh) {
+                try {
+                    insert(List.of(pending));
+                    inserted.add(pending);
+                } catch (DataIntegrityViolationException rowFailure) {
+                    progress.reject(pending.getLine(), pending.getFlight().getFlightNumber(),
+                            "Rejected by the database: "
+                                    + NestedExceptionUtils.getMostSpecificCause(rowFailure).getMessage());
+                }
+            }
+        }
+        progress.imported += inserted.size();
+        publishImported(inserted);
+    }
+
+    // The batch writer does not return generated ids, so the committed rows are read back by schedule key.
+    private void publishImported(List<PendingFlight> inserted) {
+        if (inserted.isEmpty()) {
+            return;
+        }
+        Set<FlightScheduleKey> keys = inserted.stream()
+                .map(pending -> new FlightScheduleKey(pending.getFlight().getFlightNumber(),
+                        pending.getFlight().getDepartureTime()))
+                .collect(Collectors.toSet());
+        List<FlightSnapshot> flights = withinScheduleWindow(inserted, flightRepository::findScheduledFlights).stream()
+                .filter(flight -> keys.contains(new FlightScheduleKey(flight.getFlightNumber(),
+                        flight.getDepartureTime())))
+                .map(FlightSnapshot::from)
+                .toList();
+        if (!flights.isEmpty()) {
+            eventPublisher.publishEvent(new FlightsImportedEvent(flights));
+        }
+    }
+
+    private <T> List<T> withinScheduleWindow(List<PendingFlight> batch, ScheduleQuery<T> query) {
+        Set<String> flightNumbers = new HashSet<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (PendingFlight pending : batch) {
+            Flight flight = pending.getFlight();
+            flightNumbers.add(flight.getFlightNumber());
+            from = from == null || flight.getDepartureTime().isBefore(from) ? flight.getDepartureTime() : from;
+            to = to == null || flight.getDepartureTime().isAfter(to) ? flight.getDepartureTime() : to;
+        }
+        return query.find(flightNumbers, from, to);
+    }
+
+    private void insert(List<PendingFlight> flights) {
+        transactionTemplate.executeWithoutResult(status -> flightBatchWriter.insertAll(flights.stream()
+                .map(PendingFlight::getFlight)
+                .toList()));
+    }
+
+    private interface ScheduleQuery<T> {
+        List<T> find(Collection<String> flightNumbers, LocalDateTime from, LocalDateTime to);
+    }
+
+    @Value
+    private static class PendingFlight {
+        long line;
+        Flight flight;
+    }
+
+    private static class ImportProgress {
+
+        private final int maxReportedErrors;
+        private final List<FlightImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long imported;
+        private long rejected;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void reject(long line, String flightNumber, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new FlightImportError(line, flightNumber, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.FlightRepricingProperties;
+import com.amadeus.api.dto.request.FlightRepriceRequest;
+import com.amadeus.api.dto.response.FlightRepriceReport;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightRepriceCriteria;
+import com.amadeus.api.repository.PriceRule;
+import com.amadeus.api.search.FlightSnapshot;
+import com.amadeus.api.search.RouteDayKey;
+import com.amadeus.api.service.FlightRepricingService;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightRepricingServiceImpl implements FlightRepricingService {
+
+    private final FlightRepository flightRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final FlightRepricingProperties repricingProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public FlightRepriceReport repriceFlights(FlightRepriceRequest request) {
+        long start = System.nanoTime();
+        FlightRepriceCriteria criteria = toCriteria(request);
+        PriceRule rule = new PriceRule(request.getAdjustment(), request.getValue(), request.getFloorPrice(),
+                request.getCeilingPrice());
+        int chunkSize = repricingProperties.getChunkSize();
+
+        long matched = 0;
+        long repriced = 0;
+        int chunks = 0;
+        Set<RouteDayKey> routeDays = new HashSet<>();
+        Long lastId = null;
+        while (true) {
+            Long afterId = lastId;
+            ChunkResult chunk = transactionTemplate.execute(
+                    status -> repriceChunk(criteria, rule, afterId, chunkSize));
+            if (chunk.getCandidates() == 0) {
+                break;
+            }
+            chunks++;
+            matched += chunk.getUpdated();
+            repriced += chunk.getRepriced();
+            routeDays.addAll(chunk.getRouteDays());
+            lastId = chunk.getLastId();
+            if (chunk.getCandidates() < chunkSize) {
+                break;
+            }
+        }
+
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        log.info("Repriced {} of {} flights ({} {}) in {} chunks and {} ms", repriced, matched,
+                request.getAdjustment(), request.getValue(), chunks, durationMs);
+
+        return FlightRepriceReport.builder()
+                .matched(matched)
+                .repriced(repriced)
+                .chunks(chunks)
+                .routeDays(routeDays.size())
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private ChunkResult repriceChunk(FlightRepriceCriteria criteria, PriceRule rule, Long afterId, int chunkSize) {
+        List<Flight> candidates = flightRepository.findRepriceCandidates(criteria, afterId, chunkSize);
+        if (candidates.isEmpty()) {
+            return new ChunkResult(0, 0, 0, afterId, Set.of());
+        }
+
+        Map<Long, FlightSnapshot> previous = candidates.stream()
+                .map(FlightSnapshot::from)
+                .collect(Collectors.toMap(FlightSnapshot::getId, Function.identity()));
+        int updated = flightRepository.repriceFlights(previous.keySet(), rule, LocalDateTime.now());
+
+        int repriced = 0;
+        Set<RouteDayKey> routeDays = new HashSet<>();
+        for (Flight flight : flightRepository.findAllById(previous.keySet())) {
+            FlightSnapshot before = previous.get(flight.getId());
+            if (before.getPrice().compareTo(flight.getPrice()) == 0) {
+                continue;
+            }
+            FlightSnapshot after = FlightSnapshot.from(flight);
+            eventPublisher.publishEvent(FlightChangedEvent.updated(before, after));
+            routeDays.add(after.routeDayKey());
+            repriced++;
+        }
+        return new ChunkResult(candidates.size(), updated, repriced, candidates.get(candidates.size() - 1).getId(),
+                routeDays);
+    }
+
+    private FlightRepriceCriteria toCriteria(FlightRepriceRequest request) {
+        if ((request.getOrigin() == null) != (request.getDestination() == null)) {
+            throw new IllegalArgumentException("Origin and destination must be given together");
+        }
+        if (request.getOrigin() == null && request.getAirline() == null) {
+            throw new IllegalArgumentException("Repricing needs a route or an airline");
+        }
+        if (request.getDepartureFrom() != null && request.getDepartureTo() != null
+                && request.getDepartureTo().isBefore(request.getDepartureFrom())) {
+            throw new IllegalArgumentException("Departure to date cannot be before departure from date");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime departureFrom = request.getDepartureFrom() == null ? now
+                : request.getDepartureFrom().atStartOfDay();
+        return FlightRepriceCriteria.builder()
+                .origin(request.getOrigin() == null ? null : request.getOrigin().toUpperCase())
+                .destination(request.getDestination() == null ? null : request.getDestination().toUpperCase())
+                .airline(request.getAirline())
+                .cabinClass(request.getCabinClass())
+                .departureFrom(departureFrom.isBefore(now) ? now : departureFrom)
+                .departureTo(request.getDepartureTo() == null ? null
+                        : request.getDepartureTo().plusDays(1).atStartOfDay())
+                .build();
+    }
+
+    @Value
+    private static class ChunkResult {
+        int candidates;
+        int updated;
+        int repriced;
+        Long lastId;
+        Set<RouteDayKey> routeDays;
+    }
+}
@@ -1,32 +1,83 @@
 package com.amadeus.api.service.impl;
 
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.request.BatchFlightSearchRequest;
 import com.amadeus.api.dto.request.CreateFlightRequest;
 import com.amadeus.api.dto.request.FlightSearchRequest;
+import com.amadeus.api.dto.request.PageCountMode;
 import com.amadeus.api.dto.request.UpdateFlightRequest;
+import com.amadeus.api.dto.response.BatchFlightSearchResponse;
+import com.amadeus.api.dto.response.FareCalendarResponse;
+import com.amadeus.api.dto.response.FlexibleDateDto;
+import com.amadeus.api.dto.response.FlightAdminCursorPage;
 import com.amadeus.api.dto.response.FlightAdminDto;
 import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.FlightStreamItem;
+import com.amadeus.api.dto.response.ItineraryDto;
 import com.amadeus.api.dto.response.LocationDto;
 import com.amadeus.api.dto.response.SearchMetadata;
+import com.amadeus.api.dto.response.SearchResultsPage;
 import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.exception.FlightInUseException;
 import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.SearchNotFoundException;
 import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminFlightTextIndex;
+import com.amadeus.api.search.AdminSortKey;
+import com.amadeus.api.search.ConnectionSearch;
+import com.amadeus.api.search.FareCalendar;
+import com.amadeus.api.search.FlightSearchCache;
+import com.amadeus.api.search.FlightSearchCriteria;
+import com.amadeus.api.search.FlightSearchIndex;
+import com.amadeus.api.search.FlightSnapshot;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.Itinerary;
+import com.amadeus.api.search.ParallelLegExecutor;
+import com.amadeus.api.search.RouteDayKey;
+import com.amadeus.api.search.SearchCursor;
+import com.amadeus.api.search.SearchResultsQuery;
+import com.amadeus.api.search.SearchSnapshot;
+import com.amadeus.api.search.SearchSnapshotStore;
 import com.amadeus.api.service.FlightService;
 import com.amadeus.api.util.LocationMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -35,75 +86,510 @@ public class FlightServiceImpl implements FlightService {
 
 	private final FlightRepository flightRepository;
 	private final LocationMapper locationMapper;
+	private final FlightSearchIndex flightSearchIndex;
+	private final FlightSearchCache flightSearchCache;
+	private final SearchSnapshotStore searchSnapshotStore;
+	private final AdminFlightTextIndex adminFlightTextIndex;
+	private final ConnectionSearch connectionSearch;
+	private final FareCalendar fareCalendar;
+	private final ParallelLegExecutor parallelLegExecutor;
+	private final FlightSearchProperties searchProperties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
 
 	@Override
 	public FlightSearchResponse searchFlights(FlightSearchRequest request) {
 		log.info("Searching flights from {} to {} on {}",
 				request.getOrigin(), request.getDestination(), request.getDepartureDate());
 
-		List<FlightDto> outboundFlights = searchFlightsFromDatabase(request);
-		List<FlightDto> returnFlights = new ArrayList<>();
+		boolean useIndex = useIndex();
+		Timer.Sample sample = Timer.start(meterRegistry);
 
-		if ("roundtrip".equals(request.getTripType()) && request.getReturnDate() != null) {
-			returnFlights = searchReturnFlightsFromDatabase(request);
+		FlightSearchResponse response = search(request, useIndex, (key, seats) -> useIndex
+				? searchFlightsFromIndex(key, seats)
+				: searchFlightsFromDatabase(key, seats));
+
+		sample.stop(Timer.builder("flight.search")
+				.description("Public flight search latency")
+				.tag("mode", useIndex ? "index" : "database")
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry));
+		return response;
+	}
+
+	@Override
+	public BatchFlightSearchResponse searchFlightsBatch(BatchFlightSearchRequest batch) {
+		List<FlightSearchRequest> requests = batch.getSearches();
+		boolean useIndex = useIndex();
+		Timer.Sample sample = Timer.start(meterRegistry);
+
+		Set<RouteDayKey> routeDays = new LinkedHashSet<>();
+		for (FlightSearchRequest request : requests) {
+			if (isRefined(request)) {
+				continue;
+			}
+			if (request.getFlexDays() == null || request.getFlexDays() == 0) {
+				routeDays.add(new RouteDayKey(request.getOrigin().toUpperCase(),
+						request.getDestination().toUpperCase(), request.getDepartureDate()));
+			}
+			if (isRoundTrip(request)) {
+				routeDays.add(new RouteDayKey(request.getDestination().toUpperCase(),
+						request.getOrigin().toUpperCase(), request.getReturnDate()));
+			}
+		}
+
+		DirectFlights directFlights;
+		if (useIndex) {
+			directFlights = this::searchFlightsFromIndex;
+		} else {
+			Map<RouteDayKey, List<FlightDto>> bookable = flightSearchCache.getAll(routeDays,
+					this::loadFlightsFromDatabase);
+			directFlights = (key, seats) -> bookable.getOrDefault(key, List.of()).stream()
+					.filter(flight -> flight.getAvailableSeats() >= seats)
+					.collect(Collectors.toList());
+		}
+
+		Map<FlightSearchRequest, FlightSearchResponse> responses = new HashMap<>();
+		List<FlightSearchResponse> results = new ArrayList<>(requests.size());
+		for (FlightSearchRequest request : requests) {
+			FlightSearchResponse response = responses.get(request);
+			if (response == null) {
+				response = search(request, useIndex, directFlights);
+				responses.put(request, response);
+			}
+			results.add(response);
+		}
+
+		sample.stop(Timer.builder("flight.search.batch")
+				.description("Batch flight search latency")
+				.tag("mode", useIndex ? "index" : "database")
+				.publishPercentiles(0.5, 0.95, 0.99)
+				.register(meterRegistry));
+		log.info("Batch search answered {} searches ({} unique) covering {} route/days", requests.size(),
+				responses.size(), routeDays.size());
+
+		return BatchFlightSearchResponse.builder()
+				.results(results)
+				.totalSearches(requests.size())
+				.uniqueSearches(responses.size())
+				.routeDaysQueried(routeDays.size())
+				.build();
+	}
+
+	private FlightSearchResponse search(FlightSearchRequest request, boolean useIndex, DirectFlights directFlights) {
+		boolean roundTrip = isRoundTrip(request);
+
+		LegResult outbound;
+		LegResult inbound = new LegResult(new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null);
+
+		if (roundTrip && !useIndex) {
+			List<Supplier<LegResult>> legs = List.of(
+					() -> searchOutboundLeg(request, false, directFlights),
+					() -> searchReturnLeg(request, false, directFlights));
+			List<LegResult> results = parallelLegExecutor.invokeAll(legs);
+			outbound = results.get(0);
+			inbound = results.get(1);
+		} else {
+			outbound = searchOutboundLeg(request, useIndex, directFlights);
+			if (roundTrip) {
+				inbound = searchReturnLeg(request, useIndex, directFlights);
+			}
 		}
 
-		int totalResults = outboundFlights.size() + returnFlights.size();
+		List<FlightDto> outboundFlights = outbound.getFlights();
+		List<FlightDto> returnFlights = inbound.getFlights();
+		List<ItineraryDto> outboundConnections = outbound.getConnections();
+		List<ItineraryDto> returnConnections = inbound.getConnections();
+		List<FlexibleDateDto> flexibleDates = outbound.getFlexibleDates();
+
+		int totalResults = outboundFlights.size() + returnFlights.size()
+				+ outboundConnections.size() + returnConnections.size();
 
 		SearchMetadata metadata = SearchMetadata.builder()
-				.searchId("search_" + UUID.randomUUID().toString().replace("-", "").substring(0, 10))
+				.searchId(newSearchId())
 				.searchTime(LocalDateTime.now())
 				.totalResults(totalResults)
 				.currency("COP")
+				.outboundNextCursor(outbound.getNextCursor())
+				.returnNextCursor(inbound.getNextCursor())
 				.build();
 
-		return FlightSearchResponse.builder()
+		FlightSearchResponse response = FlightSearchResponse.builder()
 				.outboundFlights(outboundFlights)
 				.returnFlights(returnFlights)
+				.outboundConnections(outboundConnections)
+				.returnConnections(returnConnections)
+				.flexibleDates(flexibleDates)
 				.metadata(metadata)
 				.build();
+		searchSnapshotStore.save(response);
+		return response;
 	}
 
-	private List<FlightDto> searchFlightsFromDatabase(FlightSearchRequest request) {
-		LocalDateTime startOfDay = request.getDepartureDate().atStartOfDay();
-		LocalDateTime nextDay = startOfDay.plusDays(1);
+	@Override
+	@Transactional(readOnly = true)
+	public void streamFlights(FlightSearchRequest request, Consumer<FlightStreamItem> sink) {
+		log.info("Streaming flights from {} to {} on {}",
+				request.getOrigin(), request.getDestination(), request.getDepartureDate());
 
-		List<Flight> flights = flightRepository.findAvailableFlights(
-				request.getOrigin().toUpperCase(),
-				request.getDestination().toUpperCase(),
-				startOfDay,
-				nextDay);
+		boolean useIndex = useIndex();
+		int seats = requiredSeats(request);
+		AtomicInteger totalResults = new AtomicInteger();
+		Consumer<FlightStreamItem> counting = item -> {
+			totalResults.incrementAndGet();
+			sink.accept(item);
+		};
+
+		streamLeg("outbound", request.getOrigin(), request.getDestination(), request.getDepartureDate(), seats,
+				useIndex, counting);
+		if (isRoundTrip(request)) {
+			streamLeg("return", request.getDestination(), request.getOrigin(), request.getReturnDate(), seats,
+					useIndex, counting);
+		}
 
-		if (flights.isEmpty()) {
-			log.info("No flights found in database for date: {}", request.getDepartureDate());
-			return new ArrayList<>();
+		sink.accept(FlightStreamItem.complete(newSearchId(), totalResults.get()));
+	}
+
+	private void streamLeg(String leg, String origin, String destination, LocalDate date, int seats,
+			boolean useIndex, Consumer<FlightStreamItem> sink) {
+		if (useIndex) {
+			flightSearchIndex.findAvailableFlights(origin.toUpperCase(), destination.toUpperCase(), date, seats)
+					.forEach(flight -> sink.accept(FlightStreamItem.flight(leg, convertToFlightDto(flight))));
+			return;
 		}
 
-		log.info("Found {} flights in database", flights.size());
+		try (Stream<FlightDto> flights = flightRepository.streamAvailableFlightDtos(
+				origin.toUpperCase(),
+				destination.toUpperCase(),
+				date.atStartOfDay(),
+				date.plusDays(1).atStartOfDay(),
+				seats)) {
+			flights.forEach(flight -> sink.accept(FlightStreamItem.flight(leg, flight)));
+		}
+	}
+
+	@Override
+	public SearchResultsPage getSearchResults(String searchId, SearchResultsQuery query) {
+		SearchSnapshot snapshot = searchSnapshotStore.find(searchId)
+				.orElseThrow(() -> new SearchNotFoundException(searchId));
+
+		List<FlightDto> outbound = refine(snapshot.getOutboundFlights(), query);
+		List<FlightDto> inbound = refine(snapshot.getReturnFlights(), query);
+		int largestLeg = Math.max(outbound.size(), inbound.size());
+
+		log.info("Serving page {} of search {} sorted by {} from snapshot", query.getPage(), searchId,
+				query.getSortKey());
+		return SearchResultsPage.builder()
+				.searchId(searchId)
+				.searchTime(snapshot.getSearchTime())
+				.outboundFlights(page(outbound, query))
+				.returnFlights(page(inbound, query))
+				.page(query.getPage())
+				.size(query.getSize())
+				.totalPages((largestLeg + query.getSize() - 1) / query.getSize())
+				.totalOutbound(outbound.size())
+				.totalReturn(inbound.size())
+				.build();
+	}
+
+	private List<FlightDto> refine(List<FlightDto> flights, SearchResultsQuery query) {
+		return flights.stream()
+				.filter(query::matches)
+				.sorted(query.comparator())
+				.collect(Collectors.toList());
+	}
+
+	private List<FlightDto> page(List<FlightDto> flights, SearchResultsQuery query) {
+		int from = Math.min(query.getPage() * query.getSize(), flights.size());
+		int to = Math.min(from + query.getSize(), flights.size());
+		return flights.subList(from, to);
+	}
+
+	private String newSearchId() {
+		return "search_" + UUID.randomUUID().toString().replace("-", "").substring(0, 10);
+	}
+
+	@Override
+	public FareCalendarResponse getFareCalendar(String origin, String destination, YearMonth month) {
+		String normalizedOrigin = origin.toUpperCase();
+		String normalizedDestination = destination.toUpperCase();
+
+		List<FareCalendarResponse.CalendarDay> days = fareCalendar
+				.lowestFares(normalizedOrigin, normalizedDestination, month)
+				.entrySet().stream()
+				.map(entry -> FareCalendarResponse.CalendarDay.builder()
+						.date(entry.getKey())
+						.lowestPrice(entry.getValue())
+						.build())
+				.collect(Collectors.toList());
+
+		return FareCalendarResponse.builder()
+				.origin(normalizedOrigin)
+				.destination(normalizedDestination)
+				.month(month.toString())
+				.currency("COP")
+				.days(days)
+				.build();
+	}
+
+	private LegResult searchOutboundLeg(FlightSearchRequest request, boolean useIndex, DirectFlights directFlights) {
+		int seats = requiredSeats(request);
+		List<FlightDto> flights = null;
+		String nextCursor = null;
+		List<FlexibleDateDto> flexibleDates = new ArrayList<>();
+
+		if (request.getFlexDays() != null && request.getFlexDays() > 0) {
+			Map<LocalDate, List<FlightDto>> flightsByDay = searchFlexibleDates(request, useIndex);
+			flights = flightsByDay.getOrDefault(request.getDepartureDate(), new ArrayList<>());
+			flexibleDates = flightsByDay.entrySet().stream()
+					.map(entry -> convertToFlexibleDateDto(entry.getKey(), entry.getValue()))
+					.collect(Collectors.toList());
+		}
+
+		if (isRefined(request)) {
+			FlightPage page = searchFlightPage(request, request.getOrigin(), request.getDestination(),
+					request.getDepartureDate(), request.getOutboundCursor(), useIndex);
+			flights = page.getFlights();
+			nextCursor = page.getNextCursor();
+		} else if (flights == null) {
+			flights = directFlights.find(new RouteDayKey(request.getOrigin().toUpperCase(),
+					request.getDestination().toUpperCase(), request.getDepartureDate()), seats);
+		}
+
+		List<ItineraryDto> connections = new ArrayList<>();
+		if (request.getMaxStops() != null && request.getMaxStops() > 0) {
+			connections = searchConnections(
+					request.getOrigin(), request.getDestination(), request.getDepartureDate(), seats, useIndex);
+		}
+
+		return new LegResult(flights, connections, flexibleDates, nextCursor);
+	}
+
+	private LegResult searchReturnLeg(FlightSearchRequest request, boolean useIndex, DirectFlights directFlights) {
+		int seats = requiredSeats(request);
+		List<FlightDto> flights;
+		String nextCursor = null;
+
+		if (isRefined(request)) {
+			FlightPage page = searchFlightPage(request, request.getDestination(), request.getOrigin(),
+					request.getReturnDate(), request.getReturnCursor(), useIndex);
+			flights = page.getFlights();
+			nextCursor = page.getNextCursor();
+		} else {
+			flights = directFlights.find(new RouteDayKey(request.getDestination().toUpperCase(),
+					request.getOrigin().toUpperCase(), request.getReturnDate()), seats);
+		}
+
+		List<ItineraryDto> connections = new ArrayList<>();
+		if (request.getMaxStops() != null && request.getMaxStops() > 0) {
+			connections = searchConnections(
+					request.getDestination(), request.getOrigin(), request.getReturnDate(), seats, useIndex);
+		}
+
+		return new LegResult(flights, connections, new ArrayList<>(), nextCursor);
+	}
+
+	private boolean useIndex() {
+		return searchProperties.getMode() == FlightSearchProperties.SearchMode.INDEX && flightSearchIndex.isReady();
+	}
+
+	private boolean useAdminTextIndex(Pageable pageable) {
+		return adminFlightTextIndex.isReady() && adminFlightTextIndex.canSort(pageable.getSort());
+	}
+
+	private boolean isRoundTrip(FlightSearchRequest request) {
+		return "roundtrip".equals(request.getTripType()) && request.getReturnDate() != null;
+	}
+
+	private int requiredSeats(FlightSearchRequest request) {
+		return request.getPassengers() == null ? 1 : Math.max(1, request.getPassengers());
+	}
+
+	private boolean isRefined(FlightSearchRequest request) {
+		return request.getSortBy() != null
+				|| request.getSortDirection() != null
+				|| (request.getAirlines() != null && !request.getAirlines().isEmpty())
+				|| request.getMinPrice() != null
+				|| request.getMaxPrice() != null
+				|| request.getMaxDurationMinutes() != null
+				|| request.getDepartureTimeFrom() != null
+				|| request.getDepartureTimeTo() != null
+				|| request.getPageSize() != null
+				|| request.getOutboundCursor() != null
+				|| request.getReturnCursor() != null;
+	}
+
+	private FlightPage searchFlightPage(FlightSearchRequest request, String origin, String destination,
+			LocalDate date, String cursor, boolean useIndex) {
+		FlightSortKey sortKey = FlightSortKey.from(request.getSortBy());
+		boolean descending = "desc".equals(request.getSortDirection());
+		SearchCursor after = null;
+		if (cursor != null) {
+			after = SearchCursor.decode(cursor);
+			if (after.getSortKey() != sortKey || after.isDescending() != descending) {
+				throw new IllegalArgumentException("Search cursor does not match the requested sort order");
+			}
+		}
+
+		Integer pageSize = request.getPageSize();
+		FlightSearchCriteria criteria = FlightSearchCriteria.builder()
+				.origin(origin.toUpperCase())
+				.destination(destination.toUpperCase())
+				.departureFrom(request.getDepartureTimeFrom() == null
+						? date.atStartOfDay()
+						: date.atTime(request.getDepartureTimeFrom()))
+				.departureTo(request.getDepartureTimeTo() == null
+						? date.plusDays(1).atStartOfDay()
+						: date.atTime(request.getDepartureTimeTo()))
+				.seats(requiredSeats(request))
+				.airlines(request.getAirlines() == null ? Set.of() : Set.copyOf(request.getAirlines()))
+				.minPrice(request.getMinPrice())
+				.maxPrice(request.getMaxPrice())
+				.maxDurationMinutes(request.getMaxDurationMinutes())
+				.sortKey(sortKey)
+				.descending(descending)
+				.after(after)
+				.limit(pageSize == null ? null : pageSize + 1)
+				.build();
+
+		FlightPage page = useIndex
+				? toFlightPage(flightSearchIndex.search(criteria), criteria, pageSize,
+						snapshot -> snapshot, this::convertToFlightDto)
+				: toFlightPage(flightRepository.searchAvailableFlights(criteria), criteria, pageSize,
+						FlightSnapshot::from, this::convertToFlightDto);
+
+		log.info("Found {} flights sorted by {} for {} -> {} on {}", page.getFlights().size(), sortKey,
+				criteria.getOrigin(), criteria.getDestination(), date);
+		return page;
+	}
+
+	private <T> FlightPage toFlightPage(List<T> rows, FlightSearchCriteria criteria, Integer pageSize,
+			Function<T, FlightSnapshot> toSnapshot, Function<T, FlightDto> toDto) {
+		String nextCursor = null;
+		if (pageSize != null && rows.size() > pageSize) {
+			rows = rows.subList(0, pageSize);
+			FlightSnapshot last = toSnapshot.apply(rows.get(pageSize - 1));
+			nextCursor = SearchCursor.after(criteria.getSortKey(), criteria.isDescending(), last).encode();
+		}
+		return new FlightPage(rows.stream().map(toDto).collect(Collectors.toList()), nextCursor);
+	}
+
+	private List<FlightDto> searchFlightsFromIndex(RouteDayKey key, int seats) {
+		List<FlightSnapshot> flights = flightSearchIndex.findAvailableFlights(
+				key.getOrigin(),
+				key.getDestination(),
+				key.getDay(),
+				seats);
+
+		log.info("Found {} flights in index for date: {}", flights.size(), key.getDay());
 		return flights.stream()
 				.map(this::convertToFlightDto)
 				.collect(Collectors.toList());
 	}
 
-	private List<FlightDto> searchReturnFlightsFromDatabase(FlightSearchRequest request) {
-		LocalDateTime startOfDay = request.getReturnDate().atStartOfDay();
+	private Map<LocalDate, List<FlightDto>> searchFlexibleDates(FlightSearchRequest request, boolean useIndex) {
+		String origin = request.getOrigin().toUpperCase();
+		String destination = request.getDestination().toUpperCase();
+		LocalDate today = LocalDate.now();
+		LocalDate firstDay = request.getDepartureDate().minusDays(request.getFlexDays());
+		if (firstDay.isBefore(today)) {
+			firstDay = today;
+		}
+		LocalDate lastDay = request.getDepartureDate().plusDays(request.getFlexDays());
+		int seats = requiredSeats(request);
+
+		Map<LocalDate, List<FlightDto>> flightsByDay = new TreeMap<>();
+		for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+			flightsByDay.put(day, new ArrayList<>());
+		}
+
+		if (useIndex) {
+			for (LocalDate day : flightsByDay.keySet()) {
+				flightSearchIndex.findAvailableFlights(origin, destination, day, seats).stream()
+						.map(this::convertToFlightDto)
+						.forEach(flightsByDay.get(day)::add);
+			}
+		} else {
+			List<FlightDto> flights = flightRepository.findAvailableFlightDtos(
+					origin,
+					destination,
+					firstDay.atStartOfDay(),
+					lastDay.plusDays(1).atStartOfDay(),
+					seats);
+			for (FlightDto flight : flights) {
+				flightsByDay.get(flight.getDepartureTime().toLocalDate()).add(flight);
+			}
+		}
+
+		log.info("Flexible date search {} -> {} from {} to {} covered {} days",
+				origin, destination, firstDay, lastDay, flightsByDay.size());
+		return flightsByDay;
+	}
+
+	private FlexibleDateDto convertToFlexibleDateDto(LocalDate date, List<FlightDto> flights) {
+		return FlexibleDateDto.builder()
+				.date(date)
+				.cheapestPrice(flights.stream()
+						.map(FlightDto::getPrice)
+						.min(Comparator.naturalOrder())
+						.orElse(null))
+				.totalFlights(flights.size())
+				.flights(flights)
+				.build();
+	}
+
+	private List<ItineraryDto> searchConnections(String origin, String destination, LocalDate date, int seats,
+			boolean useIndex) {
+		List<Itinerary> itineraries = connectionSearch.findOneStopItineraries(
+				origin.toUpperCase(),
+				destination.toUpperCase(),
+				date,
+				seats,
+				useIndex);
+
+		log.info("Found {} one-stop itineraries for date: {}", itineraries.size(), date);
+		return itineraries.stream()
+				.map(this::convertToItineraryDto)
+				.collect(Collectors.toList());
+	}
+
+	private List<FlightDto> searchFlightsFromDatabase(RouteDayKey key, int seats) {
+		return new ArrayList<>(flightSearchCache.get(key, seats, this::loadFlightsFromDatabase));
+	}
+
+	private Map<RouteDayKey, List<FlightDto>> loadFlightsFromDatabase(Set<RouteDayKey> keys) {
+		Map<RouteDayKey, List<FlightDto>> flightsByKey = new HashMap<>();
+		keys.forEach(key -> flightsByKey.put(key, new ArrayList<>()));
+		for (FlightDto flight : flightRepository.findBookableFlightDtos(keys)) {
+			RouteDayKey key = new RouteDayKey(flight.getOrigin(), flight.getDestination(),
+					flight.getDepartureTime().toLocalDate());
+			flightsByKey.get(key).add(flight);
+		}
+
+		log.info("Loaded {} route/days from database in one query", keys.size());
+		flightsByKey.replaceAll((key, flights) -> List.copyOf(flights));
+		return flightsByKey;
+	}
+
+	private List<FlightDto> loadFlightsFromDatabase(RouteDayKey key, int seats) {
+		LocalDateTime startOfDay = key.getDay().atStartOfDay();
 		LocalDateTime nextDay = startOfDay.plusDays(1);
 
-		List<Flight> flights = flightRepository.findAvailableFlights(
-				request.getDestination().toUpperCase(),
-				request.getOrigin().toUpperCase(),
+		List<FlightDto> flights = flightRepository.findAvailableFlightDtos(
+				key.getOrigin(),
+				key.getDestination(),
 				startOfDay,
-				nextDay);
+				nextDay,
+				seats);
 
 		if (flights.isEmpty()) {
-			log.info("No return flights found in database for date: {}", request.getReturnDate());
+			log.info("No flights found in database for {} -> {} on {}", key.getOrigin(), key.getDestination(),
+					key.getDay());
 			return new ArrayList<>();
 		}
 
-		log.info("Found {} return flights in database", flights.size());
-		return flights.stream()
-				.map(this::convertToFlightDto)
-				.collect(Collectors.toList());
+		log.info("Found {} flights in database", flights.size());
+		return flights;
 	}
 
 	private FlightDto convertToFlightDto(Flight flight) {
@@ -122,6 +608,35 @@ public class FlightServiceImpl implements FlightService {
 				.build();
 	}
 
+	private FlightDto convertToFlightDto(FlightSnapshot flight) {
+		return FlightDto.builder()
+				.flightNumber(flight.getFlightNumber())
+				.airline(flight.getAirline())
+				.origin(flight.getOrigin())
+				.destination(flight.getDestination())
+				.departureTime(flight.getDepartureTime())
+				.arrivalTime(flight.getArrivalTime())
+				.duration(flight.getDuration())
+				.price(flight.getPrice())
+				.aircraftType(flight.getAircraftType())
+				.availableSeats(flight.getAvailableSeats())
+				.cabinClass(flight.getCabinClass())
+				.build();
+	}
+
+	private ItineraryDto convertToItineraryDto(Itinerary itinerary) {
+		return ItineraryDto.builder()
+				.segments(itinerary.getSegments().stream()
+						.map(this::convertToFlightDto)
+						.collect(Collectors.toList()))
+				.stops(itinerary.getStops())
+				.departureTime(itinerary.getDepartureTime())
+				.arrivalTime(itinerary.getArrivalTime())
+				.totalDuration(itinerary.getTotalMinutes() / 60 + "h " + itinerary.getTotalMinutes() % 60 + "m")
+				.totalPrice(itinerary.getTotalPrice())
+				.build();
+	}
+
 	@Override
 	@Transactional
 	public FlightAdminDto createFlight(CreateFlightRequest request) {
@@ -141,8 +656,10 @@ public class FlightServiceImpl implements FlightService {
 				.cabinClass(request.getCabinClass())
 				.active(request.getActive())
 				.build();
+		flight.refreshDurationMinutes();
 
 		Flight savedFlight = flightRepository.save(flight);
+		eventPublisher.publishEvent(FlightChangedEvent.created(FlightSnapshot.from(savedFlight)));
 		log.info("Created new flight: {}", savedFlight.getFlightNumber());
 
 		return convertToFlightAdminDto(savedFlight);
@@ -162,6 +679,17 @@ public class FlightServiceImpl implements FlightService {
 				.map(this::convertToFlightAdminDto);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<FlightAdminDto> getAllFlights(Pageable pageable, PageCountMode countMode) {
+		return switch (countMode) {
+			case EXACT -> getAllFlights(pageable);
+			case NONE -> flightRepository.findAllBy(pageable).map(this::convertToFlightAdminDto);
+			case ESTIMATED -> withEstimatedTotal(flightRepository.findAllBy(pageable),
+					flightRepository.estimateFlightCount()).map(this::convertToFlightAdminDto);
+		};
+	}
+
 	@Override
 	@Transactional
 	public FlightAdminDto updateFlight(Long id, UpdateFlightRequest request) {
@@ -174,8 +702,11 @@ public class FlightServiceImpl implements FlightService {
 							: existingFlight.getDepartureTime());
 		}
 
+		FlightSnapshot previous = FlightSnapshot.from(existingFlight);
 		updateFlightFields(existingFlight, request);
+		existingFlight.refreshDurationMinutes();
 		Flight updatedFlight = flightRepository.save(existingFlight);
+		eventPublisher.publishEvent(FlightChangedEvent.updated(previous, FlightSnapshot.from(updatedFlight)));
 
 		log.info("Updated flight: {}", updatedFlight.getFlightNumber());
 		return convertToFlightAdminDto(updatedFlight);
@@ -185,7 +716,12 @@ public class FlightServiceImpl implements FlightService {
 	@Transactional
 	public void deleteFlight(Long id) {
 		Flight flight = findFlightById(id);
+		if (flightRepository.hasBookingsOrHolds(id)) {
+			throw new FlightInUseException("Flight " + flight.getFlightNumber() +
+					" has bookings or seat holds and cannot be deleted; deactivate it instead");
+		}
 		flightRepository.delete(flight);
+		eventPublisher.publishEvent(FlightChangedEvent.deleted(FlightSnapshot.from(flight)));
 		log.info("Deleted flight: {}", flight.getFlightNumber());
 	}
 
@@ -226,6 +762,7 @@ public class FlightServiceImpl implements FlightService {
 				.departureTime(flight.getDepartureTime())
 				.arrivalTime(flight.getArrivalTime())
 				.duration(flight.getDuration())
+				.durationMinutes(flight.getDurationMinutes())
 				.price(flight.getPrice())
 				.aircraftType(flight.getAircraftType())
 				.availableSeats(flight.getAvailableSeats())
@@ -266,8 +803,7 @@ public class FlightServiceImpl implements FlightService {
 	@Override
 	@Transactional(readOnly = true)
 	public List<FlightDto> getUpcomingFlights(int limit) {
-		List<Flight> flights = flightRepository.findUpcomingFlights(LocalDateTime.now(), PageRequest.of(0, limit));
-		return flights.stream().map(this::convertToFlightDto).collect(Collectors.toList());
+		return flightRepository.findUpcomingFlightDtos(LocalDateTime.now(), PageRequest.of(0, limit));
 	}
 
 	@Override
@@ -279,9 +815,102 @@ public class FlightServiceImpl implements FlightService {
 			return flightRepository.findAll(pageable).map(this::convertToFlightAdminDto);
 		}
 
-		Page<Flight> flights = flightRepository.searchFlightsByMultipleFields(searchTerm.trim(), pageable);
-		log.info("Found {} flights matching search term: {}", flights.getTotalElements(), searchTerm);
+		if (!useAdminTextIndex(pageable)) {
+			Page<Flight> flights = flightRepository.searchFlightsByMultipleFields(searchTerm.trim(), pageable);
+			log.info("Found {} flights matching search term: {}", flights.getTotalElements(), searchTerm);
+			return flights.map(this::convertToFlightAdminDto);
+		}
+
+		Page<Long> ids = adminFlightTextIndex.search(searchTerm, pageable);
+		Map<Long, Flight> flightsById = flightRepository.findAllById(ids.getContent()).stream()
+				.collect(Collectors.toMap(Flight::getId, Function.identity()));
+		log.info("Found {} flights matching search term: {}", ids.getTotalElements(), searchTerm);
+
+		List<FlightAdminDto> flights = ids.getContent().stream()
+				.map(flightsById::get)
+				.filter(Objects::nonNull)
+				.map(this::convertToFlightAdminDto)
+				.toList();
+		return new PageImpl<>(flights, pageable, ids.getTotalElements());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<FlightAdminDto> searchFlightsForAdmin(String searchTerm, Pageable pageable, PageCountMode countMode) {
+		if (countMode == PageCountMode.EXACT) {
+			return searchFlightsForAdmin(searchTerm, pageable);
+		}
+		if (searchTerm == null || searchTerm.trim().isEmpty()) {
+			return getAllFlights(pageable, countMode);
+		}
+		if (useAdminTextIndex(pageable)) {
+			Page<FlightAdminDto> flights = searchFlightsForAdmin(searchTerm, pageable);
+			return countMode == PageCountMode.NONE
+					? new SliceImpl<>(flights.getContent(), pageable, flights.hasNext())
+					: flights;
+		}
+
+		Slice<Flight> flights = flightRepository.searchFlightsByMultipleFieldsSlice(searchTerm.trim(), pageable);
+		if (countMode == PageCountMode.NONE) {
+			return flights.map(this::convertToFlightAdminDto);
+		}
+		return withEstimatedTotal(flights, flightRepository.estimateFlightSearchCount(searchTerm.trim()))
+				.map(this::convertToFlightAdminDto);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public FlightAdminCursorPage getAllFlightsByCursor(String sortBy, String sortDir, String cursor, int size) {
+		AdminSortKey sortKey = AdminSortKey.from(sortBy);
+		boolean descending = "desc".equalsIgnoreCase(sortDir);
+		AdminFlightCursor after = null;
+		if (cursor != null && !cursor.isBlank()) {
+			after = AdminFlightCursor.decode(cursor);
+			if (after.getSortKey() != sortKey || after.isDescending() != descending) {
+				throw new IllegalArgumentException("Admin flight cursor does not match the requested sort order");
+			}
+		}
+
+		List<Flight> flights = flightRepository.findAdminFlights(sortKey, descending, after, size + 1);
+		boolean hasNext = flights.size() > size;
+		if (hasNext) {
+			flights = flights.subList(0, size);
+		}
+
+		return FlightAdminCursorPage.builder()
+				.content(flights.stream().map(this::convertToFlightAdminDto).collect(Collectors.toList()))
+				.size(size)
+				.sortBy(sortKey.property())
+				.sortDir(descending ? "desc" : "asc")
+				.hasNext(hasNext)
+				.nextCursor(hasNext
+						? AdminFlightCursor.after(sortKey, descending, flights.get(size - 1)).encode()
+						: null)
+				.build();
+	}
+
+	private <T> Page<T> withEstimatedTotal(Slice<T> slice, long estimate) {
+		long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+		long total = slice.hasNext() ? Math.max(estimate, seen + 1) : seen;
+		return new PageImpl<>(slice.getContent(), slice.getPageable(), total);
+	}
+
+	@Value
+	private static class LegResult {
+		List<FlightDto> flights;
+		List<ItineraryDto> connections;
+		List<FlexibleDateDto> flexibleDates;
+		String nextCursor;
+	}
+
+	@Value
+	private static class FlightPage {
+		List<FlightDto> flights;
+		String nextCursor;
+	}
 
-		return flights.map(this::convertToFlightAdminDto);
+	@FunctionalInterface
+	private interface DirectFlights {
+		List<FlightDto> find(RouteDayKey key, int seats);
 	}
 }
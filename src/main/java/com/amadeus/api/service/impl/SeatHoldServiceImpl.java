@@ -0,0 +1,242 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.SeatHoldProperties;
+import com.amadeus.api.dto.request.SeatHoldRequest;
+import com.amadeus.api.dto.response.SeatHoldDto;
+import com.amadeus.api.entity.SeatHold;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.SeatHoldNotFoundException;
+import com.amadeus.api.exception.UserNotFoundException;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightSeatView;
+import com.amadeus.api.repository.SeatHoldExpiry;
+import com.amadeus.api.repository.SeatHoldRepository;
+import com.amadeus.api.repository.UserRepository;
+import com.amadeus.api.service.SeatHoldService;
+import com.amadeus.api.util.HashedTimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+// seat_holds rows are only read at startup, to rebuild the timing wheel.
+@Slf4j
+@Service
+public class SeatHoldServiceImpl implements SeatHoldService {
+
+    private final SeatHoldRepository seatHoldRepository;
+    private final FlightRepository flightRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SeatWriteCoalescer seatWriteCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatHoldProperties holdProperties;
+    private final HashedTimingWheel<String> wheel;
+    private final Map<String, HashedTimingWheel.Timeout<String>> timeouts = new ConcurrentHashMap<>();
+    private ScheduledExecutorService ticker;
+
+    @Autowired
+    public SeatHoldServiceImpl(SeatHoldRepository seatHoldRepository, FlightRepository flightRepository,
+            UserRepository userRepository, TransactionTemplate transactionTemplate,
+            SeatWriteCoalescer seatWriteCoalescer, ApplicationEventPublisher eventPublisher,
+            SeatHoldProperties holdProperties, MeterRegistry meterRegistry) {
+        this(seatHoldRepository, flightRepository, userRepository, transactionTemplate, seatWriteCoalescer,
+                eventPublisher, holdProperties, meterRegistry, System::nanoTime);
+    }
+
+    SeatHoldServiceImpl(SeatHoldRepository seatHoldRepository, FlightRepository flightRepository,
+            UserRepository userRepository, TransactionTemplate transactionTemplate,
+            SeatWriteCoalescer seatWriteCoalescer, ApplicationEventPublisher eventPublisher,
+            SeatHoldProperties holdProperties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.seatHoldRepository = seatHoldRepository;
+        this.flightRepository = flightRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.seatWriteCoalescer = seatWriteCoalescer;
+        this.eventPublisher = eventPublisher;
+        this.holdProperties = holdProperties;
+        this.wheel = new HashedTimingWheel<>(holdProperties.getTick(), holdProperties.getWheelSize(), nanoClock);
+        Gauge.builder("seat.holds.active", timeouts, Map::size).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        restore();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "seat-hold-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = holdProperties.getTick().toMillis();
+        ticker.scheduleAtFixedRate(this::expireDueHolds, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    void restore() {
+        LocalDateTime now = LocalDateTime.now();
+        List<SeatHoldExpiry> stored = seatHoldRepository.findAllExpiries();
+        stored.forEach(hold -> track(hold.getId(), Duration.between(now, hold.getExpiresAt())));
+        log.info("Seat holds restored: {} outstanding", stored.size());
+    }
+
+    void expireDueHolds() {
+        for (String holdId : wheel.advance()) {
+            timeouts.remove(holdId);
+            try {
+                if (release(holdId)) {
+                    log.debug("Seat hold {} expired", holdId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to release expired seat hold {}, retrying in {}: {}", holdId,
+                        holdProperties.getRetryDelay(), e.getMessage());
+                track(holdId, holdProperties.getRetryDelay());
+            }
+        }
+    }
+
+    @Override
+    public SeatHoldDto holdSeats(String userEmail, SeatHoldRequest request) {
+        Long userId = findUserId(userEmail);
+        int seats = request.getSeats();
+        LocalDateTime now = LocalDateTime.now();
+
+        HeldSeats held = seatWriteCoalescer.takeSeats(request.getFlightId(), seats, flight -> new HeldSeats(
+                seatHoldRepository.save(SeatHold.builder()
+                        .id(UUID.randomUUID().toString())
+                        .userId(userId)
+                        .flightId(flight.getId())
+                        .seats(seats)
+                        .totalPrice(flight.getPrice().multiply(BigDecimal.valueOf(seats)))
+                        .expiresAt(now.plus(holdProperties.getTtl()))
+                        .build()),
+                flight));
+        track(held.getHold().getId(), holdProperties.getTtl());
+
+        log.debug("Held {} seats on flight {} for user {} until {}", seats, held.getFlight().getFlightNumber(),
+                userId, held.getHold().getExpiresAt());
+        return convertToSeatHoldDto(held.getHold(), held.getFlight());
+    }
+
+    @Override
+    public void releaseHold(String userEmail, String holdId) {
+        Long userId = findUserId(userEmail);
+        seatHoldRepository.findById(holdId)
+                .filter(hold -> hold.getUserId().equals(userId))
+                .orElseThrow(() -> new SeatHoldNotFoundException(holdId));
+
+        if (!release(holdId)) {
+            throw new SeatHoldNotFoundException(holdId);
+        }
+        cancelTimeout(holdId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public SeatHold claimHold(Long userId, String holdId) {
+        SeatHold hold = seatHoldRepository.findById(holdId)
+                .filter(candidate -> candidate.getUserId().equals(userId))
+                .filter(candidate -> candidate.getExpiresAt().isAfter(LocalDateTime.now()))
+                .orElseThrow(() -> new SeatHoldNotFoundException(holdId));
+        if (seatHoldRepository.deleteHold(holdId) == 0) {
+            throw new SeatHoldNotFoundException(holdId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cancelTimeout(holdId);
+                }
+            });
+        } else {
+            cancelTimeout(holdId);
+        }
+        return hold;
+    }
+
+    @Override
+    public int activeHolds() {
+        return timeouts.size();
+    }
+
+    private boolean release(String holdId) {
+        LocalDateTime now = LocalDateTime.now();
+        Boolean released = transactionTemplate.execute(status -> {
+            SeatHold hold = seatHoldRepository.findById(holdId).orElse(null);
+            if (hold == null || seatHoldRepository.deleteHold(holdId) == 0) {
+                return false;
+            }
+            if (flightRepository.incrementAvailableSeats(hold.getFlightId(), hold.getSeats(), now) > 0) {
+                flightRepository.findSeatView(hold.getFlightId()).ifPresent(flight ->
+                        eventPublisher.publishEvent(FlightSeatsChangedEvent.of(flight, hold.getSeats())));
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(released);
+    }
+
+    private void track(String holdId, Duration delay) {
+        HashedTimingWheel.Timeout<String> previous = timeouts.put(holdId, wheel.schedule(holdId, delay));
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    private void cancelTimeout(String holdId) {
+        HashedTimingWheel.Timeout<String> timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    private Long findUserId(String userEmail) {
+        return userRepository.findEnabledIdByEmail(userEmail)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + userEmail));
+    }
+
+    private SeatHoldDto convertToSeatHoldDto(SeatHold hold, FlightSeatView flight) {
+        return SeatHoldDto.builder()
+                .holdId(hold.getId())
+                .flightId(hold.getFlightId())
+                .flightNumber(flight.getFlightNumber())
+                .seats(hold.getSeats())
+                .totalPrice(hold.getTotalPrice())
+                .expiresAt(hold.getExpiresAt())
+                .build();
+    }
+
+    @Value
+    private static class HeldSeats {
+        SeatHold hold;
+        FlightSeatView flight;
+    }
+}
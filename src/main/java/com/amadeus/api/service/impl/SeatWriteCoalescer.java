@@ -0,0 +1,291 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.ReplicaRoutingDataSource;
+import com.amadeus.api.config.SeatWriteProperties;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.SeatWriterUnavailableException;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightSeatView;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// Results are handed out only after the batch has committed.
+@Slf4j
+@Component
+public class SeatWriteCoalescer implements DisposableBean {
+
+    static final int MAX_ATTEMPTS = 3;
+
+    private final FlightRepository flightRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SeatWriteProperties writeProperties;
+    private final DistributionSummary batchSizes;
+    private final Timer commitLatency;
+    private final BlockingQueue<PendingWrite<?>> queue = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public SeatWriteCoalescer(FlightRepository flightRepository, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, SeatWriteProperties writeProperties,
+            MeterRegistry meterRegistry) {
+        this.flightRepository = flightRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.writeProperties = writeProperties;
+        this.batchSizes = DistributionSummary.builder("seat.writes.batch.size")
+                .description("Seat requests applied per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitLatency = Timer.builder("seat.writes.commit")
+                .description("Time to apply and commit one batch of seat requests")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        if (writeProperties.isCoalesce()) {
+            writer = new Thread(this::drain, "seat-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+    }
+
+    public <T> T takeSeats(Long flightId, int seats, Function<FlightSeatView, T> onTaken) {
+        PendingWrite<T> write = new PendingWrite<>(flightId, seats, onTaken);
+        if (writer == null) {
+            flush(List.of(write));
+        } else if (!running || !queue.offer(write)) {
+            throw new SeatWriterUnavailableException("Seat writer is shutting down");
+        }
+
+        try {
+            return write.result.get(writeProperties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SeatWriterUnavailableException("Seat write failed: " + e.getCause());
+        } catch (TimeoutException e) {
+            if (!write.abandon(e)) {
+                return awaitCommitted(write);
+            }
+            throw new SeatWriterUnavailableException("Seat writer did not answer within "
+                    + writeProperties.getTimeout().toMillis() + " ms, try again");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!write.abandon(e)) {
+                return awaitCommitted(write);
+            }
+            throw new SeatWriterUnavailableException("Interrupted while waiting for the seat writer");
+        }
+    }
+
+    // Once a batch has claimed the write its transaction may commit, so the caller must see that outcome.
+    private static <T> T awaitCommitted(PendingWrite<T> write) {
+        try {
+            return write.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new SeatWriterUnavailableException("Seat write failed: " + e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+        }
+        SeatWriterUnavailableException shutdown = new SeatWriterUnavailableException("Seat writer is shutting down");
+        for (PendingWrite<?> write = queue.poll(); write != null; write = queue.poll()) {
+            write.result.completeExceptionally(shutdown);
+        }
+    }
+
+    private void drain() {
+        List<PendingWrite<?>> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + writeProperties.getWindow().toNanos();
+                while (batch.size() < writeProperties.getMaxBatchSize()) {
+                    PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                SeatWriterUnavailableException shutdown =
+                        new SeatWriterUnavailableException("Seat writer is shutting down");
+                batch.forEach(write -> write.result.completeExceptionally(shutdown));
+                return;
+            } catch (Throwable e) {
+                log.error("Seat writer failed a batch of {} requests", batch.size(), e);
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void flush(List<PendingWrite<?>> requested) {
+        List<PendingWrite<?>> batch = requested.stream()
+                .filter(PendingWrite::claim)
+                .toList();
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Map<Long, List<PendingWrite<?>>> byFlight = new LinkedHashMap<>();
+                batch.forEach(write -> byFlight.computeIfAbsent(write.flightId, id -> new ArrayList<>()).add(write));
+                byFlight.forEach((flightId, writes) -> applyToFlight(flightId, writes, now));
+            });
+            commitLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batch.forEach(PendingWrite::complete);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result.completeExceptionally(e);
+            } else {
+                log.warn("Seat batch of {} requests failed, applying them one by one: {}", batch.size(),
+                        e.getMessage());
+                batch.forEach(write -> flush(List.of(write)));
+            }
+        }
+    }
+
+    private void applyToFlight(Long flightId, List<PendingWrite<?>> writes, LocalDateTime now) {
+        List<PendingWrite<?>> admitted = writes;
+        int attempts = 0;
+        while (!admitted.isEmpty()
+                && flightRepository.decrementAvailableSeats(flightId, totalSeats(admitted), now) == 0) {
+            FlightSeatView flight = flightRepository.findSeatView(flightId).orElse(null);
+            if (flight == null) {
+                writes.forEach(write -> write.reject(new FlightNotFoundException(flightId)));
+                return;
+            }
+            if (++attempts == MAX_ATTEMPTS) {
+                writes.forEach(write -> write.reject(new SeatsUnavailableException(
+                        "Seats on flight " + flight.getFlightNumber() + " are changing too quickly, try again")));
+                return;
+            }
+            admitted = admit(writes, flight, now);
+        }
+        if (admitted.isEmpty()) {
+            return;
+        }
+
+        FlightSeatView flight = flightRepository.findSeatView(flightId)
+                .orElseThrow(() -> new FlightNotFoundException(flightId));
+        eventPublisher.publishEvent(FlightSeatsChangedEvent.of(flight, -totalSeats(admitted)));
+        admitted.forEach(write -> write.take(flight));
+    }
+
+    private List<PendingWrite<?>> admit(List<PendingWrite<?>> writes, FlightSeatView flight, LocalDateTime now) {
+        boolean open = flight.isActive() && flight.getDepartureTime().isAfter(now);
+        int remaining = flight.getAvailableSeats();
+        List<PendingWrite<?>> admitted = new ArrayList<>();
+        for (PendingWrite<?> write : writes) {
+            if (open && write.seats <= remaining) {
+                remaining -= write.seats;
+                admitted.add(write);
+            } else {
+                write.reject(new SeatsUnavailableException(flight.unavailableReason(write.seats, now)));
+            }
+        }
+        return admitted;
+    }
+
+    private static int totalSeats(List<PendingWrite<?>> writes) {
+        return writes.stream().mapToInt(write -> write.seats).sum();
+    }
+
+    static final class PendingWrite<T> {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int ABANDONED = 2;
+
+        private final Long flightId;
+        private final int seats;
+        private final Function<FlightSeatView, T> onTaken;
+        private final String caller = ReplicaRoutingDataSource.currentCaller();
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private T value;
+        private RuntimeException failure;
+
+        PendingWrite(Long flightId, int seats, Function<FlightSeatView, T> onTaken) {
+            this.flightId = flightId;
+            this.seats = seats;
+            this.onTaken = onTaken;
+        }
+
+        CompletableFuture<T> result() {
+            return result;
+        }
+
+        private boolean claim() {
+            return !result.isDone() && (state.compareAndSet(QUEUED, CLAIMED) || state.get() == CLAIMED);
+        }
+
+        private boolean abandon(Throwable reason) {
+            if (state.compareAndSet(QUEUED, ABANDONED)) {
+                result.completeExceptionally(reason);
+                return true;
+            }
+            return false;
+        }
+
+        private void take(FlightSeatView flight) {
+            failure = null;
+            value = onTaken.apply(flight);
+            ReplicaRoutingDataSource.pinCallerOnCommit(caller);
+        }
+
+        private void reject(RuntimeException reason) {
+            value = null;
+            failure = reason;
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
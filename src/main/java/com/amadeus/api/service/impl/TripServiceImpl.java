@@ -0,0 +1,91 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.BookingProperties;
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.dto.response.TripPage;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.exception.UserNotFoundException;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.repository.TripCursor;
+import com.amadeus.api.repository.TripView;
+import com.amadeus.api.repository.UserRepository;
+import com.amadeus.api.service.TripService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TripServiceImpl implements TripService {
+
+    private final BookingRepository bookingRepository;
+    private final UserRepository userRepository;
+    private final UpcomingTripsCache upcomingTripsCache;
+    private final BookingProperties bookingProperties;
+
+    @Override
+    public TripPage getTrips(String userEmail, String cursor, int size) {
+        Long userId = findUserId(userEmail);
+        PageRequest limit = PageRequest.ofSize(size + 1);
+
+        List<TripView> trips;
+        if (cursor == null || cursor.isBlank()) {
+            trips = bookingRepository.findTrips(userId, limit);
+        } else {
+            TripCursor after = TripCursor.decode(cursor);
+            trips = bookingRepository.findTripsBefore(userId, after.getDepartureTime(), after.getId(), limit);
+        }
+
+        boolean hasNext = trips.size() > size;
+        if (hasNext) {
+            trips = trips.subList(0, size);
+        }
+        return TripPage.builder()
+                .content(trips.stream().map(this::convertToTripDto).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? TripCursor.after(trips.get(size - 1)).encode() : null)
+                .build();
+    }
+
+    @Override
+    public List<TripDto> getUpcomingTrips(String userEmail) {
+        Long userId = findUserId(userEmail);
+        int limit = bookingProperties.getUpcomingTrips().getLimit();
+
+        List<TripDto> upcoming = upcomingTripsCache.get(userId, id -> bookingRepository.findUpcomingTrips(
+                        id, BookingStatus.CONFIRMED, LocalDateTime.now(), PageRequest.ofSize(limit)).stream()
+                .map(this::convertToTripDto)
+                .toList());
+
+        LocalDateTime now = LocalDateTime.now();
+        return upcoming.stream()
+                .filter(trip -> trip.getDepartureTime().isAfter(now))
+                .toList();
+    }
+
+    private Long findUserId(String userEmail) {
+        return userRepository.findEnabledIdByEmail(userEmail)
+                .orElseThrow(() -> new UserNotFoundException("User not found: " + userEmail));
+    }
+
+    private TripDto convertToTripDto(TripView trip) {
+        return TripDto.builder()
+                .bookingId(trip.getId())
+                .reference(trip.getReference())
+                .flightId(trip.getFlightId())
+                .flightNumber(trip.getFlightNumber())
+                .origin(trip.getOrigin())
+                .destination(trip.getDestination())
+                .departureTime(trip.getDepartureTime())
+                .seats(trip.getSeats())
+                .totalPrice(trip.getTotalPrice())
+                .status(trip.getStatus().name())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.BookingProperties;
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.event.BookingChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class UpcomingTripsCache {
+
+    private final Cache<Long, List<TripDto>> cache;
+    private final boolean enabled;
+
+    public UpcomingTripsCache(BookingProperties bookingProperties, MeterRegistry meterRegistry) {
+        BookingProperties.UpcomingTrips settings = bookingProperties.getUpcomingTrips();
+        this.enabled = settings.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(settings.getMaximumSize())
+                .expireAfterWrite(settings.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "upcomingTrips");
+    }
+
+    public List<TripDto> get(Long userId, Function<Long, List<TripDto>> loader) {
+        if (!enabled) {
+            return loader.apply(userId);
+        }
+        return cache.get(userId, key -> List.copyOf(loader.apply(key)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        cache.invalidate(event.getUserId());
+    }
+}
@@ -0,0 +1,37 @@
+package com.amadeus.api.util;
+
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.random.RandomGenerator;
+
+// No 0, O, 1 or I, so references survive being read out over the phone.
+@Component
+public class BookingReferenceGenerator {
+
+    static final String ALPHABET = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    public static final int LENGTH = 6;
+
+    private final RandomGenerator random;
+
+    public BookingReferenceGenerator() {
+        this(new SecureRandom());
+    }
+
+    BookingReferenceGenerator(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public String next() {
+        char[] reference = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            reference[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(reference);
+    }
+
+    public static String normalize(String reference) {
+        return reference == null ? "" : reference.trim().toUpperCase(Locale.ROOT);
+    }
+}
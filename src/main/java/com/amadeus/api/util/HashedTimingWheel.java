@@ -0,0 +1,151 @@
+package com.amadeus.api.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+// schedule and cancel are thread-safe; advance is driven by a single ticker thread.
+public class HashedTimingWheel<T> {
+
+    private final long tickNanos;
+    private final List<List<Timeout<T>>> buckets;
+    private final int mask;
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private long currentTick;
+
+    public HashedTimingWheel(Duration tick, int wheelSize, LongSupplier nanoClock) {
+        if (tick.isNegative() || tick.isZero()) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        if (wheelSize < 1) {
+            throw new IllegalArgumentException("Wheel size must be positive");
+        }
+        int normalizedSize = 1;
+        while (normalizedSize < wheelSize) {
+            normalizedSize <<= 1;
+        }
+
+        this.tickNanos = tick.toNanos();
+        this.mask = normalizedSize - 1;
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.buckets = new ArrayList<>(normalizedSize);
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    public Timeout<T> schedule(T value, Duration delay) {
+        long deadline = nanoClock.getAsLong() - startNanos + Math.max(0, delay.toNanos());
+        Timeout<T> timeout = new Timeout<>(this, value, deadline);
+        size.incrementAndGet();
+        pending.add(timeout);
+        return timeout;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int wheelSize() {
+        return buckets.size();
+    }
+
+    public synchronized List<T> advance() {
+        long targetTick = (nanoClock.getAsLong() - startNanos) / tickNanos;
+        List<T> expired = new ArrayList<>();
+        transferPending(expired);
+
+        while (currentTick <= targetTick) {
+            expireBucket(buckets.get((int) (currentTick & mask)), expired);
+            currentTick++;
+        }
+        return expired;
+    }
+
+    private void transferPending(List<T> expired) {
+        for (Timeout<T> timeout = pending.poll(); timeout != null; timeout = pending.poll()) {
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            long deadlineTick = (timeout.deadline + tickNanos - 1) / tickNanos;
+            if (deadlineTick < currentTick) {
+                // Its bucket has already been swept.
+                expire(timeout, expired);
+                continue;
+            }
+            timeout.remainingRounds = (deadlineTick - currentTick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(timeout);
+        }
+    }
+
+    private void expireBucket(List<Timeout<T>> bucket, List<T> expired) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout<T> timeout = bucket.get(i);
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                bucket.set(kept++, timeout);
+            } else {
+                expire(timeout, expired);
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void expire(Timeout<T> timeout, List<T> expired) {
+        if (timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            size.decrementAndGet();
+            expired.add(timeout.value);
+        }
+    }
+
+    public static final class Timeout<T> {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedTimingWheel<T> wheel;
+        private final T value;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private long remainingRounds;
+
+        private Timeout(HashedTimingWheel<T> wheel, T value, long deadline) {
+            this.wheel = wheel;
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        public T value() {
+            return value;
+        }
+
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                wheel.size.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+CREATE TABLE users (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    role        VARCHAR(255) NOT NULL,
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6),
+    last_login  TIMESTAMP(6),
+    enabled     BOOLEAN      NOT NULL DEFAULT TRUE,
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT ck_users_role CHECK (role IN ('ADMIN', 'USER'))
+);
+
+CREATE TABLE flights (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    flight_number    VARCHAR(255)   NOT NULL,
+    airline          VARCHAR(255)   NOT NULL,
+    origin           VARCHAR(255)   NOT NULL,
+    destination      VARCHAR(255)   NOT NULL,
+    departure_time   TIMESTAMP(6)   NOT NULL,
+    arrival_time     TIMESTAMP(6)   NOT NULL,
+    duration         VARCHAR(255)   NOT NULL,
+    price            NUMERIC(10, 2) NOT NULL,
+    aircraft_type    VARCHAR(255)   NOT NULL,
+    available_seats  INTEGER        NOT NULL,
+    cabin_class      VARCHAR(255)   NOT NULL,
+    active           BOOLEAN        NOT NULL,
+    created_at       TIMESTAMP(6)   NOT NULL,
+    updated_at       TIMESTAMP(6)   NOT NULL
+);
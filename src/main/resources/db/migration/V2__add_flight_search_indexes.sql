@@ -0,0 +1,14 @@
+-- Public search, streaming and the first connection leg: equality on the route, range on departure_time.
+-- Only active flights are ever searched, so deactivated rows stay out of the index.
+CREATE INDEX idx_flights_route_departure_active
+    ON flights (origin, destination, departure_time)
+    WHERE active;
+
+-- Second connection leg: flights arriving at the destination, by departure_time.
+CREATE INDEX idx_flights_destination_departure_active
+    ON flights (destination, departure_time)
+    WHERE active;
+
+-- Backs existsByFlightNumberAndDepartureTime and prevents duplicate schedule entries.
+CREATE UNIQUE INDEX ux_flights_number_departure
+    ON flights (flight_number, departure_time);
@@ -0,0 +1,11 @@
+ALTER TABLE flights ADD COLUMN duration_minutes INTEGER;
+
+UPDATE flights
+SET duration_minutes = (EXTRACT(EPOCH FROM (arrival_time - departure_time)) / 60)::INTEGER;
+
+ALTER TABLE flights ALTER COLUMN duration_minutes SET NOT NULL;
+
+-- Shortest-flight ordering within a route without re-deriving the duration per row.
+CREATE INDEX idx_flights_route_duration_active
+    ON flights (origin, destination, duration_minutes)
+    WHERE active;
@@ -0,0 +1,11 @@
+-- Keyset pagination of the admin listing: the sort column plus id as tie-breaker, so a
+-- continuation token seeks straight to its position instead of skipping earlier rows.
+-- Admins see inactive flights too, so these indexes are not partial.
+CREATE INDEX idx_flights_departure_id
+    ON flights (departure_time, id);
+
+CREATE INDEX idx_flights_price_id
+    ON flights (price, id);
+
+CREATE INDEX idx_flights_created_at_id
+    ON flights (created_at, id);
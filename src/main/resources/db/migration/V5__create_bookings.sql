@@ -0,0 +1,23 @@
+-- Seats are taken with one conditional UPDATE on flights.available_seats, so bookings reference
+-- users and flights by id only. The check constraint is the last line of defence against overselling.
+ALTER TABLE flights
+    ADD CONSTRAINT ck_flights_available_seats CHECK (available_seats >= 0);
+
+CREATE TABLE bookings (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT         NOT NULL,
+    flight_id    BIGINT         NOT NULL,
+    seats        INTEGER        NOT NULL,
+    total_price  NUMERIC(12, 2) NOT NULL,
+    status       VARCHAR(255)   NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    updated_at   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT fk_bookings_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_bookings_flight FOREIGN KEY (flight_id) REFERENCES flights (id),
+    CONSTRAINT ck_bookings_seats CHECK (seats > 0),
+    CONSTRAINT ck_bookings_status CHECK (status IN ('CONFIRMED', 'CANCELLED'))
+);
+
+CREATE INDEX idx_bookings_user ON bookings (user_id);
+
+CREATE INDEX idx_bookings_flight ON bookings (flight_id);
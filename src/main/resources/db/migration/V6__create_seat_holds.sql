@@ -0,0 +1,15 @@
+-- Outstanding seat holds. Expiry is driven by an in-memory timing wheel, never by polling this table;
+-- the rows only let the wheel be rebuilt after a restart. A hold is released or confirmed by deleting
+-- its row, so exactly one of the two can win.
+CREATE TABLE seat_holds (
+    id           VARCHAR(36)    PRIMARY KEY,
+    user_id      BIGINT         NOT NULL,
+    flight_id    BIGINT         NOT NULL,
+    seats        INTEGER        NOT NULL,
+    total_price  NUMERIC(12, 2) NOT NULL,
+    expires_at   TIMESTAMP(6)   NOT NULL,
+    created_at   TIMESTAMP(6)   NOT NULL,
+    CONSTRAINT fk_seat_holds_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_seat_holds_flight FOREIGN KEY (flight_id) REFERENCES flights (id),
+    CONSTRAINT ck_seat_holds_seats CHECK (seats > 0)
+);
@@ -0,0 +1,22 @@
+-- Existing bookings get their id written in base 32 over the reference alphabet, left-padded to six
+-- characters. Distinct ids give distinct references, and new references are checked against them.
+ALTER TABLE bookings
+    ADD COLUMN reference VARCHAR(8);
+
+UPDATE bookings b
+SET reference = (
+    SELECT string_agg(
+                   substr('ABCDEFGHJKLMNPQRSTUVWXYZ23456789', ((b.id / power(32, p)::BIGINT) % 32)::INTEGER + 1, 1),
+                   '' ORDER BY p DESC)
+    FROM generate_series(0, CASE
+                                WHEN b.id < 1073741824 THEN 5
+                                WHEN b.id < 34359738368 THEN 6
+                                ELSE 7
+                            END) AS p)
+WHERE reference IS NULL;
+
+ALTER TABLE bookings
+    ALTER COLUMN reference SET NOT NULL;
+
+ALTER TABLE bookings
+    ADD CONSTRAINT uk_bookings_reference UNIQUE (reference);
@@ -0,0 +1,29 @@
+-- "My trips" pages are keyset scans over (user_id, departure_time, id). Bookings keep a copy of the
+-- flight number, route and departure time, kept in step when a flight is rescheduled, and the index
+-- INCLUDEs every listed column. A page is therefore an index-only scan that never visits bookings or
+-- flights rows. The old user_id index is a prefix of the new one.
+ALTER TABLE bookings
+    ADD COLUMN flight_number VARCHAR(255),
+    ADD COLUMN origin VARCHAR(255),
+    ADD COLUMN destination VARCHAR(255),
+    ADD COLUMN departure_time TIMESTAMP(6);
+
+UPDATE bookings b
+SET flight_number  = f.flight_number,
+    origin         = f.origin,
+    destination    = f.destination,
+    departure_time = f.departure_time
+FROM flights f
+WHERE f.id = b.flight_id;
+
+ALTER TABLE bookings
+    ALTER COLUMN flight_number SET NOT NULL,
+    ALTER COLUMN origin SET NOT NULL,
+    ALTER COLUMN destination SET NOT NULL,
+    ALTER COLUMN departure_time SET NOT NULL;
+
+CREATE INDEX idx_bookings_user_departure
+    ON bookings (user_id, departure_time, id)
+    INCLUDE (reference, flight_id, flight_number, origin, destination, seats, total_price, status);
+
+DROP INDEX idx_bookings_user;
@@ -0,0 +1,193 @@
+package com.amadeus.api.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replicaOne;
+
+    @Mock
+    private DataSource replicaTwo;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaOneConnection;
+
+    @Mock
+    private Connection replicaTwoConnection;
+
+    private DataSourceRoutingProperties properties;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaOne.getConnection()).thenReturn(replicaOneConnection);
+        when(replicaTwo.getConnection()).thenReturn(replicaTwoConnection);
+        when(replicaOneConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaTwoConnection.isValid(anyInt())).thenReturn(true);
+
+        properties = new DataSourceRoutingProperties();
+        properties.setHealthCheckInterval(Duration.ofHours(1));
+        routing = newRouting();
+    }
+
+    @AfterEach
+    void tearDown() {
+        routing.destroy();
+        SecurityContextHolder.clearContext();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenTransactionIsNotReadOnly() throws SQLException {
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_ShouldRoundRobinReplicas_WhenTransactionIsReadOnly() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+    }
+
+    @Test
+    void checkReplicas_ShouldSkipUnhealthyReplicaAndFallBackToPrimary_WhenNoneHealthy() throws SQLException {
+        when(replicaOneConnection.isValid(anyInt())).thenReturn(false);
+        routing.checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.healthyReplicas()).containsExactly("replica-2");
+        assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+        assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+
+        when(replicaTwo.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicas()).isEmpty();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        when(replicaOneConnection.isValid(anyInt())).thenReturn(true);
+        routing.checkReplicas();
+
+        assertThat(routing.healthyReplicas()).containsExactly("replica-1");
+    }
+
+    @Test
+    void getConnection_ShouldFallBackToPrimary_WhenReplicaConnectionFails() throws SQLException {
+        when(replicaOne.getConnection()).thenThrow(new SQLException("too many connections"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(routing.healthyReplicas()).containsExactly("replica-2");
+    }
+
+    @Test
+    void getConnection_ShouldPinReadsToPrimary_AfterWriteCommits() throws SQLException {
+        actAs("a@example.com");
+        commitWriteTransaction();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void getConnection_ShouldKeepOtherCallersOnReplica_AfterWriteCommits() throws SQLException {
+        actAs("a@example.com");
+        commitWriteTransaction();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        actAs("b@example.com");
+        assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+        SecurityContextHolder.clearContext();
+        assertThat(routing.getConnection()).isSameAs(replicaTwoConnection);
+        actAs("a@example.com");
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void pinCallerOnCommit_ShouldPinCallersOfWritesCommittedOnAnotherThread() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection();
+        ReplicaRoutingDataSource.pinCallerOnCommit("a@example.com");
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        actAs("a@example.com");
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+    }
+
+    @Test
+    void getConnection_ShouldUseReplica_AfterWriteCommits_WhenPinningDisabled() throws SQLException {
+        routing.destroy();
+        properties.setPinPrimaryAfterWrite(Duration.ZERO);
+        routing = newRouting();
+
+        actAs("a@example.com");
+        commitWriteTransaction();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.getConnection()).isSameAs(replicaOneConnection);
+    }
+
+    private void commitWriteTransaction() throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        routing.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private void actAs(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+
+    private ReplicaRoutingDataSource newRouting() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replicaOne);
+        replicas.put("replica-2", replicaTwo);
+        return new ReplicaRoutingDataSource(primary, replicas, properties);
+    }
+}
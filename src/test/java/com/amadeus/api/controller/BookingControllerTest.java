@@ -0,0 +1,210 @@
+package com.amadeus.api.controller;
+
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.dto.request.SeatHoldRequest;
+import com.amadeus.api.dto.response.BookingDto;
+import com.amadeus.api.dto.response.SeatHoldDto;
+import com.amadeus.api.exception.BookingNotCancellableException;
+import com.amadeus.api.exception.BookingNotFoundException;
+import com.amadeus.api.exception.GlobalExceptionHandler;
+import com.amadeus.api.exception.SeatHoldNotFoundException;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.service.BookingService;
+import com.amadeus.api.service.SeatHoldService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BookingControllerTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    @InjectMocks
+    private BookingController bookingController;
+
+    private MockMvc mockMvc;
+    private ObjectMapper objectMapper;
+    private Principal principal;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(bookingController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        objectMapper = new ObjectMapper();
+        objectMapper.findAndRegisterModules();
+        principal = new UsernamePasswordAuthenticationToken("traveler@example.com", null);
+    }
+
+    @Test
+    void createBooking_ShouldBookSeatsForAuthenticatedUser() throws Exception {
+        CreateBookingRequest request = new CreateBookingRequest(7L, 2);
+        BookingDto booking = BookingDto.builder()
+                .id(1L)
+                .flightId(7L)
+                .flightNumber("AV123")
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .status("CONFIRMED")
+                .build();
+
+        when(bookingService.createBooking(eq("traveler@example.com"), any(CreateBookingRequest.class)))
+                .thenReturn(booking);
+
+        mockMvc.perform(post("/bookings")
+                .principal(principal)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.flightNumber").value("AV123"))
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void createBooking_ShouldReturnConflict_WhenSeatsAreGone() throws Exception {
+        when(bookingService.createBooking(eq("traveler@example.com"), any(CreateBookingRequest.class)))
+                .thenThrow(new SeatsUnavailableException("Only 1 seats left on flight AV123, requested 2"));
+
+        mockMvc.perform(post("/bookings")
+                .principal(principal)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateBookingRequest(7L, 2))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("SEATS_UNAVAILABLE"));
+    }
+
+    @Test
+    void createBooking_ShouldRejectInvalidSeatCount() throws Exception {
+        mockMvc.perform(post("/bookings")
+                .principal(principal)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CreateBookingRequest(7L, 0))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void cancelBooking_ShouldCancelOwnBooking() throws Exception {
+        when(bookingService.cancelBooking("traveler@example.com", 1L))
+                .thenReturn(BookingDto.builder().id(1L).status("CANCELLED").build());
+
+        mockMvc.perform(post("/bookings/1/cancel").principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+
+        verify(bookingService).cancelBooking("traveler@example.com", 1L);
+    }
+
+    @Test
+    void cancelBooking_ShouldReturnConflict_WhenBookingCannotBeCancelled() throws Exception {
+        when(bookingService.cancelBooking("traveler@example.com", 1L))
+                .thenThrow(new BookingNotCancellableException("Booking 1 is already cancelled"));
+
+        mockMvc.perform(post("/bookings/1/cancel").principal(principal))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("BOOKING_NOT_CANCELLABLE"));
+    }
+
+    @Test
+    void holdSeats_ShouldReturnHoldWithExpiry() throws Exception {
+        SeatHoldDto hold = SeatHoldDto.builder()
+                .holdId("hold-1")
+                .flightId(7L)
+                .flightNumber("AV123")
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .expiresAt(LocalDateTime.now().plusMinutes(15).withNano(0))
+                .build();
+        when(seatHoldService.holdSeats(eq("traveler@example.com"), any(SeatHoldRequest.class))).thenReturn(hold);
+
+        mockMvc.perform(post("/bookings/holds")
+                .principal(principal)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new SeatHoldRequest(7L, 2))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.holdId").value("hold-1"))
+                .andExpect(jsonPath("$.data.seats").value(2));
+    }
+
+    @Test
+    void releaseHold_ShouldReturnNotFound_WhenHoldHasExpired() throws Exception {
+        doThrow(new SeatHoldNotFoundException("hold-1"))
+                .when(seatHoldService).releaseHold("traveler@example.com", "hold-1");
+
+        mockMvc.perform(delete("/bookings/holds/hold-1").principal(principal))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("HOLD_NOT_FOUND"));
+    }
+
+    @Test
+    void confirmHold_ShouldCreateBooking() throws Exception {
+        when(bookingService.confirmHold("traveler@example.com", "hold-1"))
+                .thenReturn(BookingDto.builder().id(1L).seats(2).status("CONFIRMED").build());
+
+        mockMvc.perform(post("/bookings/holds/hold-1/confirm").principal(principal))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.status").value("CONFIRMED"));
+    }
+
+    @Test
+    void getBooking_ShouldLookUpOwnBookingByReference() throws Exception {
+        when(bookingService.getBooking("traveler@example.com", "K7QX2M"))
+                .thenReturn(BookingDto.builder().id(1L).reference("K7QX2M").status("CONFIRMED").build());
+
+        mockMvc.perform(get("/bookings/K7QX2M").principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.reference").value("K7QX2M"));
+    }
+
+    @Test
+    void getBooking_ShouldLetAdministratorsLookUpAnyBooking() throws Exception {
+        Principal admin = new UsernamePasswordAuthenticationToken("agent@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        when(bookingService.getBooking("K7QX2M"))
+                .thenReturn(BookingDto.builder().id(1L).reference("K7QX2M").status("CONFIRMED").build());
+
+        mockMvc.perform(get("/bookings/K7QX2M").principal(admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.reference").value("K7QX2M"));
+    }
+
+    @Test
+    void getBooking_ShouldReturnNotFound_ForUnknownReference() throws Exception {
+        when(bookingService.getBooking("traveler@example.com", "ZZZZZZ"))
+                .thenThrow(new BookingNotFoundException("ZZZZZZ"));
+
+        mockMvc.perform(get("/bookings/ZZZZZZ").principal(principal))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("BOOKING_NOT_FOUND"));
+    }
+}
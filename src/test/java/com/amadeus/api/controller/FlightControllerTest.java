@@ -1,47 +1,81 @@
 package com.amadeus.api.controller;
 
+import com.amadeus.api.dto.request.BatchFlightSearchRequest;
 import com.amadeus.api.dto.request.CreateFlightRequest;
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.amadeus.api.dto.request.FlightRepriceRequest;
 import com.amadeus.api.dto.request.FlightSearchRequest;
+import com.amadeus.api.dto.request.PageCountMode;
+import com.amadeus.api.dto.request.PriceAdjustment;
 import com.amadeus.api.dto.request.UpdateFlightRequest;
+import com.amadeus.api.dto.response.BatchFlightSearchResponse;
+import com.amadeus.api.dto.response.FareCalendarResponse;
+import com.amadeus.api.dto.response.FlightAdminCursorPage;
 import com.amadeus.api.dto.response.FlightAdminDto;
+import com.amadeus.api.dto.response.FlightImportError;
+import com.amadeus.api.dto.response.FlightImportReport;
+import com.amadeus.api.dto.response.FlightRepriceReport;
 import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.FlightStreamItem;
 import com.amadeus.api.dto.response.LocationDto;
 import com.amadeus.api.dto.response.SearchMetadata;
+import com.amadeus.api.dto.response.SearchResultsPage;
+import com.amadeus.api.exception.FlightInUseException;
+import com.amadeus.api.exception.FlightSearchTimeoutException;
+import com.amadeus.api.exception.GlobalExceptionHandler;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.SearchResultsQuery;
+import com.amadeus.api.service.FlightImportService;
+import com.amadeus.api.service.FlightRepricingService;
 import com.amadeus.api.service.FlightService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,6 +84,15 @@ class FlightControllerTest {
     @Mock
     private FlightService flightService;
 
+    @Mock
+    private FlightImportService flightImportService;
+
+    @Mock
+    private FlightRepricingService flightRepricingService;
+
+    @Spy
+    private ObjectMapper responseMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private FlightController flightController;
 
@@ -58,7 +101,9 @@ class FlightControllerTest {
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(flightController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(flightController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
         objectMapper = new ObjectMapper();
         objectMapper.findAndRegisterModules();
     }
@@ -124,6 +169,107 @@ class FlightControllerTest {
         verify(flightService).searchFlights(any(FlightSearchRequest.class));
     }
 
+    @Test
+    void searchFlights_ShouldReturnServiceUnavailable_WhenLegsMissTheDeadline() throws Exception {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureDate(LocalDate.now().plusDays(1))
+                .tripType("roundtrip")
+                .returnDate(LocalDate.now().plusDays(8))
+                .passengers(1)
+                .build();
+
+        when(flightService.searchFlights(any(FlightSearchRequest.class)))
+                .thenThrow(new FlightSearchTimeoutException("Flight search legs did not finish within 2000 ms"));
+
+        mockMvc.perform(post("/flights/search")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value("SEARCH_TIMEOUT"));
+    }
+
+    @Test
+    void getSearchResults_ShouldPassSortFiltersAndPageToService() throws Exception {
+        SearchResultsPage page = SearchResultsPage.builder()
+                .searchId("search_123")
+                .outboundFlights(List.of(createSampleFlightDto()))
+                .returnFlights(List.of())
+                .page(2)
+                .size(10)
+                .totalPages(3)
+                .totalOutbound(21)
+                .totalReturn(0)
+                .build();
+        when(flightService.getSearchResults(eq("search_123"), any(SearchResultsQuery.class))).thenReturn(page);
+
+        mockMvc.perform(get("/flights/search/search_123")
+                .param("sort", "price")
+                .param("direction", "desc")
+                .param("airlines", "Avianca")
+                .param("page", "2")
+                .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.outboundFlights[0].flightNumber").value("AV123"))
+                .andExpect(jsonPath("$.data.totalPages").value(3));
+
+        ArgumentCaptor<SearchResultsQuery> queryCaptor = ArgumentCaptor.forClass(SearchResultsQuery.class);
+        verify(flightService).getSearchResults(eq("search_123"), queryCaptor.capture());
+        assertThat(queryCaptor.getValue().getSortKey()).isEqualTo(FlightSortKey.PRICE);
+        assertThat(queryCaptor.getValue().isDescending()).isTrue();
+        assertThat(queryCaptor.getValue().getAirlines()).containsExactly("Avianca");
+        assertThat(queryCaptor.getValue().getPage()).isEqualTo(2);
+        assertThat(queryCaptor.getValue().getSize()).isEqualTo(10);
+    }
+
+    @Test
+    void searchFlightsBatch_ShouldReturnResultsInRequestOrder() throws Exception {
+        FlightSearchRequest toMadrid = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureDate(LocalDate.now().plusDays(1))
+                .tripType("oneway")
+                .passengers(1)
+                .build();
+        FlightSearchRequest toMiami = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MIAMI")
+                .departureDate(LocalDate.now().plusDays(1))
+                .tripType("oneway")
+                .passengers(1)
+                .build();
+
+        FlightDto miamiFlight = createSampleFlightDto();
+        miamiFlight.setFlightNumber("AV456");
+        miamiFlight.setDestination("MIAMI");
+        BatchFlightSearchResponse response = BatchFlightSearchResponse.builder()
+                .results(List.of(
+                        FlightSearchResponse.builder().outboundFlights(List.of(createSampleFlightDto())).build(),
+                        FlightSearchResponse.builder().outboundFlights(List.of(miamiFlight)).build()))
+                .totalSearches(2)
+                .uniqueSearches(2)
+                .routeDaysQueried(2)
+                .build();
+
+        when(flightService.searchFlightsBatch(any(BatchFlightSearchRequest.class))).thenReturn(response);
+
+        mockMvc.perform(post("/flights/search/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(BatchFlightSearchRequest.builder()
+                        .searches(List.of(toMadrid, toMiami))
+                        .build())))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.results[0].outboundFlights[0].flightNumber").value("AV123"))
+                .andExpect(jsonPath("$.data.results[1].outboundFlights[0].flightNumber").value("AV456"))
+                .andExpect(jsonPath("$.data.routeDaysQueried").value(2));
+
+        verify(flightService).searchFlightsBatch(any(BatchFlightSearchRequest.class));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void createFlight_ShouldReturnCreatedStatus_WhenValidRequest() throws Exception {
@@ -180,7 +326,7 @@ class FlightControllerTest {
         List<FlightAdminDto> flights = List.of(createSampleFlightAdminDto());
         Page<FlightAdminDto> page = new PageImpl<>(flights, PageRequest.of(0, 20), flights.size());
 
-        when(flightService.getAllFlights(any())).thenReturn(page);
+        when(flightService.getAllFlights(any(), eq(PageCountMode.EXACT))).thenReturn(page);
 
         mockMvc.perform(get("/flights/admin")
                 .param("page", "0")
@@ -192,7 +338,86 @@ class FlightControllerTest {
                 .andExpect(jsonPath("$.message").value("Flights retrieved successfully"))
                 .andExpect(jsonPath("$.data.content").isArray());
 
-        verify(flightService).getAllFlights(any());
+        verify(flightService).getAllFlights(any(), eq(PageCountMode.EXACT));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importFlights_ShouldPickFormatFromContentTypeAndReturnReport() throws Exception {
+        FlightImportReport report = FlightImportReport.builder()
+                .format("CSV")
+                .totalRows(2L)
+                .imported(1L)
+                .rejected(1L)
+                .errors(List.of(new FlightImportError(3L, "AV101", "availableSeats: must be at least 1")))
+                .build();
+
+        when(flightImportService.importFlights(any(), eq(FlightImportFormat.CSV))).thenReturn(report);
+
+        mockMvc.perform(post("/flights/admin/import")
+                .contentType("text/csv")
+                .content("flightNumber,airline\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Imported 1 of 2 flights"))
+                .andExpect(jsonPath("$.data.errors[0].line").value(3))
+                .andExpect(jsonPath("$.data.errors[0].flightNumber").value("AV101"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void repriceFlights_ShouldReturnAffectedCounts() throws Exception {
+        FlightRepriceRequest request = FlightRepriceRequest.builder()
+                .airline("Avianca")
+                .adjustment(PriceAdjustment.PERCENT)
+                .value(new BigDecimal("-10"))
+                .build();
+        FlightRepriceReport report = FlightRepriceReport.builder()
+                .matched(40L)
+                .repriced(38L)
+                .chunks(1)
+                .routeDays(12)
+                .build();
+
+        when(flightRepricingService.repriceFlights(any(FlightRepriceRequest.class))).thenReturn(report);
+
+        mockMvc.perform(post("/flights/admin/reprice")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Repriced 38 of 40 flights"))
+                .andExpect(jsonPath("$.data.routeDays").value(12));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void repriceFlights_ShouldRejectRequestWithoutPriceRule() throws Exception {
+        mockMvc.perform(post("/flights/admin/reprice")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"airline\": \"Avianca\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllFlightsByCursor_ShouldReturnContinuationToken() throws Exception {
+        FlightAdminCursorPage page = FlightAdminCursorPage.builder()
+                .content(List.of(createSampleFlightAdminDto()))
+                .size(1)
+                .sortBy("departureTime")
+                .sortDir("asc")
+                .hasNext(true)
+                .nextCursor("next-token")
+                .build();
+
+        when(flightService.getAllFlightsByCursor("departureTime", "asc", "token", 100)).thenReturn(page);
+
+        mockMvc.perform(get("/flights/admin/keyset")
+                .param("cursor", "token")
+                .param("size", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"));
     }
 
     @Test
@@ -201,7 +426,7 @@ class FlightControllerTest {
         List<FlightAdminDto> flights = List.of(createSampleFlightAdminDto());
         Page<FlightAdminDto> page = new PageImpl<>(flights, PageRequest.of(0, 20), flights.size());
 
-        when(flightService.searchFlightsForAdmin(anyString(), any())).thenReturn(page);
+        when(flightService.searchFlightsForAdmin(anyString(), any(), eq(PageCountMode.EXACT))).thenReturn(page);
 
         mockMvc.perform(get("/flights/search/admin")
                 .param("searchTerm", "AV123")
@@ -211,7 +436,25 @@ class FlightControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.content").isArray());
 
-        verify(flightService).searchFlightsForAdmin(eq("AV123"), any());
+        verify(flightService).searchFlightsForAdmin(eq("AV123"), any(), eq(PageCountMode.EXACT));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void searchFlightsForAdmin_ShouldReturnSliceWithoutTotal_WhenCountIsNone() throws Exception {
+        List<FlightAdminDto> flights = List.of(createSampleFlightAdminDto());
+        Slice<FlightAdminDto> slice = new SliceImpl<>(flights, PageRequest.of(0, 20), true);
+
+        when(flightService.searchFlightsForAdmin(anyString(), any(), eq(PageCountMode.NONE))).thenReturn(slice);
+
+        mockMvc.perform(get("/flights/search/admin")
+                .param("searchTerm", "AV123")
+                .param("count", "none"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("Found 1 flights matching 'AV123'"))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.last").value(false))
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist());
     }
 
     @Test
@@ -255,6 +498,31 @@ class FlightControllerTest {
         verify(flightService).deleteFlight(flightId);
     }
 
+    @Test
+    void deleteFlight_ShouldReturnConflict_WhenFlightHasBookingsOrHolds() throws Exception {
+        Long flightId = 1L;
+
+        doThrow(new FlightInUseException("Flight AV123 has bookings or seat holds and cannot be deleted"))
+                .when(flightService).deleteFlight(flightId);
+
+        mockMvc.perform(delete("/flights/admin/{id}", flightId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.error").value("FLIGHT_IN_USE"));
+    }
+
+    @Test
+    void deleteFlight_ShouldReturnConflict_WhenAConstraintRejectsTheDelete() throws Exception {
+        Long flightId = 1L;
+
+        doThrow(new DataIntegrityViolationException("fk_bookings_flight"))
+                .when(flightService).deleteFlight(flightId);
+
+        mockMvc.perform(delete("/flights/admin/{id}", flightId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("DATA_CONFLICT"));
+    }
+
     @Test
     void getAvailableOrigins_ShouldReturnLocationsList() throws Exception {
         List<LocationDto> origins = Arrays.asList(
@@ -323,6 +591,74 @@ class FlightControllerTest {
         verify(flightService).getUpcomingFlights(10);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamFlights_ShouldWriteOneJsonLinePerItem() throws Exception {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureDate(LocalDate.now().plusDays(1))
+                .tripType("oneway")
+                .passengers(1)
+                .build();
+
+        doAnswer(invocation -> {
+            Consumer<FlightStreamItem> sink = invocation.getArgument(1);
+            sink.accept(FlightStreamItem.flight("outbound", createSampleFlightDto()));
+            sink.accept(FlightStreamItem.complete("search_123", 1));
+            return null;
+        }).when(flightService).streamFlights(any(FlightSearchRequest.class), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(post("/flights/search/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("flight").get("flightNumber").asText()).isEqualTo("AV123");
+        assertThat(objectMapper.readTree(lines[1]).get("type").asText()).isEqualTo("complete");
+        assertThat(objectMapper.readTree(lines[1]).get("totalResults").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    void getFareCalendar_ShouldReturnLowestFarePerDay() throws Exception {
+        FareCalendarResponse calendar = FareCalendarResponse.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .month("2026-12")
+                .currency("COP")
+                .days(List.of(
+                        FareCalendarResponse.CalendarDay.builder()
+                                .date(LocalDate.of(2026, 12, 1))
+                                .lowestPrice(new BigDecimal("500000"))
+                                .build(),
+                        FareCalendarResponse.CalendarDay.builder()
+                                .date(LocalDate.of(2026, 12, 2))
+                                .build()))
+                .build();
+
+        when(flightService.getFareCalendar("BOGOTA", "MADRID", YearMonth.of(2026, 12))).thenReturn(calendar);
+
+        mockMvc.perform(get("/flights/calendar")
+                .param("origin", "BOGOTA")
+                .param("destination", "MADRID")
+                .param("month", "2026-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.message").value("Fare calendar retrieved successfully"))
+                .andExpect(jsonPath("$.data.days[0].lowestPrice").value(500000))
+                .andExpect(jsonPath("$.data.days[1].lowestPrice").doesNotExist());
+
+        verify(flightService).getFareCalendar("BOGOTA", "MADRID", YearMonth.of(2026, 12));
+    }
+
     private FlightDto createSampleFlightDto() {
         return FlightDto.builder()
                 .flightNumber("AV123")
@@ -0,0 +1,107 @@
+package com.amadeus.api.controller;
+
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.dto.response.TripPage;
+import com.amadeus.api.exception.GlobalExceptionHandler;
+import com.amadeus.api.service.TripService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TravelControllerTest {
+
+    @Mock
+    private TripService tripService;
+
+    @InjectMocks
+    private TravelController travelController;
+
+    private MockMvc mockMvc;
+    private Principal principal;
+    private TripDto trip;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(travelController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        principal = new UsernamePasswordAuthenticationToken("traveler@example.com", null);
+        trip = TripDto.builder()
+                .bookingId(11L)
+                .reference("K7QX2M")
+                .flightId(7L)
+                .flightNumber("AV123")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(LocalDateTime.now().plusDays(5).withNano(0))
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .status("CONFIRMED")
+                .build();
+    }
+
+    @Test
+    void getTrips_ShouldReturnPageWithNextCursor() throws Exception {
+        when(tripService.getTrips("traveler@example.com", "abc", 20)).thenReturn(TripPage.builder()
+                .content(List.of(trip))
+                .size(20)
+                .hasNext(true)
+                .nextCursor("def")
+                .build());
+
+        mockMvc.perform(get("/travel/trips").param("cursor", "abc").principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].reference").value("K7QX2M"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("def"));
+    }
+
+    @Test
+    void getTrips_ShouldClampPageSize() throws Exception {
+        when(tripService.getTrips(eq("traveler@example.com"), eq(null), eq(100)))
+                .thenReturn(TripPage.builder().content(List.of()).size(100).build());
+
+        mockMvc.perform(get("/travel/trips").param("size", "5000").principal(principal))
+                .andExpect(status().isOk());
+
+        verify(tripService).getTrips("traveler@example.com", null, 100);
+    }
+
+    @Test
+    void getTrips_ShouldReturnBadRequest_ForInvalidCursor() throws Exception {
+        when(tripService.getTrips("traveler@example.com", "garbage", 20))
+                .thenThrow(new IllegalArgumentException("Invalid trip cursor"));
+
+        mockMvc.perform(get("/travel/trips").param("cursor", "garbage").principal(principal))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void getUpcomingTrips_ShouldReturnTripsOfAuthenticatedUser() throws Exception {
+        when(tripService.getUpcomingTrips("traveler@example.com")).thenReturn(List.of(trip));
+
+        mockMvc.perform(get("/travel/trips/upcoming").principal(principal))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].flightNumber").value("AV123"));
+    }
+}
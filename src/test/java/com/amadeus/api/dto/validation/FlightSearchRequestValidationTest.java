@@ -333,4 +333,73 @@ class FlightSearchRequestValidationTest {
 
         assertThat(violations).isEmpty();
     }
+
+    @Test
+    void maxStopsAboveOne_ShouldFailValidation() {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("PEREIRA")
+                .destination("MADRID")
+                .departureDate(LocalDate.now().plusDays(1))
+                .tripType("oneway")
+                .passengers(1)
+                .maxStops(2)
+                .build();
+
+        Set<ConstraintViolation<FlightSearchRequest>> violations = validator.validate(request);
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Maximum 1 stop supported");
+    }
+
+    @Test
+    void flexDaysAboveThree_ShouldFailValidation() {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MEDELLIN")
+                .departureDate(LocalDate.now().plusDays(5))
+                .tripType("oneway")
+                .passengers(1)
+                .flexDays(4)
+                .build();
+
+        Set<ConstraintViolation<FlightSearchRequest>> violations = validator.validate(request);
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Maximum 3 flexible days allowed");
+    }
+
+    @Test
+    void unknownSortKey_ShouldFailValidation() {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MEDELLIN")
+                .departureDate(LocalDate.now().plusDays(5))
+                .tripType("oneway")
+                .passengers(1)
+                .sortBy("airline")
+                .build();
+
+        Set<ConstraintViolation<FlightSearchRequest>> violations = validator.validate(request);
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage())
+                .isEqualTo("Sort must be 'price', 'duration', 'departure' or 'arrival'");
+    }
+
+    @Test
+    void pageSizeAboveLimit_ShouldFailValidation() {
+        FlightSearchRequest request = FlightSearchRequest.builder()
+                .origin("BOGOTA")
+                .destination("MEDELLIN")
+                .departureDate(LocalDate.now().plusDays(5))
+                .tripType("oneway")
+                .passengers(1)
+                .pageSize(101)
+                .build();
+
+        Set<ConstraintViolation<FlightSearchRequest>> violations = validator.validate(request);
+
+        assertThat(violations).hasSize(1);
+        assertThat(violations.iterator().next().getMessage()).isEqualTo("Maximum page size is 100");
+    }
 }
@@ -60,6 +60,19 @@ class FlightEntityTest {
         assertThat(flight.getUpdatedAt()).isBefore(afterUpdate);
     }
 
+    @Test
+    void lifecycleCallbacks_ShouldDeriveDurationMinutesFromSchedule() {
+        Flight flight = createTestFlight();
+        flight.setArrivalTime(flight.getDepartureTime().plusHours(8).plusMinutes(45));
+
+        entityManager.persistAndFlush(flight);
+        assertThat(flight.getDurationMinutes()).isEqualTo(525);
+
+        flight.setArrivalTime(flight.getDepartureTime().plusHours(2));
+        entityManager.persistAndFlush(flight);
+        assertThat(flight.getDurationMinutes()).isEqualTo(120);
+    }
+
     @Test
     void flightBuilder_ShouldCreateValidFlight() {
         LocalDateTime departureTime = LocalDateTime.now().plusDays(1);
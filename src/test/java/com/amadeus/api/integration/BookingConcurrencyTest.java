@@ -0,0 +1,142 @@
+package com.amadeus.api.integration;
+
+import com.amadeus.api.TravelApplication;
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.entity.User;
+import com.amadeus.api.entity.UserRole;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.UserRepository;
+import com.amadeus.api.service.BookingService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hundreds of clients race for the last seats of one flight. Every attempt must end as either a
+ * confirmed booking or a clean "sold out", and the flight must end at exactly zero seats.
+ */
+@Slf4j
+@SpringBootTest(classes = TravelApplication.class)
+@ActiveProfiles("test")
+class BookingConcurrencyTest {
+
+    private static final int CLIENTS = 200;
+    private static final int ATTEMPTS = 600;
+    private static final int SEATS = 150;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Flight flight;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("load-test@example.com")
+                .password("not-used")
+                .name("Load Test")
+                .role(UserRole.USER)
+                .build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(20).withNano(0);
+        flight = flightRepository.save(Flight.builder()
+                .flightNumber("LT001")
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("CARTAGENA")
+                .departureTime(departure)
+                .arrivalTime(departure.plusMinutes(90))
+                .duration("1h 30m")
+                .price(new BigDecimal("250000.00"))
+                .aircraftType("Airbus A320")
+                .availableSeats(SEATS)
+                .cabinClass("Economy")
+                .active(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll(bookingRepository.findAll().stream()
+                .filter(booking -> booking.getFlightId().equals(flight.getId()))
+                .toList());
+        flightRepository.deleteById(flight.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void createBooking_ShouldNeverOversell_WhenHundredsOfClientsBookTheSameFlight() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        List<Long> latenciesMicros = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> attempts = new ArrayList<>();
+
+        for (int i = 0; i < ATTEMPTS; i++) {
+            attempts.add(clients.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    bookingService.createBooking(user.getEmail(), new CreateBookingRequest(flight.getId(), 1));
+                    booked.incrementAndGet();
+                } catch (SeatsUnavailableException e) {
+                    soldOut.incrementAndGet();
+                }
+                latenciesMicros.add(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> attempt : attempts) {
+            attempt.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        clients.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latenciesMicros);
+        Collections.sort(sorted);
+        log.info("{} booking attempts from {} clients in {} ms ({} /s), p50 {} us, p99 {} us", ATTEMPTS, CLIENTS,
+                elapsedMs, ATTEMPTS * 1000L / elapsedMs, sorted.get(sorted.size() / 2),
+                sorted.get(sorted.size() * 99 / 100));
+
+        assertThat(booked.get()).isEqualTo(SEATS);
+        assertThat(soldOut.get()).isEqualTo(ATTEMPTS - SEATS);
+        assertThat(flightRepository.findSeatView(flight.getId()).orElseThrow().getAvailableSeats()).isZero();
+        assertThat(bookingRepository.countByFlightIdAndStatus(flight.getId(), BookingStatus.CONFIRMED))
+                .isEqualTo(SEATS);
+    }
+}
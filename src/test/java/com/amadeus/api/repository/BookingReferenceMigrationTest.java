@@ -0,0 +1,54 @@
+package com.amadeus.api.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+class BookingReferenceMigrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void v7_ShouldBackfillDistinctReferences_ForIdsOfAnyLength() {
+        DataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+        migrate(dataSource, "6");
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("INSERT INTO users (id, email, password, name, role) " +
+                "VALUES (1, 'traveler@example.com', 'secret', 'Traveler', 'USER')");
+        jdbc.update("INSERT INTO flights (id, flight_number, airline, origin, destination, departure_time, " +
+                "arrival_time, duration, duration_minutes, price, aircraft_type, available_seats, cabin_class, " +
+                "active, created_at, updated_at) VALUES (1, 'AV123', 'Avianca', 'BOGOTA', 'MADRID', " +
+                "TIMESTAMP '2030-01-15 06:00:00', TIMESTAMP '2030-01-15 16:00:00', '10h 0m', 600, 500000, " +
+                "'Boeing 787', 100, 'Economy', true, now(), now())");
+        for (long id : List.of(1L, 10000L, 100000L, 1073741829L)) {
+            jdbc.update("INSERT INTO bookings (id, user_id, flight_id, seats, total_price, status, created_at, " +
+                    "updated_at) VALUES (?, 1, 1, 1, 500000, 'CONFIRMED', now(), now())", id);
+        }
+
+        migrate(dataSource, "7");
+
+        List<String> references = jdbc.queryForList("SELECT reference FROM bookings ORDER BY id", String.class);
+        assertThat(references).containsExactly("AAAAAB", "AAAK2S", "AADBXA", "BAAAAAF");
+    }
+
+    private void migrate(DataSource dataSource, String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
@@ -0,0 +1,194 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.Booking;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.entity.SeatHold;
+import com.amadeus.api.entity.User;
+import com.amadeus.api.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class BookingRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    private User user;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persistAndFlush(User.builder()
+                .email("traveler@example.com")
+                .password("secret")
+                .name("Traveler")
+                .role(UserRole.USER)
+                .build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(3).withNano(0);
+        flight = entityManager.persistAndFlush(Flight.builder()
+                .flightNumber("AV123")
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(10))
+                .duration("10h 0m")
+                .price(new BigDecimal("500000.00"))
+                .aircraftType("Boeing 787")
+                .availableSeats(100)
+                .cabinClass("Economy")
+                .active(true)
+                .build());
+    }
+
+    @Test
+    void findViewByReference_ShouldProjectBookingWithFlightAndOwner() {
+        Booking booking = bookingRepository.saveAndFlush(booking("K7QX2M"));
+        entityManager.clear();
+
+        Optional<BookingView> view = bookingRepository.findViewByReference("K7QX2M");
+
+        assertThat(view).isPresent();
+        assertThat(view.get().getId()).isEqualTo(booking.getId());
+        assertThat(view.get().getUserEmail()).isEqualTo("traveler@example.com");
+        assertThat(view.get().getFlightNumber()).isEqualTo("AV123");
+        assertThat(view.get().getOrigin()).isEqualTo("BOGOTA");
+        assertThat(view.get().getStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(bookingRepository.findViewByReference("ZZZZZZ")).isEmpty();
+    }
+
+    @Test
+    void hasBookingsOrHolds_ShouldReportFlightsReferencedByBookingsOrHolds() {
+        assertThat(flightRepository.hasBookingsOrHolds(flight.getId())).isFalse();
+
+        entityManager.persistAndFlush(SeatHold.builder()
+                .id("hold-1")
+                .userId(user.getId())
+                .flightId(flight.getId())
+                .seats(1)
+                .totalPrice(new BigDecimal("500000.00"))
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build());
+        assertThat(flightRepository.hasBookingsOrHolds(flight.getId())).isTrue();
+
+        entityManager.getEntityManager().createQuery("DELETE FROM SeatHold").executeUpdate();
+        bookingRepository.saveAndFlush(booking("K7QX2M"));
+        assertThat(flightRepository.hasBookingsOrHolds(flight.getId())).isTrue();
+    }
+
+    @Test
+    void existsByReference_ShouldReportTakenReferences() {
+        bookingRepository.saveAndFlush(booking("K7QX2M"));
+
+        assertThat(bookingRepository.existsByReference("K7QX2M")).isTrue();
+        assertThat(bookingRepository.existsByReference("K7QX2N")).isFalse();
+    }
+
+    @Test
+    void save_ShouldRejectDuplicateReferences() {
+        bookingRepository.saveAndFlush(booking("K7QX2M"));
+
+        assertThatThrownBy(() -> bookingRepository.saveAndFlush(booking("K7QX2M")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void findTripsBefore_ShouldWalkTheHistoryLatestDepartureFirst() {
+        LocalDateTime departure = flight.getDepartureTime();
+        Booking earliest = bookingRepository.save(booking("AAAAAA", departure.minusDays(10), BookingStatus.CONFIRMED));
+        Booking tiedFirst = bookingRepository.save(booking("BBBBBB", departure, BookingStatus.CANCELLED));
+        Booking tiedSecond = bookingRepository.save(booking("CCCCCC", departure, BookingStatus.CONFIRMED));
+        Booking latest = bookingRepository.save(booking("DDDDDD", departure.plusDays(10), BookingStatus.CONFIRMED));
+        bookingRepository.flush();
+
+        List<TripView> firstPage = bookingRepository.findTrips(user.getId(), PageRequest.ofSize(2));
+        TripView last = firstPage.get(1);
+        List<TripView> secondPage = bookingRepository.findTripsBefore(user.getId(), last.getDepartureTime(),
+                last.getId(), PageRequest.ofSize(2));
+
+        assertThat(firstPage).extracting(TripView::getId).containsExactly(latest.getId(), tiedSecond.getId());
+        assertThat(secondPage).extracting(TripView::getId).containsExactly(tiedFirst.getId(), earliest.getId());
+        assertThat(firstPage.get(0).getFlightNumber()).isEqualTo("AV123");
+    }
+
+    @Test
+    void findUpcomingTrips_ShouldReturnOnlyFutureConfirmedTripsSoonestFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        bookingRepository.save(booking("AAAAAA", now.minusDays(1), BookingStatus.CONFIRMED));
+        bookingRepository.save(booking("BBBBBB", now.plusDays(1), BookingStatus.CANCELLED));
+        Booking later = bookingRepository.save(booking("CCCCCC", now.plusDays(5), BookingStatus.CONFIRMED));
+        Booking sooner = bookingRepository.save(booking("DDDDDD", now.plusDays(2), BookingStatus.CONFIRMED));
+        bookingRepository.flush();
+
+        List<TripView> upcoming = bookingRepository.findUpcomingTrips(user.getId(), BookingStatus.CONFIRMED, now,
+                PageRequest.ofSize(10));
+
+        assertThat(upcoming).extracting(TripView::getId).containsExactly(sooner.getId(), later.getId());
+    }
+
+    @Test
+    void findRefsByFlightId_ShouldListBookingsOfTheFlightWithTheirOwners() {
+        Booking booking = bookingRepository.saveAndFlush(booking("K7QX2M"));
+
+        assertThat(bookingRepository.findRefsByFlightId(flight.getId()))
+                .containsExactly(new BookingRef(booking.getId(), "K7QX2M", user.getId()));
+        assertThat(bookingRepository.findRefsByFlightId(flight.getId() + 1)).isEmpty();
+    }
+
+    @Test
+    void updateItinerary_ShouldRewriteTheCopiedFlightDetails() {
+        Booking booking = bookingRepository.saveAndFlush(booking("K7QX2M"));
+        LocalDateTime delayed = flight.getDepartureTime().plusHours(3);
+
+        int updated = bookingRepository.updateItinerary(flight.getId(), "AV124", "BOGOTA", "BARCELONA", delayed);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        Booking reloaded = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(reloaded.getFlightNumber()).isEqualTo("AV124");
+        assertThat(reloaded.getDestination()).isEqualTo("BARCELONA");
+        assertThat(reloaded.getDepartureTime()).isEqualTo(delayed);
+    }
+
+    private Booking booking(String reference) {
+        return booking(reference, flight.getDepartureTime(), BookingStatus.CONFIRMED);
+    }
+
+    private Booking booking(String reference, LocalDateTime departureTime, BookingStatus status) {
+        return Booking.builder()
+                .reference(reference)
+                .userId(user.getId())
+                .flightId(flight.getId())
+                .flightNumber(flight.getFlightNumber())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .departureTime(departureTime)
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .status(status)
+                .build();
+    }
+}
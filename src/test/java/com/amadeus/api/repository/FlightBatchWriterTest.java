@@ -0,0 +1,64 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.Flight;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(FlightBatchWriter.class)
+class FlightBatchWriterTest {
+
+    @Autowired
+    private FlightBatchWriter flightBatchWriter;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @Test
+    void insertAll_ShouldWriteEveryFlightInOneBatch() {
+        LocalDateTime departure = LocalDateTime.now().plusDays(10).withNano(0);
+
+        flightBatchWriter.insertAll(List.of(
+                createFlight("AV700", departure),
+                createFlight("AV701", departure.plusHours(3))));
+
+        List<Flight> flights = flightRepository.findByActiveTrue();
+        assertThat(flights).extracting(Flight::getFlightNumber).containsExactlyInAnyOrder("AV700", "AV701");
+        assertThat(flights).allSatisfy(flight -> {
+            assertThat(flight.getId()).isNotNull();
+            assertThat(flight.getDurationMinutes()).isEqualTo(600);
+            assertThat(flight.getCreatedAt()).isNotNull();
+        });
+        assertThat(flightRepository.findScheduleKeys(List.of("AV700", "AV999"), departure, departure.plusDays(1)))
+                .containsExactly(new FlightScheduleKey("AV700", departure));
+    }
+
+    private Flight createFlight(String flightNumber, LocalDateTime departureTime) {
+        Flight flight = Flight.builder()
+                .flightNumber(flightNumber)
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(10))
+                .duration("10h 0m")
+                .price(new BigDecimal("1500000.00"))
+                .aircraftType("Boeing 787")
+                .availableSeats(200)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+        flight.refreshDurationMinutes();
+        return flight;
+    }
+}
@@ -0,0 +1,142 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminSortKey;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class FlightIndexPlanTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime departure = LocalDateTime.of(2030, 1, 15, 6, 0);
+        for (int i = 0; i < 50; i++) {
+            entityManager.persist(createFlight("AV" + (100 + i), i % 2 == 0 ? "MADRID" : "MIAMI",
+                    departure.plusHours(i), i % 5 != 0));
+        }
+        entityManager.flush();
+
+        EntityManager em = entityManager.getEntityManager();
+        em.createNativeQuery("ANALYZE flights").executeUpdate();
+        em.createNativeQuery("SET LOCAL enable_seqscan = off").executeUpdate();
+    }
+
+    @Test
+    void availableFlightsQuery_ShouldUsePartialRouteIndex() {
+        String plan = explain("SELECT * FROM flights f WHERE f.origin = 'BOGOTA' AND f.destination = 'MADRID' " +
+                "AND f.departure_time >= TIMESTAMP '2030-01-15 00:00:00' " +
+                "AND f.departure_time < TIMESTAMP '2030-01-16 00:00:00' " +
+                "AND f.active = true AND f.available_seats >= 2 ORDER BY f.departure_time");
+
+        assertThat(plan).contains("idx_flights_route_departure_active").doesNotContain("Sort");
+    }
+
+    @Test
+    void availableArrivalsQuery_ShouldUsePartialDestinationIndex() {
+        String plan = explain("SELECT * FROM flights f WHERE f.destination = 'MADRID' AND f.origin <> 'PEREIRA' " +
+                "AND f.departure_time >= TIMESTAMP '2030-01-15 00:00:00' " +
+                "AND f.departure_time < TIMESTAMP '2030-01-18 00:00:00' " +
+                "AND f.active = true AND f.available_seats >= 1 ORDER BY f.departure_time");
+
+        assertThat(plan).contains("idx_flights_destination_departure_active");
+    }
+
+    @Test
+    void existsByFlightNumberAndDepartureTime_ShouldUseUniqueIndex() {
+        String plan = explain("SELECT f.id FROM flights f WHERE f.flight_number = 'AV110' " +
+                "AND f.departure_time = TIMESTAMP '2030-01-15 16:00:00' FETCH FIRST 1 ROWS ONLY");
+
+        assertThat(plan).contains("ux_flights_number_departure");
+        assertThat(flightRepository.existsByFlightNumberAndDepartureTime(
+                "AV110", LocalDateTime.of(2030, 1, 15, 16, 0))).isTrue();
+    }
+
+    @Test
+    void adminKeysetQuery_ShouldSeekIntoDepartureIndex() {
+        String plan = explain("SELECT * FROM flights f " +
+                "WHERE (f.departure_time, f.id) > (TIMESTAMP '2030-01-16 20:00:00', 40) " +
+                "ORDER BY f.departure_time, f.id FETCH FIRST 21 ROWS ONLY");
+
+        assertThat(plan).contains("idx_flights_departure_id").contains("Index Cond").doesNotContain("Sort");
+    }
+
+    @Test
+    void adminKeysetQueries_ShouldReadEverySortKeyInIndexOrder() {
+        for (String column : List.of("departure_time", "arrival_time", "price", "duration_minutes",
+                "flight_number", "airline", "origin", "destination", "created_at")) {
+            String plan = explain("SELECT * FROM flights f ORDER BY f." + column + " DESC, f.id DESC " +
+                    "FETCH FIRST 21 ROWS ONLY");
+
+            assertThat(plan).as(column).contains("Index Scan").doesNotContain("Sort");
+        }
+    }
+
+    @Test
+    void findAdminFlights_ShouldContinueAfterCursor() {
+        List<Flight> firstPage = flightRepository.findAdminFlights(AdminSortKey.DEPARTURE_TIME, true, null, 20);
+        AdminFlightCursor cursor = AdminFlightCursor.after(AdminSortKey.DEPARTURE_TIME, true, firstPage.get(19));
+
+        List<Flight> secondPage = flightRepository.findAdminFlights(AdminSortKey.DEPARTURE_TIME, true, cursor, 20);
+
+        assertThat(secondPage).hasSize(20);
+        assertThat(secondPage.get(0).getDepartureTime()).isBefore(firstPage.get(19).getDepartureTime());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String explain(String sql) {
+        List<Object> rows = entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getResultList();
+        return rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+
+    private Flight createFlight(String flightNumber, String destination, LocalDateTime departureTime,
+            boolean active) {
+        return Flight.builder()
+                .flightNumber(flightNumber)
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination(destination)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(10))
+                .duration("10h 00m")
+                .price(new BigDecimal("1500000.00"))
+                .aircraftType("Boeing 787")
+                .availableSeats(100)
+                .cabinClass("Economy")
+                .active(active)
+                .build();
+    }
+}
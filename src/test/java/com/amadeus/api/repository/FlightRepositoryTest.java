@@ -1,6 +1,16 @@
 package com.amadeus.api.repository;
 
+import com.amadeus.api.dto.request.PriceAdjustment;
+import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.entity.Flight;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminSortKey;
+import com.amadeus.api.search.FlightSearchCriteria;
+import com.amadeus.api.search.FlightSnapshot;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.RouteDayKey;
+import com.amadeus.api.search.SearchCursor;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,11 +19,16 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -35,7 +50,7 @@ class FlightRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        departureTime = LocalDateTime.now().plusDays(1);
+        departureTime = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.MICROS);
         nextDay = departureTime.plusDays(1);
 
         activeFlight = createFlight("AV123", "BOGOTA", "MADRID", departureTime, true, 100);
@@ -50,7 +65,7 @@ class FlightRepositoryTest {
     @Test
     void findAvailableFlights_ShouldReturnActiveFlightsWithSeats() {
         List<Flight> flights = flightRepository.findAvailableFlights(
-                "BOGOTA", "MADRID", departureTime.minusHours(1), nextDay);
+                "BOGOTA", "MADRID", departureTime.minusHours(1), nextDay, 1);
 
         assertThat(flights).hasSize(1);
         assertThat(flights.get(0).getFlightNumber()).isEqualTo("AV123");
@@ -58,10 +73,138 @@ class FlightRepositoryTest {
         assertThat(flights.get(0).getAvailableSeats()).isGreaterThan(0);
     }
 
+    @Test
+    void findAvailableFlights_ShouldExcludeFlightsWithFewerSeatsThanPassengers() {
+        Flight nearlyFull = createFlight("AV126", "BOGOTA", "MADRID", departureTime.plusHours(1), true, 2);
+        entityManager.persistAndFlush(nearlyFull);
+
+        List<Flight> flights = flightRepository.findAvailableFlights(
+                "BOGOTA", "MADRID", departureTime.minusHours(1), nextDay, 6);
+
+        assertThat(flights).extracting(Flight::getFlightNumber).containsExactly("AV123");
+    }
+
+    @Test
+    void streamAvailableFlightDtos_ShouldStreamSameRowsAsListQuery() {
+        Flight laterFlight = createFlight("AV126", "BOGOTA", "MADRID", departureTime.plusHours(1), true, 60);
+        entityManager.persistAndFlush(laterFlight);
+
+        try (Stream<FlightDto> flights = flightRepository.streamAvailableFlightDtos(
+                "BOGOTA", "MADRID", departureTime.minusHours(1), nextDay, 1)) {
+            assertThat(flights.map(FlightDto::getFlightNumber)).containsExactly("AV123", "AV126");
+        }
+    }
+
+    @Test
+    void findAvailableFlightDtos_ShouldProjectColumnsWithoutManagingEntities() {
+        entityManager.clear();
+
+        List<FlightDto> flights = flightRepository.findAvailableFlightDtos(
+                "BOGOTA", "MADRID", departureTime.minusHours(1), nextDay, 1);
+
+        assertThat(flights).hasSize(1);
+        assertThat(flights.get(0).getFlightNumber()).isEqualTo("AV123");
+        assertThat(flights.get(0).getPrice()).isEqualByComparingTo("500000");
+        assertThat(flights.get(0).getAvailableSeats()).isEqualTo(100);
+        assertThat(entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    void findUpcomingFlightDtos_ShouldReturnActiveFlightsInDepartureOrder() {
+        List<FlightDto> flights = flightRepository.findUpcomingFlightDtos(LocalDateTime.now(), PageRequest.of(0, 10));
+
+        assertThat(flights).extracting(FlightDto::getFlightNumber).containsExactly("AV123", "AV125");
+    }
+
+    @Test
+    void searchAvailableFlights_ShouldFilterSortAndPageByKeyset() {
+        LocalDate day = LocalDate.now().plusDays(10);
+        persistPricedFlight("AV201", "Avianca", day.atTime(6, 0), 600, "450000");
+        persistPricedFlight("LA202", "LATAM", day.atTime(9, 0), 480, "300000");
+        persistPricedFlight("AV203", "Avianca", day.atTime(13, 0), 540, "300000");
+        persistPricedFlight("IB204", "Iberia", day.atTime(15, 0), 500, "200000");
+        persistPricedFlight("AV205", "Avianca", day.atTime(22, 0), 520, "350000");
+
+        FlightSearchCriteria firstPageCriteria = FlightSearchCriteria.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureFrom(day.atTime(7, 0))
+                .departureTo(day.plusDays(1).atStartOfDay())
+                .airlines(Set.of("Avianca", "LATAM"))
+                .maxPrice(new BigDecimal("400000"))
+                .sortKey(FlightSortKey.PRICE)
+                .limit(2)
+                .build();
+
+        List<Flight> firstPage = flightRepository.searchAvailableFlights(firstPageCriteria);
+        assertThat(firstPage).extracting(Flight::getFlightNumber).containsExactly("LA202", "AV203");
+
+        SearchCursor cursor = SearchCursor.after(FlightSortKey.PRICE, false, FlightSnapshot.from(firstPage.get(1)));
+        List<Flight> secondPage = flightRepository.searchAvailableFlights(
+                firstPageCriteria.toBuilder().after(cursor).build());
+        assertThat(secondPage).extracting(Flight::getFlightNumber).containsExactly("AV205");
+    }
+
+    @Test
+    void searchAvailableFlights_ShouldSortByDuration() {
+        LocalDate day = LocalDate.now().plusDays(10);
+        persistPricedFlight("AV201", "Avianca", day.atTime(6, 0), 600, "450000");
+        persistPricedFlight("LA202", "LATAM", day.atTime(9, 0), 480, "300000");
+        persistPricedFlight("IB204", "Iberia", day.atTime(15, 0), 500, "200000");
+
+        List<Flight> flights = flightRepository.searchAvailableFlights(FlightSearchCriteria.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureFrom(day.atStartOfDay())
+                .departureTo(day.plusDays(1).atStartOfDay())
+                .sortKey(FlightSortKey.DURATION)
+                .descending(true)
+                .build());
+
+        assertThat(flights).extracting(Flight::getFlightNumber).containsExactly("AV201", "IB204", "LA202");
+    }
+
+    @Test
+    void searchAvailableFlights_ShouldFilterByMaxDurationMinutes() {
+        LocalDate day = LocalDate.now().plusDays(10);
+        persistPricedFlight("AV201", "Avianca", day.atTime(6, 0), 600, "450000");
+        persistPricedFlight("LA202", "LATAM", day.atTime(9, 0), 480, "300000");
+        persistPricedFlight("IB204", "Iberia", day.atTime(15, 0), 500, "200000");
+
+        List<Flight> flights = flightRepository.searchAvailableFlights(FlightSearchCriteria.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureFrom(day.atStartOfDay())
+                .departureTo(day.plusDays(1).atStartOfDay())
+                .maxDurationMinutes(500)
+                .build());
+
+        assertThat(flights).extracting(Flight::getFlightNumber).containsExactly("LA202", "IB204");
+        assertThat(flights).extracting(Flight::getDurationMinutes).containsExactly(480, 500);
+    }
+
+    @Test
+    void findBookableFlightDtos_ShouldLoadOnlyRequestedRouteDaysInOneQuery() {
+        LocalDate day = LocalDate.now().plusDays(10);
+        persistPricedFlight("AV201", "Avianca", day.atTime(6, 0), 600, "450000");
+        persistPricedFlight("AV202", "Avianca", day.plusDays(1).atTime(6, 0), 600, "450000");
+        persistPricedFlight("AV203", "Avianca", day.plusDays(2).atTime(6, 0), 600, "450000");
+        entityManager.persistAndFlush(createFlight("AV301", "MADRID", "BOGOTA", day.plusDays(2).atTime(8, 0),
+                true, 10));
+        entityManager.persistAndFlush(createFlight("AV302", "MADRID", "BOGOTA", day.plusDays(2).atTime(9, 0),
+                true, 0));
+
+        List<FlightDto> flights = flightRepository.findBookableFlightDtos(List.of(
+                new RouteDayKey("BOGOTA", "MADRID", day),
+                new RouteDayKey("MADRID", "BOGOTA", day.plusDays(2))));
+
+        assertThat(flights).extracting(FlightDto::getFlightNumber).containsExactly("AV201", "AV301");
+    }
+
     @Test
     void findAvailableFlights_ShouldReturnEmptyList_WhenNoMatchingRoute() {
         List<Flight> flights = flightRepository.findAvailableFlights(
-                "MADRID", "PARIS", departureTime.minusHours(1), nextDay);
+                "MADRID", "PARIS", departureTime.minusHours(1), nextDay, 1);
 
         assertThat(flights).isEmpty();
     }
@@ -75,7 +218,7 @@ class FlightRepositoryTest {
         entityManager.persistAndFlush(laterFlight);
 
         List<Flight> flights = flightRepository.findAvailableFlights(
-                "BOGOTA", "MADRID", departureTime.minusHours(3), nextDay);
+                "BOGOTA", "MADRID", departureTime.minusHours(3), nextDay, 1);
 
         assertThat(flights).hasSize(3);
         assertThat(flights.get(0).getFlightNumber()).isEqualTo("AV126");
@@ -147,34 +290,6 @@ class FlightRepositoryTest {
         assertThat(locations).containsExactlyInAnyOrder("BOGOTA", "MADRID", "PARIS", "LONDON");
     }
 
-    @Test
-    void findUpcomingFlights_ShouldReturnFlightsAfterSpecifiedDate() {
-        LocalDateTime futureTime = LocalDateTime.now().plusDays(2);
-        Flight futureFlight = createFlight("AV300", "MADRID", "PARIS", futureTime, true, 150);
-        entityManager.persistAndFlush(futureFlight);
-
-        Pageable pageable = PageRequest.of(0, 10);
-        List<Flight> upcomingFlights = flightRepository.findUpcomingFlights(departureTime.minusHours(1), pageable);
-
-        assertThat(upcomingFlights).hasSize(3);
-        assertThat(upcomingFlights.stream().allMatch(f -> f.getDepartureTime().isAfter(departureTime.minusHours(1))))
-                .isTrue();
-        assertThat(upcomingFlights.stream().allMatch(Flight::isActive)).isTrue();
-    }
-
-    @Test
-    void findUpcomingFlights_ShouldRespectPageableLimit() {
-        for (int i = 0; i < 5; i++) {
-            Flight flight = createFlight("AV40" + i, "MADRID", "PARIS", departureTime.plusHours(i), true, 100);
-            entityManager.persistAndFlush(flight);
-        }
-
-        Pageable pageable = PageRequest.of(0, 3);
-        List<Flight> upcomingFlights = flightRepository.findUpcomingFlights(departureTime.minusHours(1), pageable);
-
-        assertThat(upcomingFlights).hasSize(3);
-    }
-
     @Test
     void searchFlightsByMultipleFields_ShouldFindByFlightNumber() {
         Pageable pageable = PageRequest.of(0, 10);
@@ -267,6 +382,134 @@ class FlightRepositoryTest {
         }
     }
 
+    @Test
+    void searchFlightsByMultipleFieldsSlice_ShouldReportHasNextWithoutCounting() {
+        Slice<Flight> firstPage = flightRepository.searchFlightsByMultipleFieldsSlice("Avianca", PageRequest.of(0, 2));
+        Slice<Flight> lastPage = flightRepository.searchFlightsByMultipleFieldsSlice("Avianca", PageRequest.of(1, 2));
+
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.getContent()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void findAllBy_ShouldReturnSliceOfAllFlights() {
+        Slice<Flight> slice = flightRepository.findAllBy(PageRequest.of(0, 2));
+
+        assertThat(slice.getContent()).hasSize(2);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    void findAdminFlights_ShouldWalkEqualSortValuesByIdWithoutGapsOrRepeats() {
+        List<Flight> firstPage = flightRepository.findAdminFlights(AdminSortKey.PRICE, false, null, 2);
+        AdminFlightCursor cursor = AdminFlightCursor.after(AdminSortKey.PRICE, false, firstPage.get(1));
+        List<Flight> secondPage = flightRepository.findAdminFlights(AdminSortKey.PRICE, false, cursor, 2);
+
+        assertThat(firstPage).extracting(Flight::getId)
+                .containsExactly(activeFlight.getId(), inactiveFlight.getId());
+        assertThat(secondPage).extracting(Flight::getId).containsExactly(flightWithNoSeats.getId());
+    }
+
+    @Test
+    void findAdminFlights_ShouldSeekBackwards_WhenDescending() {
+        AdminFlightCursor cursor = AdminFlightCursor.after(AdminSortKey.DEPARTURE_TIME, true, flightWithNoSeats);
+
+        List<Flight> flights = flightRepository.findAdminFlights(AdminSortKey.DEPARTURE_TIME, true, cursor, 10);
+
+        assertThat(flights).extracting(Flight::getFlightNumber).containsExactly("AV124", "AV123");
+    }
+
+    @Test
+    void findRepriceCandidates_ShouldFilterByCriteriaAndPageById() {
+        persistPricedFlight("LA300", "LATAM", departureTime.plusHours(6), 480, "700000");
+        FlightRepriceCriteria criteria = FlightRepriceCriteria.builder()
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .airline("Avianca")
+                .departureFrom(LocalDateTime.now())
+                .build();
+
+        List<Flight> firstChunk = flightRepository.findRepriceCandidates(criteria, null, 2);
+        List<Flight> secondChunk = flightRepository.findRepriceCandidates(criteria, firstChunk.get(1).getId(), 2);
+
+        assertThat(firstChunk).extracting(Flight::getFlightNumber).containsExactly("AV123", "AV124");
+        assertThat(secondChunk).extracting(Flight::getFlightNumber).containsExactly("AV125");
+        assertThat(flightRepository.findRepriceCandidates(criteria.toBuilder().departureTo(departureTime.plusHours(1))
+                .build(), null, 10)).extracting(Flight::getFlightNumber).containsExactly("AV123");
+    }
+
+    @Test
+    void repriceFlights_ShouldApplyPercentInOneStatementAndClampToCeiling() {
+        List<Long> ids = List.of(activeFlight.getId(), inactiveFlight.getId());
+        inactiveFlight.setPrice(new BigDecimal("100000.55"));
+        entityManager.persistAndFlush(inactiveFlight);
+        LocalDateTime updatedAt = LocalDateTime.now().plusMinutes(1).withNano(0);
+
+        int updated = flightRepository.repriceFlights(ids,
+                new PriceRule(PriceAdjustment.PERCENT, new BigDecimal("12.5"), null, new BigDecimal("550000")),
+                updatedAt);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(flightRepository.findById(activeFlight.getId()).orElseThrow().getPrice())
+                .isEqualByComparingTo("550000");
+        Flight repriced = flightRepository.findById(inactiveFlight.getId()).orElseThrow();
+        assertThat(repriced.getPrice()).isEqualByComparingTo("112500.62");
+        assertThat(repriced.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(flightRepository.findById(flightWithNoSeats.getId()).orElseThrow().getPrice())
+                .isEqualByComparingTo("500000");
+    }
+
+    @Test
+    void repriceFlights_ShouldNeverGoBelowFloor() {
+        flightRepository.repriceFlights(List.of(activeFlight.getId()),
+                new PriceRule(PriceAdjustment.AMOUNT, new BigDecimal("-499000"), new BigDecimal("2000"), null),
+                LocalDateTime.now());
+
+        assertThat(flightRepository.findById(activeFlight.getId()).orElseThrow().getPrice())
+                .isEqualByComparingTo("2000");
+    }
+
+    @Test
+    void decrementAvailableSeats_ShouldOnlyUpdateWhenEnoughSeatsAreLeft() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(flightRepository.decrementAvailableSeats(activeFlight.getId(), 60, now)).isEqualTo(1);
+        assertThat(flightRepository.decrementAvailableSeats(activeFlight.getId(), 60, now)).isZero();
+        assertThat(flightRepository.decrementAvailableSeats(activeFlight.getId(), 40, now)).isEqualTo(1);
+
+        FlightSeatView seats = flightRepository.findSeatView(activeFlight.getId()).orElseThrow();
+        assertThat(seats.getAvailableSeats()).isZero();
+        assertThat(seats.getFlightNumber()).isEqualTo("AV123");
+    }
+
+    @Test
+    void decrementAvailableSeats_ShouldSkipInactiveAndDepartedFlights() {
+        assertThat(flightRepository.decrementAvailableSeats(inactiveFlight.getId(), 1, LocalDateTime.now()))
+                .isZero();
+        assertThat(flightRepository.decrementAvailableSeats(activeFlight.getId(), 1, departureTime.plusMinutes(1)))
+                .isZero();
+        assertThat(flightRepository.incrementAvailableSeats(activeFlight.getId(), 1, departureTime.plusMinutes(1)))
+                .isZero();
+        assertThat(flightRepository.findSeatView(activeFlight.getId()).orElseThrow().getAvailableSeats())
+                .isEqualTo(100);
+    }
+
+    @Test
+    void estimateFlightCount_ShouldFallBackToExactCount_WhenNotPostgres() {
+        assertThat(flightRepository.estimateFlightCount()).isEqualTo(flightRepository.count());
+    }
+
+    @Test
+    void estimateFlightSearchCount_ShouldFallBackToExactCount_WhenNotPostgres() {
+        long exact = flightRepository.searchFlightsByMultipleFields("avianca", PageRequest.of(0, 10))
+                .getTotalElements();
+
+        assertThat(flightRepository.estimateFlightSearchCount("avianca")).isEqualTo(exact);
+        assertThat(flightRepository.estimateFlightSearchCount("NONEXISTENT")).isZero();
+    }
+
     @Test
     void findDistinctOrigins_ShouldReturnOnlyActiveFlights() {
         Flight inactiveOriginFlight = createFlight("AV600", "INACTIVE_ORIGIN", "MADRID", departureTime, false, 100);
@@ -289,6 +532,15 @@ class FlightRepositoryTest {
         assertThat(destinations).contains("MADRID");
     }
 
+    private void persistPricedFlight(String flightNumber, String airline, LocalDateTime departureTime,
+            int durationMinutes, String price) {
+        Flight flight = createFlight(flightNumber, "BOGOTA", "MADRID", departureTime, true, 50);
+        flight.setAirline(airline);
+        flight.setArrivalTime(departureTime.plusMinutes(durationMinutes));
+        flight.setPrice(new BigDecimal(price));
+        entityManager.persistAndFlush(flight);
+    }
+
     private Flight createFlight(String flightNumber, String origin, String destination,
             LocalDateTime departureTime, boolean active, int availableSeats) {
         return Flight.builder()
@@ -0,0 +1,130 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.entity.Flight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares bytes allocated per public search when loading managed entities and copying them into DTOs
+ * against selecting straight into DTOs. Not part of the default test run:
+ * {@code ./mvnw test -Dtest=FlightSearchAllocationBenchmark}.
+ */
+@DataJpaTest(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.amadeus.api=WARN"
+})
+@ActiveProfiles("test")
+class FlightSearchAllocationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightSearchAllocationBenchmark.class);
+
+    private static final int FLIGHTS_PER_DAY = 200;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private FlightRepository flightRepository;
+
+    private LocalDateTime startOfDay;
+
+    @BeforeEach
+    void setUp() {
+        startOfDay = LocalDate.now().plusDays(7).atStartOfDay();
+        for (int i = 0; i < FLIGHTS_PER_DAY; i++) {
+            LocalDateTime departure = startOfDay.plusMinutes(i * 7L);
+            entityManager.persist(Flight.builder()
+                    .flightNumber("AV" + (1000 + i))
+                    .airline("Avianca")
+                    .origin("BOGOTA")
+                    .destination("MADRID")
+                    .departureTime(departure)
+                    .arrivalTime(departure.plusHours(10))
+                    .duration("10h 00m")
+                    .price(new BigDecimal(1_500_000 + i * 1_000))
+                    .aircraftType("Boeing 787")
+                    .availableSeats(50)
+                    .cabinClass("Economy")
+                    .active(true)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void projectionSearch_ShouldAllocateLessPerSearchThanEntitySearch() {
+        long entityBytes = bytesPerSearch(this::entitySearch);
+        long projectionBytes = bytesPerSearch(this::projectionSearch);
+
+        log.warn("Allocation per search ({} rows): entities + copy = {} bytes, projection = {} bytes ({}% less)",
+                FLIGHTS_PER_DAY, entityBytes, projectionBytes, 100 - projectionBytes * 100 / entityBytes);
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    private List<FlightDto> entitySearch() {
+        List<FlightDto> flights = flightRepository.findAvailableFlights(
+                        "BOGOTA", "MADRID", startOfDay, startOfDay.plusDays(1), 1).stream()
+                .map(flight -> FlightDto.builder()
+                        .flightNumber(flight.getFlightNumber())
+                        .airline(flight.getAirline())
+                        .origin(flight.getOrigin())
+                        .destination(flight.getDestination())
+                        .departureTime(flight.getDepartureTime())
+                        .arrivalTime(flight.getArrivalTime())
+                        .duration(flight.getDuration())
+                        .price(flight.getPrice())
+                        .aircraftType(flight.getAircraftType())
+                        .availableSeats(flight.getAvailableSeats())
+                        .cabinClass(flight.getCabinClass())
+                        .build())
+                .toList();
+        endOfRequest();
+        return flights;
+    }
+
+    private List<FlightDto> projectionSearch() {
+        List<FlightDto> flights = flightRepository.findAvailableFlightDtos(
+                "BOGOTA", "MADRID", startOfDay, startOfDay.plusDays(1), 1);
+        endOfRequest();
+        return flights;
+    }
+
+    private void endOfRequest() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long bytesPerSearch(Supplier<List<FlightDto>> search) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            assertThat(search.get()).hasSize(FLIGHTS_PER_DAY);
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            search.get();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / MEASURED_ITERATIONS;
+    }
+}
@@ -0,0 +1,31 @@
+package com.amadeus.api.repository;
+
+import com.amadeus.api.entity.BookingStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TripCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripTheLastTripOfAPage() {
+        TripView trip = new TripView(42L, "K7QX2M", 7L, "AV123", "BOGOTA", "MADRID",
+                LocalDateTime.of(2026, 12, 1, 8, 30), 2, new BigDecimal("1000000.00"), BookingStatus.CONFIRMED);
+
+        TripCursor decoded = TripCursor.decode(TripCursor.after(trip).encode());
+
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getDepartureTime()).isEqualTo(LocalDateTime.of(2026, 12, 1, 8, 30));
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> TripCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid trip cursor");
+    }
+}
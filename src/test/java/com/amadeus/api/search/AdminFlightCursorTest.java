@@ -0,0 +1,57 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdminFlightCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripSortPositionForEveryKey() {
+        Flight flight = Flight.builder()
+                .id(42L)
+                .flightNumber("AV|123")
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(LocalDateTime.of(2026, 12, 1, 8, 30))
+                .arrivalTime(LocalDateTime.of(2026, 12, 1, 18, 45))
+                .durationMinutes(615)
+                .price(new BigDecimal("1250000.50"))
+                .availableSeats(12)
+                .createdAt(LocalDateTime.of(2026, 1, 1, 0, 0, 0, 123_000_000))
+                .build();
+
+        for (AdminSortKey sortKey : AdminSortKey.values()) {
+            AdminFlightCursor decoded = AdminFlightCursor.decode(
+                    AdminFlightCursor.after(sortKey, true, flight).encode());
+
+            assertThat(decoded.getSortKey()).isEqualTo(sortKey);
+            assertThat(decoded.isDescending()).isTrue();
+            assertThat(decoded.getSortValue()).isEqualTo(sortKey.valueOf(flight));
+            assertThat(decoded.getId()).isEqualTo(42L);
+        }
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> AdminFlightCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid admin flight cursor");
+    }
+
+    @Test
+    void from_ShouldResolveSortablePropertiesAndRejectOthers() {
+        assertThat(AdminSortKey.from("departureTime")).isEqualTo(AdminSortKey.DEPARTURE_TIME);
+        assertThat(AdminSortKey.from("price")).isEqualTo(AdminSortKey.PRICE);
+        assertThat(AdminSortKey.from(null)).isEqualTo(AdminSortKey.DEPARTURE_TIME);
+        assertThatThrownBy(() -> AdminSortKey.from("duration"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort field: duration");
+    }
+}
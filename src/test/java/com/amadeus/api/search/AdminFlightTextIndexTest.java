@@ -0,0 +1,167 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdminFlightTextIndexTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @InjectMocks
+    private AdminFlightTextIndex adminFlightTextIndex;
+
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        departure = LocalDateTime.now().plusDays(3).withNano(0);
+        when(flightRepository.findAll()).thenReturn(List.of(
+                createFlight(1L, "AV123", "Avianca", "BOGOTA", "MADRID", "Boeing 787", "Economy", departure),
+                createFlight(2L, "LA456", "LATAM", "MEDELLIN", "BOGOTA", "Airbus A320", "Business",
+                        departure.plusHours(2)),
+                createFlight(3L, "AV1234", "Avianca", "CALI", "MIAMI", "Airbus A320", "Economy",
+                        departure.plusHours(4))));
+        adminFlightTextIndex.rebuild();
+    }
+
+    @Test
+    void rebuild_ShouldIndexAllFlights() {
+        assertThat(adminFlightTextIndex.isReady()).isTrue();
+        assertThat(adminFlightTextIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsCaseInsensitivelyAcrossFields() {
+        assertThat(search("bogot")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(search("a320")).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(search("BUSINESS")).containsExactly(2L);
+        assertThat(search("nonexistent")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldMatchInsideWordsAndRejectTermsSpanningFields() {
+        assertThat(search("ianca")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(search("avmad")).isEmpty();
+    }
+
+    @Test
+    void search_ShouldRankExactMatchesFirstThenLatestDeparture() {
+        assertThat(search("av123")).containsExactly(1L, 3L);
+        assertThat(search("airbus a320")).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void search_ShouldHonourRequestedSort() {
+        Page<Long> byDeparture = adminFlightTextIndex.search("a320",
+                PageRequest.of(0, 20, Sort.by("departureTime").ascending()));
+        Page<Long> byFlightNumber = adminFlightTextIndex.search("avianca",
+                PageRequest.of(0, 20, Sort.by("flightNumber").descending()));
+
+        assertThat(byDeparture.getContent()).containsExactly(2L, 3L);
+        assertThat(byFlightNumber.getContent()).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void search_ShouldRejectSortTheIndexCannotServe() {
+        assertThatThrownBy(() -> adminFlightTextIndex.search("a320",
+                PageRequest.of(0, 20, Sort.by("createdAt"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort field for flight search: createdAt");
+    }
+
+    @Test
+    void canSort_ShouldReportWhetherEveryRequestedFieldIsIndexed() {
+        assertThat(adminFlightTextIndex.canSort(Sort.unsorted())).isTrue();
+        assertThat(adminFlightTextIndex.canSort(Sort.by("availableSeats", "price"))).isTrue();
+        assertThat(adminFlightTextIndex.canSort(Sort.by("price", "createdAt"))).isFalse();
+    }
+
+    @Test
+    void onSeatsChanged_ShouldSortByTheUpdatedSeatCounts() {
+        FlightSnapshot booked = FlightSnapshot.from(
+                createFlight(3L, "AV1234", "Avianca", "CALI", "MIAMI", "Airbus A320", "Economy",
+                        departure.plusHours(4)));
+
+        adminFlightTextIndex.onSeatsChanged(new FlightSeatsChangedEvent(3L, booked.routeDayKey(), booked.getPrice(),
+                -40, 60, true));
+
+        assertThat(adminFlightTextIndex.search("a320", PageRequest.of(0, 20, Sort.by("availableSeats")))
+                .getContent()).containsExactly(3L, 2L);
+        assertThat(search("av1234")).containsExactly(3L);
+    }
+
+    @Test
+    void search_ShouldHandleTermsShorterThanATrigram() {
+        assertThat(search("la")).containsExactly(2L);
+    }
+
+    @Test
+    void search_ShouldPageRankedMatches() {
+        Page<Long> page = adminFlightTextIndex.search("a", PageRequest.of(1, 2));
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).hasSize(1);
+    }
+
+    @Test
+    void onFlightChanged_ShouldReindexUpdatedFlightsAndDropDeletedOnes() {
+        FlightSnapshot previous = FlightSnapshot.from(
+                createFlight(2L, "LA456", "LATAM", "MEDELLIN", "BOGOTA", "Airbus A320", "Business",
+                        departure.plusHours(2)));
+        FlightSnapshot current = previous.toBuilder().destination("LIMA").active(false).build();
+
+        adminFlightTextIndex.onFlightChanged(FlightChangedEvent.updated(previous, current));
+
+        assertThat(search("bogota")).containsExactly(1L);
+        assertThat(search("lima")).containsExactly(2L);
+
+        adminFlightTextIndex.onFlightChanged(FlightChangedEvent.deleted(current));
+
+        assertThat(search("lima")).isEmpty();
+        assertThat(adminFlightTextIndex.size()).isEqualTo(2);
+    }
+
+    private List<Long> search(String term) {
+        return adminFlightTextIndex.search(term, PageRequest.of(0, 20)).getContent();
+    }
+
+    private Flight createFlight(Long id, String flightNumber, String airline, String origin, String destination,
+            String aircraftType, String cabinClass, LocalDateTime departureTime) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber(flightNumber)
+                .airline(airline)
+                .origin(origin)
+                .destination(destination)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(2))
+                .duration("2h 0m")
+                .price(new BigDecimal("300000"))
+                .aircraftType(aircraftType)
+                .availableSeats(100)
+                .cabinClass(cabinClass)
+                .active(true)
+                .build();
+    }
+}
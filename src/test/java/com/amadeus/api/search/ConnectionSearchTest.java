@@ -0,0 +1,142 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConnectionSearchTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private FlightSearchIndex flightSearchIndex;
+    private FlightSearchProperties searchProperties;
+    private ConnectionSearch connectionSearch;
+    private LocalDate travelDate;
+
+    @BeforeEach
+    void setUp() {
+        travelDate = LocalDate.now().plusDays(5);
+        searchProperties = new FlightSearchProperties();
+        flightSearchIndex = new FlightSearchIndex(flightRepository);
+        connectionSearch = new ConnectionSearch(flightSearchIndex, flightRepository, searchProperties);
+    }
+
+    @Test
+    void findOneStopItineraries_ShouldConnectThroughHub_WhenIndexed() {
+        indexFlights(
+                createFlight(1L, "PEREIRA", "BOGOTA", travelDate.atTime(7, 0), 60, "200000"),
+                createFlight(2L, "BOGOTA", "MADRID", travelDate.atTime(10, 0), 600, "2000000"),
+                createFlight(3L, "PEREIRA", "CALI", travelDate.atTime(8, 0), 45, "150000"));
+
+        List<Itinerary> itineraries = connectionSearch.findOneStopItineraries(
+                "PEREIRA", "MADRID", travelDate, 1, true);
+
+        assertThat(itineraries).hasSize(1);
+        assertThat(itineraries.get(0).getSegments()).extracting(FlightSnapshot::getId).containsExactly(1L, 2L);
+        assertThat(itineraries.get(0).getStops()).isEqualTo(1);
+        assertThat(itineraries.get(0).getTotalPrice()).isEqualByComparingTo("2200000");
+        assertThat(itineraries.get(0).getTotalMinutes()).isEqualTo(780);
+        verify(flightRepository, never()).findAvailableDepartures(anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void findOneStopItineraries_ShouldRespectMinimumConnectionTime() {
+        indexFlights(
+                createFlight(1L, "PEREIRA", "BOGOTA", travelDate.atTime(7, 0), 60, "200000"),
+                createFlight(2L, "BOGOTA", "MADRID", travelDate.atTime(8, 20), 600, "2000000"));
+
+        assertThat(connectionSearch.findOneStopItineraries("PEREIRA", "MADRID", travelDate, 1, true)).isEmpty();
+    }
+
+    @Test
+    void findOneStopItineraries_ShouldAllowOvernightConnections_WithinMaximumConnectionTime() {
+        indexFlights(
+                createFlight(1L, "PEREIRA", "BOGOTA", travelDate.atTime(20, 0), 60, "200000"),
+                createFlight(2L, "BOGOTA", "MADRID", travelDate.plusDays(1).atTime(6, 0), 600, "2000000"),
+                createFlight(3L, "BOGOTA", "MADRID", travelDate.plusDays(1).atTime(22, 0), 600, "1000000"));
+
+        List<Itinerary> itineraries = connectionSearch.findOneStopItineraries(
+                "PEREIRA", "MADRID", travelDate, 1, true);
+
+        assertThat(itineraries).hasSize(1);
+        assertThat(itineraries.get(0).getSegments().get(1).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void findOneStopItineraries_ShouldRankByGeneralizedCostAndKeepBestResults() {
+        searchProperties.getConnections().setMaxResults(2);
+        indexFlights(
+                createFlight(1L, "PEREIRA", "BOGOTA", travelDate.atTime(7, 0), 60, "200000"),
+                createFlight(2L, "BOGOTA", "MADRID", travelDate.atTime(9, 0), 600, "3000000"),
+                createFlight(3L, "BOGOTA", "MADRID", travelDate.atTime(12, 0), 600, "2000000"),
+                createFlight(4L, "BOGOTA", "MADRID", travelDate.atTime(18, 0), 600, "2500000"));
+
+        List<Itinerary> itineraries = connectionSearch.findOneStopItineraries(
+                "PEREIRA", "MADRID", travelDate, 1, true);
+
+        assertThat(itineraries).hasSize(2);
+        assertThat(itineraries).extracting(itinerary -> itinerary.getSegments().get(1).getId())
+                .containsExactly(3L, 4L);
+    }
+
+    @Test
+    void findOneStopItineraries_ShouldUseTwoRangeQueries_WhenDatabaseMode() {
+        when(flightRepository.findAvailableDepartures(
+                "PEREIRA", "MADRID", travelDate.atStartOfDay(), travelDate.plusDays(1).atStartOfDay(), 1))
+                .thenReturn(List.of(createFlight(1L, "PEREIRA", "BOGOTA", travelDate.atTime(7, 0), 60, "200000")));
+        when(flightRepository.findAvailableArrivals(
+                "MADRID", "PEREIRA", travelDate.atStartOfDay(), travelDate.plusDays(3).atStartOfDay(), 1))
+                .thenReturn(List.of(createFlight(2L, "BOGOTA", "MADRID", travelDate.atTime(10, 0), 600, "2000000")));
+
+        List<Itinerary> itineraries = connectionSearch.findOneStopItineraries(
+                "PEREIRA", "MADRID", travelDate, 1, false);
+
+        assertThat(itineraries).hasSize(1);
+        assertThat(itineraries.get(0).getSegments()).extracting(FlightSnapshot::getId).containsExactly(1L, 2L);
+    }
+
+    private void indexFlights(Flight... flights) {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(flights));
+        flightSearchIndex.rebuild();
+    }
+
+    private Flight createFlight(Long id, String origin, String destination, LocalDateTime departureTime,
+            int durationMinutes, String price) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber("AV" + (100 + id))
+                .airline("Avianca")
+                .origin(origin)
+                .destination(destination)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusMinutes(durationMinutes))
+                .duration(durationMinutes / 60 + "h " + durationMinutes % 60 + "m")
+                .price(new BigDecimal(price))
+                .aircraftType("Airbus A320")
+                .availableSeats(100)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FareCalendarTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    private FareCalendar fareCalendar;
+    private YearMonth month;
+
+    @BeforeEach
+    void setUp() {
+        fareCalendar = new FareCalendar(flightRepository);
+        month = YearMonth.now().plusMonths(1);
+    }
+
+    @Test
+    void lowestFares_ShouldReturnCheapestAvailableFarePerDay() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, month.atDay(3).atTime(8, 0), "900000", 50),
+                createFlight(2L, month.atDay(3).atTime(14, 0), "700000", 50),
+                createFlight(3L, month.atDay(3).atTime(20, 0), "500000", 0),
+                createFlight(4L, month.atDay(10).atTime(9, 0), "1200000", 10)));
+        fareCalendar.rebuild();
+
+        Map<LocalDate, BigDecimal> fares = fareCalendar.lowestFares("BOGOTA", "MADRID", month);
+
+        assertThat(fares).hasSize(month.lengthOfMonth());
+        assertThat(fares.keySet()).first().isEqualTo(month.atDay(1));
+        assertThat(fares.get(month.atDay(3))).isEqualByComparingTo("700000");
+        assertThat(fares.get(month.atDay(10))).isEqualByComparingTo("1200000");
+        assertThat(fares.get(month.atDay(4))).isNull();
+    }
+
+    @Test
+    void onFlightChanged_ShouldRecomputeLowestFare_WhenCheapestFlightIsRepricedOrDeleted() {
+        Flight cheapest = createFlight(1L, month.atDay(3).atTime(8, 0), "500000", 50);
+        Flight other = createFlight(2L, month.atDay(3).atTime(14, 0), "700000", 50);
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(cheapest, other));
+        fareCalendar.rebuild();
+
+        FlightSnapshot before = FlightSnapshot.from(cheapest);
+        FlightSnapshot repriced = before.toBuilder().price(new BigDecimal("800000")).build();
+        fareCalendar.onFlightChanged(FlightChangedEvent.updated(before, repriced));
+        assertThat(fareCalendar.lowestFares("BOGOTA", "MADRID", month).get(month.atDay(3)))
+                .isEqualByComparingTo("700000");
+
+        fareCalendar.onFlightChanged(FlightChangedEvent.deleted(FlightSnapshot.from(other)));
+        assertThat(fareCalendar.lowestFares("BOGOTA", "MADRID", month).get(month.atDay(3)))
+                .isEqualByComparingTo("800000");
+
+        fareCalendar.onFlightChanged(FlightChangedEvent.deleted(repriced));
+        assertThat(fareCalendar.lowestFares("BOGOTA", "MADRID", month).get(month.atDay(3))).isNull();
+    }
+
+    @Test
+    void onFlightChanged_ShouldMoveFare_WhenFlightIsRescheduled() {
+        Flight flight = createFlight(1L, month.atDay(3).atTime(8, 0), "500000", 50);
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(flight));
+        fareCalendar.rebuild();
+
+        FlightSnapshot before = FlightSnapshot.from(flight);
+        FlightSnapshot rescheduled = before.toBuilder()
+                .departureTime(month.atDay(5).atTime(8, 0))
+                .arrivalTime(month.atDay(5).atTime(18, 0))
+                .build();
+        fareCalendar.onFlightChanged(FlightChangedEvent.updated(before, rescheduled));
+
+        Map<LocalDate, BigDecimal> fares = fareCalendar.lowestFares("BOGOTA", "MADRID", month);
+        assertThat(fares.get(month.atDay(3))).isNull();
+        assertThat(fares.get(month.atDay(5))).isEqualByComparingTo("500000");
+    }
+
+    @Test
+    void evictPastDays_ShouldDropFaresForDaysBeforeToday() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, month.atDay(3).atTime(8, 0), "500000", 50),
+                createFlight(2L, month.atDay(4).atTime(8, 0), "700000", 50)));
+        fareCalendar.rebuild();
+
+        int evicted = fareCalendar.evictPastDays(month.atDay(4));
+
+        Map<LocalDate, BigDecimal> fares = fareCalendar.lowestFares("BOGOTA", "MADRID", month);
+        assertThat(evicted).isEqualTo(1);
+        assertThat(fares.get(month.atDay(3))).isNull();
+        assertThat(fares.get(month.atDay(4))).isEqualByComparingTo("700000");
+    }
+
+    private Flight createFlight(Long id, LocalDateTime departureTime, String price, int availableSeats) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber("AV" + (100 + id))
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(10))
+                .duration("10h 0m")
+                .price(new BigDecimal(price))
+                .aircraftType("Boeing 787")
+                .availableSeats(availableSeats)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.event.FlightChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FlightSearchCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FlightSearchProperties searchProperties;
+    private FlightSearchCache flightSearchCache;
+    private AtomicInteger loads;
+    private LocalDate travelDate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        searchProperties = new FlightSearchProperties();
+        flightSearchCache = new FlightSearchCache(searchProperties, meterRegistry);
+        loads = new AtomicInteger();
+        travelDate = LocalDate.now().plusDays(2);
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeHitsFromCache() {
+        RouteDayKey key = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+
+        flightSearchCache.get(key, 1, this::load);
+        List<FlightDto> cached = flightSearchCache.get(key, 1, this::load);
+
+        assertThat(cached).hasSize(1);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flightSearchCache.stats().hitCount()).isEqualTo(1);
+        assertThat(flightSearchCache.stats().missCount()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "flightSearch").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void onFlightChanged_ShouldInvalidateOnlyTouchedRouteDays() {
+        RouteDayKey touched = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+        RouteDayKey untouched = new RouteDayKey("BOGOTA", "CARTAGENA", travelDate);
+        flightSearchCache.get(touched, 1, this::load);
+        flightSearchCache.get(untouched, 1, this::load);
+
+        flightSearchCache.onFlightChanged(FlightChangedEvent.created(snapshot("BOGOTA", "MEDELLIN",
+                travelDate.atTime(9, 0))));
+        flightSearchCache.get(touched, 1, this::load);
+        flightSearchCache.get(untouched, 1, this::load);
+
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    void onFlightChanged_ShouldInvalidatePreviousAndCurrentRouteDay_WhenFlightMoves() {
+        RouteDayKey before = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+        RouteDayKey after = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate.plusDays(1));
+        flightSearchCache.get(before, 1, this::load);
+        flightSearchCache.get(after, 1, this::load);
+
+        FlightSnapshot previous = snapshot("BOGOTA", "MEDELLIN", travelDate.atTime(9, 0));
+        FlightSnapshot current = previous.toBuilder().departureTime(travelDate.plusDays(1).atTime(9, 0)).build();
+        flightSearchCache.onFlightChanged(FlightChangedEvent.updated(previous, current));
+        flightSearchCache.get(before, 1, this::load);
+        flightSearchCache.get(after, 1, this::load);
+
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    void get_ShouldBypassCache_WhenDisabled() {
+        searchProperties.getCache().setEnabled(false);
+        FlightSearchCache disabledCache = new FlightSearchCache(searchProperties, meterRegistry);
+        RouteDayKey key = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+
+        disabledCache.get(key, 1, this::load);
+        disabledCache.get(key, 1, this::load);
+
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_ShouldCacheBookableFlightsOnceAndFilterByPartySize() {
+        RouteDayKey key = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+        List<Integer> requestedSeats = new ArrayList<>();
+
+        List<FlightDto> forSix = flightSearchCache.get(key, 6, (routeDay, seats) -> {
+            requestedSeats.add(seats);
+            return List.of(flight(key, "AV100", 20), flight(key, "AV101", 2));
+        });
+        List<FlightDto> forOne = flightSearchCache.get(key, 1, this::load);
+
+        assertThat(requestedSeats).containsExactly(1);
+        assertThat(forSix).extracting(FlightDto::getFlightNumber).containsExactly("AV100");
+        assertThat(forOne).extracting(FlightDto::getFlightNumber).containsExactly("AV100", "AV101");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    void get_ShouldPushPartySizeToLoader_WhenDisabled() {
+        searchProperties.getCache().setEnabled(false);
+        FlightSearchCache disabledCache = new FlightSearchCache(searchProperties, meterRegistry);
+        RouteDayKey key = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+        List<Integer> requestedSeats = new ArrayList<>();
+
+        disabledCache.get(key, 6, (routeDay, seats) -> {
+            requestedSeats.add(seats);
+            return List.of();
+        });
+
+        assertThat(requestedSeats).containsExactly(6);
+    }
+
+    @Test
+    void getAll_ShouldLoadOnlyMissingRouteDaysInOneCall() {
+        RouteDayKey cached = new RouteDayKey("BOGOTA", "MEDELLIN", travelDate);
+        RouteDayKey missing = new RouteDayKey("BOGOTA", "CARTAGENA", travelDate);
+        flightSearchCache.get(cached, 1, this::load);
+        List<Set<RouteDayKey>> bulkLoads = new ArrayList<>();
+
+        Map<RouteDayKey, List<FlightDto>> flights = flightSearchCache.getAll(Set.of(cached, missing), keys -> {
+            bulkLoads.add(keys);
+            return Map.of(missing, List.of(flight(missing, "AV200", 10)));
+        });
+
+        assertThat(bulkLoads).containsExactly(Set.of(missing));
+        assertThat(flights.get(cached)).extracting(FlightDto::getFlightNumber).containsExactly("AV100");
+        assertThat(flights.get(missing)).extracting(FlightDto::getFlightNumber).containsExactly("AV200");
+    }
+
+    private List<FlightDto> load(RouteDayKey key, int seats) {
+        loads.incrementAndGet();
+        return List.of(flight(key, "AV100", 20));
+    }
+
+    private FlightDto flight(RouteDayKey key, String flightNumber, int availableSeats) {
+        return FlightDto.builder()
+                .flightNumber(flightNumber)
+                .origin(key.getOrigin())
+                .destination(key.getDestination())
+                .departureTime(key.getDay().atTime(9, 0))
+                .price(new BigDecimal("250000"))
+                .availableSeats(availableSeats)
+                .build();
+    }
+
+    private FlightSnapshot snapshot(String origin, String destination, LocalDateTime departureTime) {
+        return FlightSnapshot.builder()
+                .id(1L)
+                .flightNumber("AV100")
+                .origin(origin)
+                .destination(destination)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(1))
+                .price(new BigDecimal("250000"))
+                .availableSeats(20)
+                .active(true)
+                .build();
+    }
+}
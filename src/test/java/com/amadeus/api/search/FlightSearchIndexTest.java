@@ -0,0 +1,269 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightSearchIndexTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @InjectMocks
+    private FlightSearchIndex flightSearchIndex;
+
+    private LocalDate travelDate;
+
+    @BeforeEach
+    void setUp() {
+        travelDate = LocalDate.now().plusDays(3);
+    }
+
+    @Test
+    void rebuild_ShouldIndexActiveFlightsSortedByDepartureTime() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV300", "BOGOTA", "MEDELLIN", travelDate.atTime(18, 0), 50),
+                createFlight(2L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50),
+                createFlight(3L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50)));
+
+        flightSearchIndex.rebuild();
+
+        List<FlightSnapshot> flights = flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1);
+
+        assertThat(flightSearchIndex.isReady()).isTrue();
+        assertThat(flightSearchIndex.size()).isEqualTo(3);
+        assertThat(flights).extracting(FlightSnapshot::getFlightNumber)
+                .containsExactly("AV100", "AV200", "AV300");
+    }
+
+    @Test
+    void findAvailableFlights_ShouldSkipSoldOutFlights() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 0),
+                createFlight(2L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 10)));
+
+        flightSearchIndex.rebuild();
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getFlightNumber)
+                .containsExactly("AV200");
+    }
+
+    @Test
+    void findAvailableFlights_ShouldSkipFlightsWithFewerSeatsThanPassengers() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 2),
+                createFlight(2L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 6)));
+
+        flightSearchIndex.rebuild();
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 6))
+                .extracting(FlightSnapshot::getFlightNumber)
+                .containsExactly("AV200");
+    }
+
+    @Test
+    void search_ShouldApplyFiltersSortAndKeysetCursor() {
+        Flight cheapest = createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50);
+        cheapest.setPrice(new BigDecimal("150000"));
+        Flight middle = createFlight(2L, "LA200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50);
+        middle.setAirline("LATAM");
+        middle.setPrice(new BigDecimal("200000"));
+        Flight priciest = createFlight(3L, "AV300", "BOGOTA", "MEDELLIN", travelDate.atTime(18, 0), 50);
+        priciest.setPrice(new BigDecimal("400000"));
+        Flight otherAirline = createFlight(4L, "JA400", "BOGOTA", "MEDELLIN", travelDate.atTime(9, 0), 50);
+        otherAirline.setAirline("JetSMART");
+        otherAirline.setPrice(new BigDecimal("90000"));
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(cheapest, middle, priciest, otherAirline));
+        flightSearchIndex.rebuild();
+
+        FlightSearchCriteria criteria = FlightSearchCriteria.builder()
+                .origin("BOGOTA")
+                .destination("MEDELLIN")
+                .departureFrom(travelDate.atStartOfDay())
+                .departureTo(travelDate.plusDays(1).atStartOfDay())
+                .airlines(Set.of("Avianca", "LATAM"))
+                .sortKey(FlightSortKey.PRICE)
+                .descending(true)
+                .limit(2)
+                .build();
+
+        List<FlightSnapshot> firstPage = flightSearchIndex.search(criteria);
+        SearchCursor cursor = SearchCursor.after(FlightSortKey.PRICE, true, firstPage.get(1));
+        List<FlightSnapshot> secondPage = flightSearchIndex.search(criteria.toBuilder().after(cursor).build());
+
+        assertThat(firstPage).extracting(FlightSnapshot::getFlightNumber).containsExactly("AV300", "LA200");
+        assertThat(secondPage).extracting(FlightSnapshot::getFlightNumber).containsExactly("AV100");
+    }
+
+    @Test
+    void findAvailableFlights_ShouldReturnEmptyList_WhenRouteDayNotIndexed() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of());
+
+        flightSearchIndex.rebuild();
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MADRID", travelDate, 1)).isEmpty();
+    }
+
+    @Test
+    void onFlightChanged_ShouldInsertCreatedFlightInOrder() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50),
+                createFlight(2L, "AV300", "BOGOTA", "MEDELLIN", travelDate.atTime(18, 0), 50)));
+        flightSearchIndex.rebuild();
+
+        FlightSnapshot created = FlightSnapshot.from(
+                createFlight(3L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50));
+        flightSearchIndex.onFlightChanged(FlightChangedEvent.created(created));
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getFlightNumber)
+                .containsExactly("AV100", "AV200", "AV300");
+    }
+
+    @Test
+    void onFlightChanged_ShouldMoveFlightToNewBucket_WhenRouteOrDayChanges() {
+        Flight flight = createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50);
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(flight));
+        flightSearchIndex.rebuild();
+
+        FlightSnapshot previous = FlightSnapshot.from(flight);
+        FlightSnapshot current = previous.toBuilder()
+                .destination("CALI")
+                .departureTime(travelDate.plusDays(1).atTime(9, 0))
+                .build();
+        flightSearchIndex.onFlightChanged(FlightChangedEvent.updated(previous, current));
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1)).isEmpty();
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "CALI", travelDate.plusDays(1), 1))
+                .extracting(FlightSnapshot::getId)
+                .containsExactly(1L);
+        assertThat(flightSearchIndex.size()).isEqualTo(1);
+    }
+
+    @Test
+    void onFlightChanged_ShouldRemoveFlight_WhenDeactivatedOrDeleted() {
+        Flight first = createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50);
+        Flight second = createFlight(2L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50);
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(first, second));
+        flightSearchIndex.rebuild();
+
+        FlightSnapshot deactivated = FlightSnapshot.from(first).toBuilder().active(false).build();
+        flightSearchIndex.onFlightChanged(FlightChangedEvent.updated(FlightSnapshot.from(first), deactivated));
+        flightSearchIndex.onFlightChanged(FlightChangedEvent.deleted(FlightSnapshot.from(second)));
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1)).isEmpty();
+        assertThat(flightSearchIndex.size()).isZero();
+    }
+
+    @Test
+    void onSeatsChanged_ShouldApplyTheRemainingSeatCount_EvenWhenTheEventIsRepeated() {
+        Flight flight = createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50);
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(flight));
+        flightSearchIndex.rebuild();
+
+        FlightSeatsChangedEvent booked = new FlightSeatsChangedEvent(1L,
+                new RouteDayKey("BOGOTA", "MEDELLIN", travelDate), flight.getPrice(), -2, 48, true);
+        flightSearchIndex.onSeatsChanged(booked);
+        flightSearchIndex.onSeatsChanged(booked);
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getAvailableSeats).containsExactly(48);
+    }
+
+    @Test
+    void rebuild_ShouldKeepSeatEventsThatArriveWhileTheTableIsRead() throws Exception {
+        Flight flight = createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50);
+        FlightSeatsChangedEvent booked = new FlightSeatsChangedEvent(1L,
+                new RouteDayKey("BOGOTA", "MEDELLIN", travelDate), flight.getPrice(), -2, 48, true);
+        Thread booking = new Thread(() -> flightSearchIndex.onSeatsChanged(booked));
+        when(flightRepository.findByActiveTrue()).thenAnswer(invocation -> {
+            booking.start();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (booking.getState() != Thread.State.BLOCKED && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+            return List.of(flight);
+        });
+
+        flightSearchIndex.rebuild();
+        booking.join(5000);
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getAvailableSeats).containsExactly(48);
+    }
+
+    @Test
+    void onFlightsImported_ShouldAddOnlyTheImportedActiveFlights() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50)));
+        flightSearchIndex.rebuild();
+        FlightSnapshot imported = FlightSnapshot.from(
+                createFlight(2L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(6, 0), 50));
+        FlightSnapshot inactive = imported.toBuilder().id(3L).flightNumber("AV300").active(false).build();
+
+        flightSearchIndex.onFlightsImported(new FlightsImportedEvent(List.of(imported, inactive)));
+
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getFlightNumber).containsExactly("AV200", "AV100");
+        verify(flightRepository, times(1)).findByActiveTrue();
+    }
+
+    @Test
+    void evictPastDays_ShouldDropBucketsAndFlightsBeforeToday() {
+        when(flightRepository.findByActiveTrue()).thenReturn(List.of(
+                createFlight(1L, "AV100", "BOGOTA", "MEDELLIN", travelDate.minusDays(1).atTime(6, 0), 50),
+                createFlight(2L, "AV200", "BOGOTA", "MEDELLIN", travelDate.atTime(12, 0), 50)));
+        flightSearchIndex.rebuild();
+
+        int evicted = flightSearchIndex.evictPastDays(travelDate);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(flightSearchIndex.size()).isEqualTo(1);
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate.minusDays(1), 1))
+                .isEmpty();
+        assertThat(flightSearchIndex.findAvailableFlights("BOGOTA", "MEDELLIN", travelDate, 1))
+                .extracting(FlightSnapshot::getFlightNumber)
+                .containsExactly("AV200");
+    }
+
+    private Flight createFlight(Long id, String flightNumber, String origin, String destination,
+            LocalDateTime departureTime, int availableSeats) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber(flightNumber)
+                .airline("Avianca")
+                .origin(origin)
+                .destination(destination)
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(1))
+                .duration("1h 0m")
+                .price(new BigDecimal("250000"))
+                .aircraftType("Airbus A320")
+                .availableSeats(availableSeats)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+    }
+}
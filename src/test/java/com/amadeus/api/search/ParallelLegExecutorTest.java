@@ -0,0 +1,152 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.config.ReplicaRoutingDataSource;
+import com.amadeus.api.exception.FlightSearchTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelLegExecutorTest {
+
+    private FlightSearchProperties searchProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private ParallelLegExecutor parallelLegExecutor;
+
+    @BeforeEach
+    void setUp() {
+        searchProperties = new FlightSearchProperties();
+        searchProperties.getParallel().setDeadline(Duration.ofMillis(500));
+        meterRegistry = new SimpleMeterRegistry();
+        parallelLegExecutor = new ParallelLegExecutor(searchProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        parallelLegExecutor.destroy();
+    }
+
+    @Test
+    void invokeAll_ShouldRunLegsConcurrentlyAndKeepSubmissionOrder() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<Supplier<String>> legs = List.of(
+                () -> awaitPeer(bothStarted, "outbound"),
+                () -> awaitPeer(bothStarted, "return"));
+
+        List<String> results = parallelLegExecutor.invokeAll(legs);
+
+        assertThat(results).containsExactly("outbound", "return");
+        assertThat(meterRegistry.get("flight.search.parallel.wall").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("flight.search.parallel.saved").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void invokeAll_ShouldRunLegsAsTheCallingUser() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("traveler@example.com", null, List.of()));
+        try {
+            List<Supplier<String>> legs = List.of(
+                    ReplicaRoutingDataSource::currentCaller,
+                    ReplicaRoutingDataSource::currentCaller);
+
+            assertThat(parallelLegExecutor.invokeAll(legs))
+                    .containsExactly("traveler@example.com", "traveler@example.com");
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Test
+    void invokeAll_ShouldPropagateFailureAndCancelOtherLeg() {
+        CountDownLatch released = new CountDownLatch(1);
+        List<Supplier<String>> legs = List.of(
+                () -> {
+                    throw new IllegalStateException("outbound failed");
+                },
+                () -> {
+                    try {
+                        released.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "return";
+                });
+
+        assertThatThrownBy(() -> parallelLegExecutor.invokeAll(legs))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("outbound failed");
+    }
+
+    @Test
+    void invokeAll_ShouldThrowTimeout_WhenDeadlineExceeded() {
+        searchProperties.getParallel().setDeadline(Duration.ofMillis(50));
+        List<Supplier<String>> legs = List.of(
+                () -> "outbound",
+                () -> sleep(2000, "return"));
+
+        assertThatThrownBy(() -> parallelLegExecutor.invokeAll(legs))
+                .isInstanceOf(FlightSearchTimeoutException.class);
+    }
+
+    @Test
+    void invokeAll_ShouldThrowTimeoutWithoutRunningLegsOnTheCaller_WhenPoolAndQueueAreFull() {
+        parallelLegExecutor.destroy();
+        searchProperties.getParallel().setPoolSize(1);
+        searchProperties.getParallel().setQueueCapacity(1);
+        parallelLegExecutor = new ParallelLegExecutor(searchProperties, meterRegistry);
+        Thread caller = Thread.currentThread();
+        CountDownLatch released = new CountDownLatch(1);
+        List<Supplier<Boolean>> legs = List.of(
+                () -> await(released),
+                () -> await(released),
+                () -> Thread.currentThread() == caller);
+
+        try {
+            assertThatThrownBy(() -> parallelLegExecutor.invokeAll(legs))
+                    .isInstanceOf(FlightSearchTimeoutException.class)
+                    .hasMessageContaining("capacity");
+        } finally {
+            released.countDown();
+        }
+    }
+
+    private boolean await(CountDownLatch released) {
+        try {
+            return released.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String awaitPeer(CountDownLatch bothStarted, String result) {
+        bothStarted.countDown();
+        try {
+            assertThat(bothStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+
+    private String sleep(long millis, String result) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.amadeus.api.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchCursorTest {
+
+    @Test
+    void encode_ShouldRoundTripSortPositionForEveryKey() {
+        FlightSnapshot flight = FlightSnapshot.builder()
+                .id(42L)
+                .departureTime(LocalDateTime.of(2026, 12, 1, 8, 30))
+                .arrivalTime(LocalDateTime.of(2026, 12, 1, 18, 45))
+                .price(new BigDecimal("1250000.50"))
+                .build();
+
+        for (FlightSortKey sortKey : FlightSortKey.values()) {
+            SearchCursor cursor = SearchCursor.after(sortKey, true, flight);
+
+            SearchCursor decoded = SearchCursor.decode(cursor.encode());
+
+            assertThat(decoded.getSortKey()).isEqualTo(sortKey);
+            assertThat(decoded.isDescending()).isTrue();
+            assertThat(decoded.getSortValue()).isEqualTo(sortKey.valueOf(flight));
+            assertThat(decoded.getId()).isEqualTo(42L);
+        }
+    }
+
+    @Test
+    void precedes_ShouldBreakTiesById() {
+        FlightSnapshot first = FlightSnapshot.builder().id(1L).price(new BigDecimal("300000")).build();
+        FlightSnapshot second = FlightSnapshot.builder().id(2L).price(new BigDecimal("300000")).build();
+
+        SearchCursor cursor = SearchCursor.after(FlightSortKey.PRICE, false, first);
+
+        assertThat(cursor.precedes(first)).isFalse();
+        assertThat(cursor.precedes(second)).isTrue();
+    }
+
+    @Test
+    void decode_ShouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid search cursor");
+    }
+}
@@ -0,0 +1,79 @@
+package com.amadeus.api.search;
+
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.response.FlightDto;
+import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.SearchMetadata;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchSnapshotStoreTest {
+
+    private FlightSearchProperties searchProperties;
+    private SearchSnapshotStore searchSnapshotStore;
+
+    @BeforeEach
+    void setUp() {
+        searchProperties = new FlightSearchProperties();
+        searchSnapshotStore = new SearchSnapshotStore(searchProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void save_ShouldKeepImmutableCopyOfResultLists() {
+        List<FlightDto> outbound = new ArrayList<>(List.of(flight("AV123")));
+        searchSnapshotStore.save(response("search_1", outbound));
+        outbound.add(flight("AV456"));
+
+        SearchSnapshot snapshot = searchSnapshotStore.find("search_1").orElseThrow();
+
+        assertThat(snapshot.getOutboundFlights()).extracting(FlightDto::getFlightNumber).containsExactly("AV123");
+        assertThat(snapshot.getReturnFlights()).isEmpty();
+        assertThatThrownBy(() -> snapshot.getOutboundFlights().add(flight("AV789")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void find_ShouldReturnEmpty_WhenSearchIdUnknown() {
+        assertThat(searchSnapshotStore.find("search_missing")).isEmpty();
+    }
+
+    @Test
+    void save_ShouldStayWithinMaximumSize() {
+        searchProperties.getSnapshots().setMaximumSize(2);
+        SearchSnapshotStore bounded = new SearchSnapshotStore(searchProperties, new SimpleMeterRegistry());
+
+        for (int i = 0; i < 10; i++) {
+            bounded.save(response("search_" + i, List.of(flight("AV" + i))));
+        }
+
+        assertThat(bounded.size()).isLessThanOrEqualTo(2);
+    }
+
+    private FlightSearchResponse response(String searchId, List<FlightDto> outbound) {
+        return FlightSearchResponse.builder()
+                .outboundFlights(outbound)
+                .returnFlights(List.of())
+                .metadata(SearchMetadata.builder()
+                        .searchId(searchId)
+                        .searchTime(LocalDateTime.now())
+                        .build())
+                .build();
+    }
+
+    private FlightDto flight(String flightNumber) {
+        return FlightDto.builder()
+                .flightNumber(flightNumber)
+                .price(new BigDecimal("250000"))
+                .availableSeats(10)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.repository.BookingRef;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.search.FlightSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingItinerarySyncTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private BookingItinerarySync bookingItinerarySync;
+
+    private FlightSnapshot flight;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime departure = LocalDateTime.now().plusDays(5).withNano(0);
+        flight = FlightSnapshot.builder()
+                .id(7L)
+                .flightNumber("AV123")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departure)
+                .arrivalTime(departure.plusHours(10))
+                .price(new BigDecimal("500000.00"))
+                .availableSeats(50)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    void onFlightChanged_ShouldRewriteBookingsAndEvictOnlyThoseOnTheFlight() {
+        FlightSnapshot delayed = flight.toBuilder().departureTime(flight.getDepartureTime().plusHours(3)).build();
+        when(bookingRepository.findRefsByFlightId(7L)).thenReturn(List.of(
+                new BookingRef(11L, "K7QX2M", 3L), new BookingRef(12L, "P4TZ8W", 4L)));
+
+        bookingItinerarySync.onFlightChanged(FlightChangedEvent.updated(flight, delayed));
+
+        verify(bookingRepository).updateItinerary(7L, "AV123", "BOGOTA", "MADRID", delayed.getDepartureTime());
+        ArgumentCaptor<BookingChangedEvent> events = ArgumentCaptor.forClass(BookingChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(BookingChangedEvent::getReference)
+                .containsExactly("K7QX2M", "P4TZ8W");
+        assertThat(events.getAllValues()).extracting(BookingChangedEvent::getUserId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void onFlightChanged_ShouldDoNothing_WhenItineraryIsUnchanged() {
+        FlightSnapshot repriced = flight.toBuilder().price(new BigDecimal("450000.00")).build();
+
+        bookingItinerarySync.onFlightChanged(FlightChangedEvent.updated(flight, repriced));
+
+        verifyNoInteractions(bookingRepository, eventPublisher);
+    }
+
+    @Test
+    void onFlightChanged_ShouldSkipTheUpdate_WhenFlightHasNoBookings() {
+        FlightSnapshot renumbered = flight.toBuilder().flightNumber("AV124").build();
+        when(bookingRepository.findRefsByFlightId(7L)).thenReturn(List.of());
+
+        bookingItinerarySync.onFlightChanged(FlightChangedEvent.updated(flight, renumbered));
+
+        verify(bookingRepository, never()).updateItinerary(anyLong(), any(), any(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,286 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.BookingProperties;
+import com.amadeus.api.config.SeatWriteProperties;
+import com.amadeus.api.dto.request.CreateBookingRequest;
+import com.amadeus.api.dto.response.BookingDto;
+import com.amadeus.api.entity.Booking;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.entity.SeatHold;
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.BookingNotCancellableException;
+import com.amadeus.api.exception.BookingNotFoundException;
+import com.amadeus.api.exception.BookingReferenceUnavailableException;
+import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.BookingView;
+import com.amadeus.api.repository.FlightSeatView;
+import com.amadeus.api.repository.UserRepository;
+import com.amadeus.api.search.RouteDayKey;
+import com.amadeus.api.service.SeatHoldService;
+import com.amadeus.api.util.BookingReferenceGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+
+    private static final String EMAIL = "traveler@example.com";
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SeatHoldService seatHoldService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BookingServiceImpl bookingService;
+
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        SeatWriteProperties writeProperties = new SeatWriteProperties();
+        writeProperties.setCoalesce(false);
+        SeatWriteCoalescer seatWriteCoalescer = new SeatWriteCoalescer(flightRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher, writeProperties,
+                new SimpleMeterRegistry());
+        bookingService = new BookingServiceImpl(bookingRepository, flightRepository, userRepository,
+                seatHoldService, seatWriteCoalescer, new BookingReferenceGenerator(),
+                new BookingLookupCache(new BookingProperties(), new SimpleMeterRegistry()), eventPublisher);
+        departure = LocalDateTime.now().plusDays(5).withNano(0);
+        lenient().when(userRepository.findEnabledIdByEmail(EMAIL)).thenReturn(Optional.of(3L));
+    }
+
+    @Test
+    void createBooking_ShouldTakeSeatsWithConditionalUpdateAndPublishSeatChange() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(48, true)));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking booking = invocation.getArgument(0);
+            booking.setId(11L);
+            return booking;
+        });
+
+        BookingDto booking = bookingService.createBooking(EMAIL, new CreateBookingRequest(7L, 2));
+
+        assertThat(booking.getId()).isEqualTo(11L);
+        assertThat(booking.getReference()).hasSize(BookingReferenceGenerator.LENGTH);
+        assertThat(booking.getFlightNumber()).isEqualTo("AV123");
+        assertThat(booking.getTotalPrice()).isEqualByComparingTo("1000000.00");
+        assertThat(booking.getStatus()).isEqualTo("CONFIRMED");
+
+        assertThat(publishedEvents(BookingChangedEvent.class)).extracting(BookingChangedEvent::getReference)
+                .containsExactly(booking.getReference());
+        FlightSeatsChangedEvent event = publishedEvents(FlightSeatsChangedEvent.class).get(0);
+        assertThat(event.getDelta()).isEqualTo(-2);
+        assertThat(event.getRemainingSeats()).isEqualTo(48);
+        assertThat(event.getRouteDay())
+                .isEqualTo(new RouteDayKey("BOGOTA", "MADRID", departure.toLocalDate()));
+    }
+
+    @Test
+    void createBooking_ShouldFailWithReferenceUnavailable_WhenEveryCandidateIsTaken() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(48, true)));
+        when(bookingRepository.existsByReference(anyString())).thenReturn(true);
+
+        assertThatThrownBy(() -> bookingService.createBooking(EMAIL, new CreateBookingRequest(7L, 2)))
+                .isInstanceOf(BookingReferenceUnavailableException.class);
+        verify(bookingRepository, never()).save(any());
+    }
+
+    @Test
+    void createBooking_ShouldThrowSeatsUnavailable_WhenConditionalUpdateMatchesNothing() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(1, true)));
+
+        assertThatThrownBy(() -> bookingService.createBooking(EMAIL, new CreateBookingRequest(7L, 2)))
+                .isInstanceOf(SeatsUnavailableException.class)
+                .hasMessage("Only 1 seats left on flight AV123, requested 2");
+        verify(bookingRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any(FlightSeatsChangedEvent.class));
+    }
+
+    @Test
+    void createBooking_ShouldRejectInactiveFlights() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(50, false)));
+
+        assertThatThrownBy(() -> bookingService.createBooking(EMAIL, new CreateBookingRequest(7L, 1)))
+                .isInstanceOf(SeatsUnavailableException.class)
+                .hasMessage("Flight AV123 is not open for booking");
+    }
+
+    @Test
+    void createBooking_ShouldThrowFlightNotFound_WhenFlightDoesNotExist() {
+        when(flightRepository.decrementAvailableSeats(eq(99L), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.createBooking(EMAIL, new CreateBookingRequest(99L, 1)))
+                .isInstanceOf(FlightNotFoundException.class);
+    }
+
+    @Test
+    void cancelBooking_ShouldReleaseSeatsOnce() {
+        Booking booking = confirmedBooking();
+        when(bookingRepository.findByIdAndUserId(11L, 3L)).thenReturn(Optional.of(booking));
+        when(bookingRepository.updateStatus(eq(11L), eq(BookingStatus.CONFIRMED), eq(BookingStatus.CANCELLED),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(50, true)));
+
+        BookingDto cancelled = bookingService.cancelBooking(EMAIL, 11L);
+
+        assertThat(cancelled.getStatus()).isEqualTo("CANCELLED");
+        assertThat(publishedEvents(FlightSeatsChangedEvent.class)).singleElement()
+                .extracting(FlightSeatsChangedEvent::getDelta).isEqualTo(2);
+        assertThat(publishedEvents(BookingChangedEvent.class)).hasSize(1);
+    }
+
+    @Test
+    void cancelBooking_ShouldNotReleaseSeatsTwice_WhenCancelledConcurrently() {
+        when(bookingRepository.findByIdAndUserId(11L, 3L)).thenReturn(Optional.of(confirmedBooking()));
+        when(bookingRepository.updateStatus(eq(11L), eq(BookingStatus.CONFIRMED), eq(BookingStatus.CANCELLED),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        assertThatThrownBy(() -> bookingService.cancelBooking(EMAIL, 11L))
+                .isInstanceOf(BookingNotCancellableException.class)
+                .hasMessage("Booking 11 is already cancelled");
+        verify(flightRepository, never()).incrementAvailableSeats(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void cancelBooking_ShouldThrowNotFound_ForOtherUsersBookings() {
+        when(bookingRepository.findByIdAndUserId(12L, 3L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.cancelBooking(EMAIL, 12L))
+                .isInstanceOf(BookingNotFoundException.class);
+    }
+
+    @Test
+    void confirmHold_ShouldBookHeldSeatsAtHeldPriceWithoutTouchingAvailability() {
+        when(seatHoldService.claimHold(3L, "hold-1")).thenReturn(SeatHold.builder()
+                .id("hold-1")
+                .userId(3L)
+                .flightId(7L)
+                .seats(2)
+                .totalPrice(new BigDecimal("900000.00"))
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(48, true)));
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        BookingDto booking = bookingService.confirmHold(EMAIL, "hold-1");
+
+        assertThat(booking.getSeats()).isEqualTo(2);
+        assertThat(booking.getTotalPrice()).isEqualByComparingTo("900000.00");
+        assertThat(booking.getStatus()).isEqualTo("CONFIRMED");
+        verify(flightRepository, never()).decrementAvailableSeats(anyLong(), anyInt(), any());
+        verify(eventPublisher, never()).publishEvent(any(FlightSeatsChangedEvent.class));
+    }
+
+    @Test
+    void getBooking_ShouldServeRepeatedLookupsFromCache() {
+        when(bookingRepository.findViewByReference("K7QX2M")).thenReturn(Optional.of(bookingView()));
+
+        BookingDto first = bookingService.getBooking(EMAIL, "k7qx2m ");
+        BookingDto second = bookingService.getBooking(EMAIL, "K7QX2M");
+
+        assertThat(first.getReference()).isEqualTo("K7QX2M");
+        assertThat(first.getFlightNumber()).isEqualTo("AV123");
+        assertThat(second).isEqualTo(first);
+        verify(bookingRepository, times(1)).findViewByReference("K7QX2M");
+        verify(userRepository, never()).findEnabledIdByEmail(any());
+    }
+
+    @Test
+    void getBooking_ShouldHideOtherUsersBookingsButNotFromStaff() {
+        when(bookingRepository.findViewByReference("K7QX2M")).thenReturn(Optional.of(bookingView()));
+
+        assertThatThrownBy(() -> bookingService.getBooking("someone@example.com", "K7QX2M"))
+                .isInstanceOf(BookingNotFoundException.class)
+                .hasMessage("Booking not found with reference: K7QX2M");
+        assertThat(bookingService.getBooking("K7QX2M").getSeats()).isEqualTo(2);
+    }
+
+    @Test
+    void getBooking_ShouldNotCacheUnknownReferences() {
+        when(bookingRepository.findViewByReference("ZZZZZZ")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> bookingService.getBooking("ZZZZZZ")).isInstanceOf(BookingNotFoundException.class);
+        assertThatThrownBy(() -> bookingService.getBooking("ZZZZZZ")).isInstanceOf(BookingNotFoundException.class);
+
+        verify(bookingRepository, times(2)).findViewByReference("ZZZZZZ");
+    }
+
+    private <T> List<T> publishedEvents(Class<T> type) {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream().filter(type::isInstance).map(type::cast).toList();
+    }
+
+    private BookingView bookingView() {
+        return new BookingView(11L, "K7QX2M", EMAIL, 7L, "AV123", "BOGOTA", "MADRID", departure, 2,
+                new BigDecimal("1000000.00"), BookingStatus.CONFIRMED, LocalDateTime.now());
+    }
+
+    private Booking confirmedBooking() {
+        return Booking.builder()
+                .id(11L)
+                .userId(3L)
+                .flightId(7L)
+                .flightNumber("AV123")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departure)
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .status(BookingStatus.CONFIRMED)
+                .build();
+    }
+
+    private FlightSeatView seatView(int availableSeats, boolean active) {
+        return new FlightSeatView(7L, "AV123", "BOGOTA", "MADRID", departure, new BigDecimal("500000.00"),
+                availableSeats, active);
+    }
+}
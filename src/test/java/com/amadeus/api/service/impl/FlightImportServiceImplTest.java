@@ -0,0 +1,220 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.FlightImportProperties;
+import com.amadeus.api.dto.request.FlightImportFormat;
+import com.amadeus.api.dto.response.FlightImportError;
+import com.amadeus.api.dto.response.FlightImportReport;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightsImportedEvent;
+import com.amadeus.api.repository.FlightBatchWriter;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightScheduleKey;
+import com.amadeus.api.search.FlightSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightImportServiceImplTest {
+
+    private static final String CSV_HEADER = "flightNumber,airline,origin,destination,departureTime,arrivalTime,"
+            + "duration,price,aircraftType,availableSeats,cabinClass\n";
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private FlightBatchWriter flightBatchWriter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FlightImportProperties importProperties;
+    private FlightImportServiceImpl flightImportService;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        importProperties = new FlightImportProperties();
+        flightImportService = new FlightImportServiceImpl(flightRepository, flightBatchWriter,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper().findAndRegisterModules(), importProperties, eventPublisher);
+        departure = LocalDateTime.now().plusDays(30).withNano(0);
+    }
+
+    @Test
+    void importFlights_ShouldImportValidCsvRowsAndReportRejectedOnes() {
+        String csv = CSV_HEADER
+                + csvRow("AV100", departure, 150) + "\n"
+                + csvRow("AV101", departure, 0) + "\n"
+                + "\n"
+                + csvRow("AV100", departure, 120) + "\n"
+                + "AV102,\"Avianca, S.A.\",bogota,madrid,not-a-date," + departure.plusHours(9)
+                + ",9h 0m,1500000,Boeing 787,150,Economy\n";
+
+        when(flightRepository.findScheduledFlights(any(), any(), any())).thenReturn(List.of(
+                storedFlight(10L, "AV100", departure), storedFlight(11L, "AV100", departure.plusDays(1))));
+
+        FlightImportReport report = flightImportService.importFlights(stream(csv), FlightImportFormat.CSV);
+
+        assertThat(report.getTotalRows()).isEqualTo(4);
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getRejected()).isEqualTo(3);
+        assertThat(report.getErrors()).extracting(FlightImportError::getLine).containsExactly(3L, 5L, 6L);
+        assertThat(report.getErrors().get(0).getMessage())
+                .isEqualTo("availableSeats: Available seats must be at least 1");
+        assertThat(report.getErrors().get(1).getMessage()).startsWith("Duplicate of an earlier row");
+        assertThat(report.getErrors().get(2).getMessage()).isEqualTo("Invalid value for departureTime: 'not-a-date'");
+
+        ArgumentCaptor<List<Flight>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(flightBatchWriter).insertAll(inserted.capture());
+        assertThat(inserted.getValue()).singleElement().satisfies(flight -> {
+            assertThat(flight.getOrigin()).isEqualTo("BOGOTA");
+            assertThat(flight.getDurationMinutes()).isEqualTo(540);
+            assertThat(flight.isActive()).isTrue();
+        });
+        ArgumentCaptor<FlightsImportedEvent> event = ArgumentCaptor.forClass(FlightsImportedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getFlights()).extracting(FlightSnapshot::getId).containsExactly(10L);
+    }
+
+    @Test
+    void importFlights_ShouldRejectNdjsonRowsThatAlreadyExistOrAreMalformed() {
+        when(flightRepository.findScheduleKeys(any(), any(), any()))
+                .thenReturn(List.of(new FlightScheduleKey("AV201", departure.plusDays(1))));
+        String ndjson = jsonRow("AV200", departure) + "\n"
+                + "{\"flightNumber\": \"AV9\n"
+                + jsonRow("AV201", departure.plusDays(1)) + "\n";
+
+        FlightImportReport report = flightImportService.importFlights(stream(ndjson), FlightImportFormat.NDJSON);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).extracting(FlightImportError::getLine).containsExactly(2L, 3L);
+        assertThat(report.getErrors().get(0).getMessage()).startsWith("Malformed JSON");
+        assertThat(report.getErrors().get(1).getFlightNumber()).isEqualTo("AV201");
+        assertThat(report.getErrors().get(1).getMessage()).contains("already exists");
+    }
+
+    @Test
+    void importFlights_ShouldWriteInBatchesOfConfiguredSize() {
+        importProperties.setBatchSize(2);
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < 5; i++) {
+            csv.append(csvRow("AV30" + i, departure.plusHours(i), 100)).append("\n");
+        }
+
+        FlightImportReport report = flightImportService.importFlights(stream(csv.toString()), FlightImportFormat.CSV);
+
+        assertThat(report.getImported()).isEqualTo(5);
+        verify(flightBatchWriter, times(2)).insertAll(argThat(batch -> batch.size() == 2));
+        verify(flightBatchWriter).insertAll(argThat(batch -> batch.size() == 1));
+        verify(flightRepository, times(3)).findScheduleKeys(any(), any(), any());
+    }
+
+    @Test
+    void importFlights_ShouldRetryRowByRow_WhenBatchViolatesConstraint() {
+        doThrow(new DuplicateKeyException("ux_flights_number_departure"))
+                .when(flightBatchWriter).insertAll(argThat(batch -> batch.size() == 2));
+        doNothing().when(flightBatchWriter).insertAll(argThat(batch -> batch.size() == 1
+                && batch.get(0).getFlightNumber().equals("AV400")));
+        doThrow(new DuplicateKeyException("ux_flights_number_departure"))
+                .when(flightBatchWriter).insertAll(argThat(batch -> batch.size() == 1
+                        && batch.get(0).getFlightNumber().equals("AV401")));
+        String csv = CSV_HEADER + csvRow("AV400", departure, 100) + "\n" + csvRow("AV401", departure, 100) + "\n";
+
+        FlightImportReport report = flightImportService.importFlights(stream(csv), FlightImportFormat.CSV);
+
+        assertThat(report.getImported()).isEqualTo(1);
+        assertThat(report.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getFlightNumber()).isEqualTo("AV401");
+            assertThat(error.getMessage()).startsWith("Rejected by the database");
+        });
+    }
+
+    @Test
+    void importFlights_ShouldCapReportedErrors() {
+        importProperties.setMaxReportedErrors(1);
+        String csv = CSV_HEADER + csvRow("AV500", departure, 0) + "\n" + csvRow("AV501", departure, 0) + "\n";
+
+        FlightImportReport report = flightImportService.importFlights(stream(csv), FlightImportFormat.CSV);
+
+        assertThat(report.getRejected()).isEqualTo(2);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.isErrorsTruncated()).isTrue();
+        verify(flightBatchWriter, never()).insertAll(anyList());
+        verify(eventPublisher, never()).publishEvent(any(FlightsImportedEvent.class));
+    }
+
+    @Test
+    void importFlights_ShouldFail_WhenCsvHeaderIsMissingColumns() {
+        String csv = "flightNumber,airline\nAV600,Avianca\n";
+
+        assertThatThrownBy(() -> flightImportService.importFlights(stream(csv), FlightImportFormat.CSV))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("CSV header is missing columns: origin, destination");
+    }
+
+    private Flight storedFlight(Long id, String flightNumber, LocalDateTime departureTime) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber(flightNumber)
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(9))
+                .duration("9h 0m")
+                .price(new BigDecimal("1500000"))
+                .aircraftType("Boeing 787")
+                .availableSeats(150)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+    }
+
+    private String csvRow(String flightNumber, LocalDateTime departureTime, int seats) {
+        return flightNumber + ",Avianca,bogota,madrid," + departureTime + "," + departureTime.plusHours(9)
+                + ",9h 0m,1500000," + "Boeing 787," + seats + ",Economy";
+    }
+
+    private String jsonRow(String flightNumber, LocalDateTime departureTime) {
+        return "{\"flightNumber\":\"" + flightNumber + "\",\"airline\":\"Avianca\",\"origin\":\"BOGOTA\","
+                + "\"destination\":\"MADRID\",\"departureTime\":\"" + departureTime + "\",\"arrivalTime\":\""
+                + departureTime.plusHours(9) + "\",\"duration\":\"9h 0m\",\"price\":1500000,"
+                + "\"aircraftType\":\"Boeing 787\",\"availableSeats\":150,\"cabinClass\":\"Economy\"}";
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
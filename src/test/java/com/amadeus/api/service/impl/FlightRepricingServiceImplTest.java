@@ -0,0 +1,193 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.FlightRepricingProperties;
+import com.amadeus.api.dto.request.FlightRepriceRequest;
+import com.amadeus.api.dto.request.PriceAdjustment;
+import com.amadeus.api.dto.response.FlightRepriceReport;
+import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightRepriceCriteria;
+import com.amadeus.api.repository.PriceRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRepricingServiceImplTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private FlightRepricingProperties repricingProperties;
+    private FlightRepricingServiceImpl flightRepricingService;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        repricingProperties = new FlightRepricingProperties();
+        flightRepricingService = new FlightRepricingServiceImpl(flightRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), repricingProperties, eventPublisher);
+        departure = LocalDateTime.now().plusDays(10).withNano(0);
+    }
+
+    @Test
+    void repriceFlights_ShouldUpdateInChunksAndPublishChangesOnlyForRepricedFlights() {
+        repricingProperties.setChunkSize(2);
+        Flight first = createFlight(1L, departure, "500000");
+        Flight second = createFlight(2L, departure.plusHours(3), "100000");
+        Flight third = createFlight(3L, departure.plusDays(1), "600000");
+
+        when(flightRepository.findRepriceCandidates(any(FlightRepriceCriteria.class), isNull(), eq(2)))
+                .thenReturn(List.of(first, second));
+        when(flightRepository.findRepriceCandidates(any(FlightRepriceCriteria.class), eq(2L), eq(2)))
+                .thenReturn(List.of(third));
+        when(flightRepository.repriceFlights(eq(Set.of(1L, 2L)), any(PriceRule.class), any(LocalDateTime.class)))
+                .thenReturn(2);
+        when(flightRepository.repriceFlights(eq(Set.of(3L)), any(PriceRule.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(flightRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(
+                createFlight(1L, departure, "450000"), createFlight(2L, departure.plusHours(3), "100000")));
+        when(flightRepository.findAllById(Set.of(3L)))
+                .thenReturn(List.of(createFlight(3L, departure.plusDays(1), "540000")));
+
+        FlightRepriceReport report = flightRepricingService.repriceFlights(airlineRequest(PriceAdjustment.PERCENT,
+                "-10"));
+
+        assertThat(report.getMatched()).isEqualTo(3);
+        assertThat(report.getRepriced()).isEqualTo(2);
+        assertThat(report.getChunks()).isEqualTo(2);
+        assertThat(report.getRouteDays()).isEqualTo(2);
+
+        ArgumentCaptor<FlightChangedEvent> events = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(FlightChangedEvent::getFlightId).containsExactly(1L, 3L);
+        assertThat(events.getAllValues().get(0).getPrevious().getPrice()).isEqualByComparingTo("500000");
+        assertThat(events.getAllValues().get(0).getCurrent().getPrice()).isEqualByComparingTo("450000");
+    }
+
+    @Test
+    void repriceFlights_ShouldStopAfterEmptyChunk() {
+        when(flightRepository.findRepriceCandidates(any(FlightRepriceCriteria.class), isNull(), anyInt()))
+                .thenReturn(List.of());
+
+        FlightRepriceReport report = flightRepricingService.repriceFlights(airlineRequest(PriceAdjustment.SET,
+                "300000"));
+
+        assertThat(report.getMatched()).isZero();
+        assertThat(report.getChunks()).isZero();
+        verify(flightRepository, never()).repriceFlights(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(FlightChangedEvent.class));
+    }
+
+    @Test
+    void repriceFlights_ShouldNormalizeRouteAndNeverTouchDepartedFlights() {
+        FlightRepriceRequest request = FlightRepriceRequest.builder()
+                .origin("bogota")
+                .destination("madrid")
+                .departureFrom(LocalDate.now().minusDays(5))
+                .departureTo(LocalDate.now().plusDays(7))
+                .adjustment(PriceAdjustment.AMOUNT)
+                .value(new BigDecimal("25000"))
+                .build();
+        when(flightRepository.findRepriceCandidates(any(FlightRepriceCriteria.class), isNull(), anyInt()))
+                .thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        flightRepricingService.repriceFlights(request);
+
+        ArgumentCaptor<FlightRepriceCriteria> criteria = ArgumentCaptor.forClass(FlightRepriceCriteria.class);
+        verify(flightRepository).findRepriceCandidates(criteria.capture(), isNull(), eq(1000));
+        assertThat(criteria.getValue().getOrigin()).isEqualTo("BOGOTA");
+        assertThat(criteria.getValue().getDestination()).isEqualTo("MADRID");
+        assertThat(criteria.getValue().getDepartureFrom()).isAfterOrEqualTo(before);
+        assertThat(criteria.getValue().getDepartureTo()).isEqualTo(LocalDate.now().plusDays(8).atStartOfDay());
+    }
+
+    @Test
+    void repriceFlights_ShouldRejectRequestsWithoutRouteOrAirline() {
+        FlightRepriceRequest request = FlightRepriceRequest.builder()
+                .cabinClass("Economy")
+                .adjustment(PriceAdjustment.PERCENT)
+                .value(BigDecimal.TEN)
+                .build();
+
+        assertThatThrownBy(() -> flightRepricingService.repriceFlights(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Repricing needs a route or an airline");
+
+        request.setOrigin("BOGOTA");
+        assertThatThrownBy(() -> flightRepricingService.repriceFlights(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Origin and destination must be given together");
+    }
+
+    @Test
+    void repriceFlights_ShouldRejectInvalidPriceRules() {
+        FlightRepriceRequest wipeOut = airlineRequest(PriceAdjustment.PERCENT, "-100");
+        FlightRepriceRequest inverted = airlineRequest(PriceAdjustment.AMOUNT, "1000");
+        inverted.setFloorPrice(new BigDecimal("500000"));
+        inverted.setCeilingPrice(new BigDecimal("400000"));
+
+        assertThatThrownBy(() -> flightRepricingService.repriceFlights(wipeOut))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Percent adjustment must be greater than -100");
+        assertThatThrownBy(() -> flightRepricingService.repriceFlights(inverted))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Floor price cannot be greater than ceiling price");
+        verify(flightRepository, never()).findRepriceCandidates(any(), any(), anyInt());
+    }
+
+    private FlightRepriceRequest airlineRequest(PriceAdjustment adjustment, String value) {
+        return FlightRepriceRequest.builder()
+                .airline("Avianca")
+                .adjustment(adjustment)
+                .value(new BigDecimal(value))
+                .build();
+    }
+
+    private Flight createFlight(Long id, LocalDateTime departureTime, String price) {
+        return Flight.builder()
+                .id(id)
+                .flightNumber("AV" + (100 + id))
+                .airline("Avianca")
+                .origin("BOGOTA")
+                .destination("MADRID")
+                .departureTime(departureTime)
+                .arrivalTime(departureTime.plusHours(10))
+                .duration("10h 0m")
+                .price(new BigDecimal(price))
+                .aircraftType("Boeing 787")
+                .availableSeats(100)
+                .cabinClass("Economy")
+                .active(true)
+                .build();
+    }
+}
@@ -1,40 +1,84 @@
 package com.amadeus.api.service.impl;
 
+import com.amadeus.api.config.FlightSearchProperties;
+import com.amadeus.api.dto.request.BatchFlightSearchRequest;
 import com.amadeus.api.dto.request.CreateFlightRequest;
 import com.amadeus.api.dto.request.FlightSearchRequest;
+import com.amadeus.api.dto.request.PageCountMode;
 import com.amadeus.api.dto.request.UpdateFlightRequest;
+import com.amadeus.api.dto.response.BatchFlightSearchResponse;
+import com.amadeus.api.dto.response.FareCalendarResponse;
+import com.amadeus.api.dto.response.FlightAdminCursorPage;
 import com.amadeus.api.dto.response.FlightAdminDto;
 import com.amadeus.api.dto.response.FlightDto;
 import com.amadeus.api.dto.response.FlightSearchResponse;
+import com.amadeus.api.dto.response.FlightStreamItem;
 import com.amadeus.api.dto.response.LocationDto;
+import com.amadeus.api.dto.response.SearchResultsPage;
 import com.amadeus.api.entity.Flight;
+import com.amadeus.api.event.FlightChangedEvent;
+import com.amadeus.api.exception.FlightInUseException;
 import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.SearchNotFoundException;
 import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.search.AdminFlightCursor;
+import com.amadeus.api.search.AdminFlightTextIndex;
+import com.amadeus.api.search.AdminSortKey;
+import com.amadeus.api.search.ConnectionSearch;
+import com.amadeus.api.search.FareCalendar;
+import com.amadeus.api.search.FlightSearchCache;
+import com.amadeus.api.search.FlightSearchCriteria;
+import com.amadeus.api.search.FlightSearchIndex;
+import com.amadeus.api.search.FlightSnapshot;
+import com.amadeus.api.search.FlightSortKey;
+import com.amadeus.api.search.Itinerary;
+import com.amadeus.api.search.ParallelLegExecutor;
+import com.amadeus.api.search.SearchCursor;
+import com.amadeus.api.search.SearchResultsQuery;
+import com.amadeus.api.search.SearchSnapshotStore;
 import com.amadeus.api.util.LocationMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,28 +91,64 @@ class FlightServiceImplTest {
     @Mock
     private LocationMapper locationMapper;
 
+    @Mock
+    private FlightSearchIndex flightSearchIndex;
+
+    @Mock
+    private ConnectionSearch connectionSearch;
+
+    @Mock
+    private FareCalendar fareCalendar;
+
+    @Mock
+    private AdminFlightTextIndex adminFlightTextIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private FlightSearchProperties searchProperties = new FlightSearchProperties();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private FlightSearchCache flightSearchCache =
+            new FlightSearchCache(new FlightSearchProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private SearchSnapshotStore searchSnapshotStore =
+            new SearchSnapshotStore(new FlightSearchProperties(), new SimpleMeterRegistry());
+
+    @Spy
+    private ParallelLegExecutor parallelLegExecutor =
+            new ParallelLegExecutor(new FlightSearchProperties(), new SimpleMeterRegistry());
+
     @InjectMocks
     private FlightServiceImpl flightService;
 
     private Flight sampleFlight;
+    private FlightDto sampleFlightDto;
     private FlightSearchRequest searchRequest;
     private CreateFlightRequest createRequest;
 
     @BeforeEach
     void setUp() {
         sampleFlight = createSampleFlight();
+        sampleFlightDto = toFlightDto(sampleFlight);
         searchRequest = createSampleSearchRequest();
         createRequest = createSampleCreateRequest();
     }
 
     @Test
     void searchFlights_ShouldReturnOutboundFlights_WhenOnewayTrip() {
-        when(flightRepository.findAvailableFlights(
+        when(flightRepository.findAvailableFlightDtos(
                 eq("BOGOTA"),
                 eq("MADRID"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(List.of(sampleFlight));
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of(sampleFlightDto));
 
         FlightSearchResponse response = flightService.searchFlights(searchRequest);
 
@@ -79,11 +159,12 @@ class FlightServiceImplTest {
         assertThat(response.getMetadata().getTotalResults()).isEqualTo(1);
         assertThat(response.getMetadata().getCurrency()).isEqualTo("COP");
 
-        verify(flightRepository).findAvailableFlights(
+        verify(flightRepository).findAvailableFlightDtos(
                 eq("BOGOTA"),
                 eq("MADRID"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class));
+                any(LocalDateTime.class),
+                anyInt());
     }
 
     @Test
@@ -91,19 +172,21 @@ class FlightServiceImplTest {
         searchRequest.setTripType("roundtrip");
         searchRequest.setReturnDate(LocalDate.now().plusDays(7));
 
-        when(flightRepository.findAvailableFlights(
+        when(flightRepository.findAvailableFlightDtos(
                 eq("BOGOTA"),
                 eq("MADRID"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(List.of(sampleFlight));
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of(sampleFlightDto));
 
-        when(flightRepository.findAvailableFlights(
+        when(flightRepository.findAvailableFlightDtos(
                 eq("MADRID"),
                 eq("BOGOTA"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(List.of(sampleFlight));
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of(sampleFlightDto));
 
         FlightSearchResponse response = flightService.searchFlights(searchRequest);
 
@@ -112,25 +195,29 @@ class FlightServiceImplTest {
         assertThat(response.getReturnFlights()).hasSize(1);
         assertThat(response.getMetadata().getTotalResults()).isEqualTo(2);
 
-        verify(flightRepository).findAvailableFlights(
+        verify(flightRepository).findAvailableFlightDtos(
                 eq("BOGOTA"),
                 eq("MADRID"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class));
-        verify(flightRepository).findAvailableFlights(
+                any(LocalDateTime.class),
+                anyInt());
+        verify(flightRepository).findAvailableFlightDtos(
                 eq("MADRID"),
                 eq("BOGOTA"),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class));
+                any(LocalDateTime.class),
+                anyInt());
+        verify(parallelLegExecutor).invokeAll(any());
     }
 
     @Test
     void searchFlights_ShouldReturnEmptyList_WhenNoFlightsFound() {
-        when(flightRepository.findAvailableFlights(
+        when(flightRepository.findAvailableFlightDtos(
                 anyString(),
                 anyString(),
                 any(LocalDateTime.class),
-                any(LocalDateTime.class)))
+                any(LocalDateTime.class),
+                anyInt()))
                 .thenReturn(List.of());
 
         FlightSearchResponse response = flightService.searchFlights(searchRequest);
@@ -141,6 +228,307 @@ class FlightServiceImplTest {
         assertThat(response.getMetadata().getTotalResults()).isZero();
     }
 
+    @Test
+    void searchFlights_ShouldServeRepeatedRouteDayFromCache_WhenDatabaseMode() {
+        when(flightRepository.findAvailableFlightDtos(
+                eq("BOGOTA"),
+                eq("MADRID"),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of(sampleFlightDto));
+
+        FlightSearchResponse first = flightService.searchFlights(searchRequest);
+        FlightSearchResponse second = flightService.searchFlights(searchRequest);
+
+        assertThat(first.getOutboundFlights()).hasSize(1);
+        assertThat(second.getOutboundFlights()).hasSize(1);
+        assertThat(flightSearchCache.stats().hitCount()).isEqualTo(1);
+        verify(flightRepository, times(1)).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void searchFlights_ShouldOnlyReturnFlightsWithEnoughSeatsForParty() {
+        searchRequest.setPassengers(6);
+        Flight nearlyFull = createSampleFlight();
+        nearlyFull.setFlightNumber("AV999");
+        nearlyFull.setAvailableSeats(2);
+        when(flightRepository.findAvailableFlightDtos(
+                eq("BOGOTA"),
+                eq("MADRID"),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class),
+                eq(1)))
+                .thenReturn(List.of(sampleFlightDto, toFlightDto(nearlyFull)));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        assertThat(response.getOutboundFlights()).extracting(FlightDto::getFlightNumber).containsExactly("AV123");
+    }
+
+    @Test
+    void searchFlights_ShouldPushPassengersIntoQuery_WhenCacheDisabled() {
+        FlightSearchProperties uncached = new FlightSearchProperties();
+        uncached.getCache().setEnabled(false);
+        FlightServiceImpl uncachedService = new FlightServiceImpl(flightRepository, locationMapper, flightSearchIndex,
+                new FlightSearchCache(uncached, new SimpleMeterRegistry()), searchSnapshotStore, adminFlightTextIndex,
+                connectionSearch,
+                fareCalendar,
+                parallelLegExecutor, searchProperties, eventPublisher, meterRegistry);
+        searchRequest.setPassengers(6);
+
+        uncachedService.searchFlights(searchRequest);
+
+        verify(flightRepository).findAvailableFlightDtos(
+                eq("BOGOTA"), eq("MADRID"), any(LocalDateTime.class), any(LocalDateTime.class), eq(6));
+    }
+
+    @Test
+    void searchFlights_ShouldPushSortFiltersAndPageSizeIntoQuery_WhenRefined() {
+        searchRequest.setSortBy("price");
+        searchRequest.setAirlines(List.of("Avianca"));
+        searchRequest.setMaxPrice(new BigDecimal("900000"));
+        searchRequest.setDepartureTimeFrom(LocalTime.of(6, 0));
+        searchRequest.setPageSize(1);
+        Flight second = createSampleFlight();
+        second.setId(2L);
+        second.setFlightNumber("AV456");
+
+        ArgumentCaptor<FlightSearchCriteria> criteriaCaptor = ArgumentCaptor.forClass(FlightSearchCriteria.class);
+        when(flightRepository.searchAvailableFlights(criteriaCaptor.capture()))
+                .thenReturn(List.of(sampleFlight, second));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        FlightSearchCriteria criteria = criteriaCaptor.getValue();
+        assertThat(criteria.getSortKey()).isEqualTo(FlightSortKey.PRICE);
+        assertThat(criteria.getAirlines()).containsExactly("Avianca");
+        assertThat(criteria.getDepartureFrom()).isEqualTo(searchRequest.getDepartureDate().atTime(6, 0));
+        assertThat(criteria.getLimit()).isEqualTo(2);
+        assertThat(response.getOutboundFlights()).extracting(FlightDto::getFlightNumber).containsExactly("AV123");
+        assertThat(SearchCursor.decode(response.getMetadata().getOutboundNextCursor()).getId())
+                .isEqualTo(sampleFlight.getId());
+        verify(flightRepository, never()).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void searchFlights_ShouldRejectCursor_WhenSortOrderChanged() {
+        FlightSnapshot last = FlightSnapshot.from(sampleFlight);
+        searchRequest.setSortBy("duration");
+        searchRequest.setOutboundCursor(SearchCursor.after(FlightSortKey.PRICE, false, last).encode());
+
+        assertThatThrownBy(() -> flightService.searchFlights(searchRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search cursor does not match the requested sort order");
+    }
+
+    @Test
+    void searchFlightsBatch_ShouldCoalesceRouteDaysIntoOneQueryAndKeepRequestOrder() {
+        FlightSearchRequest party = createSampleSearchRequest();
+        party.setPassengers(4);
+        FlightSearchRequest roundTrip = createSampleSearchRequest();
+        roundTrip.setTripType("roundtrip");
+        roundTrip.setReturnDate(searchRequest.getDepartureDate().plusDays(3));
+        FlightDto nearlyFull = toFlightDto(sampleFlight);
+        nearlyFull.setFlightNumber("AV999");
+        nearlyFull.setAvailableSeats(2);
+        when(flightRepository.findBookableFlightDtos(any()))
+                .thenReturn(List.of(sampleFlightDto, nearlyFull));
+
+        BatchFlightSearchResponse response = flightService.searchFlightsBatch(BatchFlightSearchRequest.builder()
+                .searches(List.of(searchRequest, party, searchRequest, roundTrip))
+                .build());
+
+        assertThat(response.getTotalSearches()).isEqualTo(4);
+        assertThat(response.getUniqueSearches()).isEqualTo(3);
+        assertThat(response.getRouteDaysQueried()).isEqualTo(2);
+        assertThat(response.getResults()).hasSize(4);
+        assertThat(response.getResults().get(0).getOutboundFlights()).extracting(FlightDto::getFlightNumber)
+                .containsExactly("AV123", "AV999");
+        assertThat(response.getResults().get(1).getOutboundFlights()).extracting(FlightDto::getFlightNumber)
+                .containsExactly("AV123");
+        assertThat(response.getResults().get(2)).isSameAs(response.getResults().get(0));
+        assertThat(response.getResults().get(3).getReturnFlights()).isEmpty();
+        verify(flightRepository, times(1)).findBookableFlightDtos(any());
+        verify(flightRepository, never()).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void searchFlightsBatch_ShouldAnswerFromIndexWithoutQueries_WhenIndexReady() {
+        when(flightSearchIndex.isReady()).thenReturn(true);
+        when(flightSearchIndex.findAvailableFlights("BOGOTA", "MADRID", searchRequest.getDepartureDate(), 1))
+                .thenReturn(List.of(FlightSnapshot.from(sampleFlight)));
+
+        BatchFlightSearchResponse response = flightService.searchFlightsBatch(BatchFlightSearchRequest.builder()
+                .searches(List.of(searchRequest, searchRequest))
+                .build());
+
+        assertThat(response.getResults()).extracting(result -> result.getOutboundFlights().size())
+                .containsExactly(1, 1);
+        verify(flightSearchIndex, times(1)).findAvailableFlights("BOGOTA", "MADRID",
+                searchRequest.getDepartureDate(), 1);
+        verify(flightRepository, never()).findBookableFlightDtos(any());
+    }
+
+    @Test
+    void getSearchResults_ShouldResortAndPageSnapshotWithoutQueryingAgain() {
+        FlightDto cheaper = toFlightDto(sampleFlight);
+        cheaper.setFlightNumber("AV200");
+        cheaper.setPrice(new BigDecimal("300000"));
+        FlightDto cheapest = toFlightDto(sampleFlight);
+        cheapest.setFlightNumber("LA300");
+        cheapest.setAirline("LATAM");
+        cheapest.setPrice(new BigDecimal("200000"));
+        when(flightRepository.findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(sampleFlightDto, cheaper, cheapest));
+        String searchId = flightService.searchFlights(searchRequest).getMetadata().getSearchId();
+
+        SearchResultsPage firstPage = flightService.getSearchResults(searchId, SearchResultsQuery.builder()
+                .sortKey(FlightSortKey.PRICE)
+                .size(2)
+                .build());
+        SearchResultsPage secondPage = flightService.getSearchResults(searchId, SearchResultsQuery.builder()
+                .sortKey(FlightSortKey.PRICE)
+                .page(1)
+                .size(2)
+                .build());
+        SearchResultsPage avianca = flightService.getSearchResults(searchId, SearchResultsQuery.builder()
+                .airlines(Set.of("Avianca"))
+                .build());
+
+        assertThat(firstPage.getOutboundFlights()).extracting(FlightDto::getFlightNumber)
+                .containsExactly("LA300", "AV200");
+        assertThat(secondPage.getOutboundFlights()).extracting(FlightDto::getFlightNumber)
+                .containsExactly("AV123");
+        assertThat(firstPage.getTotalPages()).isEqualTo(2);
+        assertThat(avianca.getTotalOutbound()).isEqualTo(2);
+        verify(flightRepository, times(1)).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void getSearchResults_ShouldThrow_WhenSearchIdUnknownOrExpired() {
+        assertThatThrownBy(() -> flightService.getSearchResults("search_missing",
+                SearchResultsQuery.builder().build()))
+                .isInstanceOf(SearchNotFoundException.class)
+                .hasMessageContaining("search_missing");
+    }
+
+    @Test
+    void searchFlights_ShouldUseIndex_WhenIndexModeAndIndexReady() {
+        when(flightSearchIndex.isReady()).thenReturn(true);
+        when(flightSearchIndex.findAvailableFlights("BOGOTA", "MADRID", searchRequest.getDepartureDate(), 1))
+                .thenReturn(List.of(FlightSnapshot.from(sampleFlight)));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        assertThat(response.getOutboundFlights()).hasSize(1);
+        assertThat(response.getOutboundFlights().get(0).getFlightNumber()).isEqualTo("AV123");
+        assertThat(meterRegistry.find("flight.search").tag("mode", "index").timer()).isNotNull();
+        verify(flightRepository, never()).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void searchFlights_ShouldUseDatabase_WhenDatabaseModeConfigured() {
+        searchProperties.setMode(FlightSearchProperties.SearchMode.DATABASE);
+        when(flightRepository.findAvailableFlightDtos(
+                eq("BOGOTA"),
+                eq("MADRID"),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of(sampleFlightDto));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        assertThat(response.getOutboundFlights()).hasSize(1);
+        assertThat(meterRegistry.find("flight.search").tag("mode", "database").timer()).isNotNull();
+        verify(flightSearchIndex, never()).findAvailableFlights(anyString(), anyString(), any(LocalDate.class),
+                anyInt());
+    }
+
+    @Test
+    void searchFlights_ShouldReturnOneStopConnections_WhenMaxStopsRequested() {
+        searchRequest.setOrigin("pereira");
+        searchRequest.setMaxStops(1);
+
+        Flight firstLeg = createSampleFlight();
+        firstLeg.setOrigin("PEREIRA");
+        firstLeg.setDestination("BOGOTA");
+        firstLeg.setArrivalTime(firstLeg.getDepartureTime().plusHours(1));
+        Flight secondLeg = createSampleFlight();
+        secondLeg.setId(2L);
+        secondLeg.setDepartureTime(firstLeg.getArrivalTime().plusHours(2));
+        secondLeg.setArrivalTime(secondLeg.getDepartureTime().plusHours(10));
+
+        Itinerary itinerary = Itinerary.of(
+                List.of(FlightSnapshot.from(firstLeg), FlightSnapshot.from(secondLeg)), BigDecimal.ONE);
+
+        when(flightRepository.findAvailableFlightDtos(
+                eq("PEREIRA"),
+                eq("MADRID"),
+                any(LocalDateTime.class),
+                any(LocalDateTime.class),
+                anyInt()))
+                .thenReturn(List.of());
+        when(connectionSearch.findOneStopItineraries("PEREIRA", "MADRID", searchRequest.getDepartureDate(), 1, false))
+                .thenReturn(List.of(itinerary));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        assertThat(response.getOutboundFlights()).isEmpty();
+        assertThat(response.getOutboundConnections()).hasSize(1);
+        assertThat(response.getOutboundConnections().get(0).getStops()).isEqualTo(1);
+        assertThat(response.getOutboundConnections().get(0).getSegments()).hasSize(2);
+        assertThat(response.getOutboundConnections().get(0).getTotalDuration()).isEqualTo("13h 0m");
+        assertThat(response.getOutboundConnections().get(0).getTotalPrice())
+                .isEqualByComparingTo(new BigDecimal("1000000"));
+        assertThat(response.getMetadata().getTotalResults()).isEqualTo(1);
+    }
+
+    @Test
+    void searchFlights_ShouldGroupFlexibleDatesFromSingleRangeQuery_WhenFlexDaysRequested() {
+        LocalDate departureDate = LocalDate.now().plusDays(10);
+        searchRequest.setDepartureDate(departureDate);
+        searchRequest.setFlexDays(3);
+
+        Flight sameDayFlight = createSampleFlight();
+        sameDayFlight.setDepartureTime(departureDate.atTime(9, 0));
+        Flight cheapNextDayFlight = createSampleFlight();
+        cheapNextDayFlight.setDepartureTime(departureDate.plusDays(1).atTime(7, 0));
+        cheapNextDayFlight.setPrice(new BigDecimal("300000"));
+        Flight expensiveNextDayFlight = createSampleFlight();
+        expensiveNextDayFlight.setDepartureTime(departureDate.plusDays(1).atTime(15, 0));
+        expensiveNextDayFlight.setPrice(new BigDecimal("900000"));
+
+        when(flightRepository.findAvailableFlightDtos(
+                "BOGOTA",
+                "MADRID",
+                departureDate.minusDays(3).atStartOfDay(),
+                departureDate.plusDays(4).atStartOfDay(), 1))
+                .thenReturn(List.of(toFlightDto(sameDayFlight), toFlightDto(cheapNextDayFlight),
+                        toFlightDto(expensiveNextDayFlight)));
+
+        FlightSearchResponse response = flightService.searchFlights(searchRequest);
+
+        assertThat(response.getOutboundFlights()).hasSize(1);
+        assertThat(response.getFlexibleDates()).hasSize(7);
+        assertThat(response.getFlexibleDates().get(0).getDate()).isEqualTo(departureDate.minusDays(3));
+        assertThat(response.getFlexibleDates().get(0).getTotalFlights()).isZero();
+        assertThat(response.getFlexibleDates().get(0).getCheapestPrice()).isNull();
+        assertThat(response.getFlexibleDates().get(4).getDate()).isEqualTo(departureDate.plusDays(1));
+        assertThat(response.getFlexibleDates().get(4).getTotalFlights()).isEqualTo(2);
+        assertThat(response.getFlexibleDates().get(4).getCheapestPrice()).isEqualByComparingTo("300000");
+
+        verify(flightRepository, times(1)).findAvailableFlightDtos(
+                anyString(), anyString(), any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
     @Test
     void createFlight_ShouldReturnFlightAdminDto_WhenValidRequest() {
         when(flightRepository.existsByFlightNumberAndDepartureTime(
@@ -160,6 +548,20 @@ class FlightServiceImplTest {
         verify(flightRepository).existsByFlightNumberAndDepartureTime(
                 createRequest.getFlightNumber(), createRequest.getDepartureTime());
         verify(flightRepository).save(any(Flight.class));
+        verify(eventPublisher).publishEvent(any(FlightChangedEvent.class));
+    }
+
+    @Test
+    void createFlight_ShouldDeriveDurationMinutesFromSchedule() {
+        when(flightRepository.existsByFlightNumberAndDepartureTime(
+                createRequest.getFlightNumber(), createRequest.getDepartureTime()))
+                .thenReturn(false);
+        when(flightRepository.save(any(Flight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FlightAdminDto result = flightService.createFlight(createRequest);
+
+        assertThat(result.getDurationMinutes()).isEqualTo(Math.toIntExact(Duration.between(
+                createRequest.getDepartureTime(), createRequest.getArrivalTime()).toMinutes()));
     }
 
     @Test
@@ -240,6 +642,26 @@ class FlightServiceImplTest {
         assertThat(result).isNotNull();
         verify(flightRepository).findById(flightId);
         verify(flightRepository).save(any(Flight.class));
+
+        ArgumentCaptor<FlightChangedEvent> eventCaptor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getPrevious().getFlightNumber()).isEqualTo("AV123");
+        assertThat(eventCaptor.getValue().getCurrent().getFlightNumber()).isEqualTo("AV456");
+    }
+
+    @Test
+    void updateFlight_ShouldRecalculateDurationMinutes_WhenArrivalTimeChanges() {
+        Long flightId = 1L;
+        UpdateFlightRequest updateRequest = UpdateFlightRequest.builder()
+                .arrivalTime(sampleFlight.getDepartureTime().plusMinutes(95))
+                .build();
+
+        when(flightRepository.findById(flightId)).thenReturn(Optional.of(sampleFlight));
+        when(flightRepository.save(any(Flight.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FlightAdminDto result = flightService.updateFlight(flightId, updateRequest);
+
+        assertThat(result.getDurationMinutes()).isEqualTo(95);
     }
 
     @Test
@@ -288,6 +710,25 @@ class FlightServiceImplTest {
 
         verify(flightRepository).findById(flightId);
         verify(flightRepository).delete(sampleFlight);
+
+        ArgumentCaptor<FlightChangedEvent> eventCaptor = ArgumentCaptor.forClass(FlightChangedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getFlightId()).isEqualTo(flightId);
+        assertThat(eventCaptor.getValue().getCurrent()).isNull();
+    }
+
+    @Test
+    void deleteFlight_ShouldRefuse_WhenFlightHasBookingsOrHolds() {
+        Long flightId = 1L;
+        when(flightRepository.findById(flightId)).thenReturn(Optional.of(sampleFlight));
+        when(flightRepository.hasBookingsOrHolds(flightId)).thenReturn(true);
+
+        assertThatThrownBy(() -> flightService.deleteFlight(flightId))
+                .isInstanceOf(FlightInUseException.class)
+                .hasMessageContaining("deactivate it instead");
+
+        verify(flightRepository, never()).delete(any(Flight.class));
+        verify(eventPublisher, never()).publishEvent(any(FlightChangedEvent.class));
     }
 
     @Test
@@ -365,9 +806,9 @@ class FlightServiceImplTest {
     @Test
     void getUpcomingFlights_ShouldReturnLimitedFlights() {
         int limit = 5;
-        List<Flight> flights = List.of(sampleFlight);
+        List<FlightDto> flights = List.of(sampleFlightDto);
 
-        when(flightRepository.findUpcomingFlights(any(LocalDateTime.class), any(PageRequest.class)))
+        when(flightRepository.findUpcomingFlightDtos(any(LocalDateTime.class), any(PageRequest.class)))
                 .thenReturn(flights);
 
         List<FlightDto> result = flightService.getUpcomingFlights(limit);
@@ -375,7 +816,137 @@ class FlightServiceImplTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getFlightNumber()).isEqualTo(sampleFlight.getFlightNumber());
 
-        verify(flightRepository).findUpcomingFlights(any(LocalDateTime.class), any(PageRequest.class));
+        verify(flightRepository).findUpcomingFlightDtos(any(LocalDateTime.class), any(PageRequest.class));
+    }
+
+    @Test
+    void streamFlights_ShouldEmitProjectedFlightsAsTheyAreRead() {
+        searchRequest.setTripType("roundtrip");
+        searchRequest.setReturnDate(searchRequest.getDepartureDate().plusDays(7));
+        Flight returnFlight = createSampleFlight();
+        returnFlight.setOrigin("MADRID");
+        returnFlight.setDestination("BOGOTA");
+
+        when(flightRepository.streamAvailableFlightDtos(eq("BOGOTA"), eq("MADRID"),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(Stream.of(sampleFlightDto));
+        when(flightRepository.streamAvailableFlightDtos(eq("MADRID"), eq("BOGOTA"),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(Stream.of(toFlightDto(returnFlight)));
+
+        List<FlightStreamItem> items = new ArrayList<>();
+        flightService.streamFlights(searchRequest, items::add);
+
+        assertThat(items).extracting(FlightStreamItem::getType)
+                .containsExactly(FlightStreamItem.FLIGHT, FlightStreamItem.FLIGHT, FlightStreamItem.COMPLETE);
+        assertThat(items).extracting(FlightStreamItem::getLeg).containsExactly("outbound", "return", null);
+        assertThat(items.get(2).getTotalResults()).isEqualTo(2);
+        verify(flightRepository, never()).findAvailableFlights(anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+        verify(flightRepository, never()).findAvailableFlightDtos(anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void getFareCalendar_ShouldNormalizeRouteAndMapEveryDay() {
+        YearMonth month = YearMonth.now().plusMonths(1);
+        Map<LocalDate, BigDecimal> fares = new LinkedHashMap<>();
+        fares.put(month.atDay(1), new BigDecimal("500000"));
+        fares.put(month.atDay(2), null);
+
+        when(fareCalendar.lowestFares("BOGOTA", "MADRID", month)).thenReturn(fares);
+
+        FareCalendarResponse response = flightService.getFareCalendar("bogota", "madrid", month);
+
+        assertThat(response.getOrigin()).isEqualTo("BOGOTA");
+        assertThat(response.getMonth()).isEqualTo(month.toString());
+        assertThat(response.getCurrency()).isEqualTo("COP");
+        assertThat(response.getDays()).hasSize(2);
+        assertThat(response.getDays().get(0).getLowestPrice()).isEqualByComparingTo("500000");
+        assertThat(response.getDays().get(1).getLowestPrice()).isNull();
+        verify(flightRepository, never()).findAvailableFlightDtos(anyString(), anyString(),
+                any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void getAllFlights_ShouldSkipCountQuery_WhenCountModeIsNone() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(flightRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(sampleFlight), pageable, true));
+
+        Slice<FlightAdminDto> result = flightService.getAllFlights(pageable, PageCountMode.NONE);
+
+        assertThat(result).isNotInstanceOf(Page.class);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(flightRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getAllFlights_ShouldUsePlannerEstimate_WhenCountModeIsEstimated() {
+        Pageable pageable = PageRequest.of(2, 1);
+        when(flightRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(sampleFlight), pageable, true));
+        when(flightRepository.estimateFlightCount()).thenReturn(1000L);
+
+        Slice<FlightAdminDto> result = flightService.getAllFlights(pageable, PageCountMode.ESTIMATED);
+
+        assertThat(result).isInstanceOf(Page.class);
+        assertThat(((Page<FlightAdminDto>) result).getTotalElements()).isEqualTo(1000);
+        verify(flightRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    void getAllFlights_ShouldNotReportTotalBelowRowsSeen_WhenEstimateIsStale() {
+        Pageable pageable = PageRequest.of(2, 1);
+        when(flightRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(sampleFlight), pageable, true));
+        when(flightRepository.estimateFlightCount()).thenReturn(0L);
+
+        Page<FlightAdminDto> result = (Page<FlightAdminDto>) flightService.getAllFlights(pageable,
+                PageCountMode.ESTIMATED);
+
+        assertThat(result.getTotalElements()).isEqualTo(4);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @Test
+    void searchFlightsForAdmin_ShouldEstimateFromDatabase_WhenIndexNotReady() {
+        Pageable pageable = PageRequest.of(0, 1);
+        when(flightRepository.searchFlightsByMultipleFieldsSlice("Avianca", pageable))
+                .thenReturn(new SliceImpl<>(List.of(sampleFlight), pageable, true));
+        when(flightRepository.estimateFlightSearchCount("Avianca")).thenReturn(40L);
+
+        Slice<FlightAdminDto> result = flightService.searchFlightsForAdmin(" Avianca ", pageable,
+                PageCountMode.ESTIMATED);
+
+        assertThat(((Page<FlightAdminDto>) result).getTotalElements()).isEqualTo(40);
+        verify(flightRepository, never()).searchFlightsByMultipleFields(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void getAllFlightsByCursor_ShouldFetchOneExtraRowAndIssueContinuationToken() {
+        Flight secondFlight = createSampleFlight();
+        secondFlight.setId(2L);
+        Flight thirdFlight = createSampleFlight();
+        thirdFlight.setId(3L);
+        when(flightRepository.findAdminFlights(AdminSortKey.PRICE, true, null, 3))
+                .thenReturn(List.of(sampleFlight, secondFlight, thirdFlight));
+
+        FlightAdminCursorPage page = flightService.getAllFlightsByCursor("price", "desc", null, 2);
+
+        assertThat(page.getContent()).extracting(FlightAdminDto::getId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        AdminFlightCursor next = AdminFlightCursor.decode(page.getNextCursor());
+        assertThat(next.getSortKey()).isEqualTo(AdminSortKey.PRICE);
+        assertThat(next.isDescending()).isTrue();
+        assertThat(next.getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void getAllFlightsByCursor_ShouldRejectCursorForDifferentSortOrder() {
+        String cursor = AdminFlightCursor.after(AdminSortKey.PRICE, false, sampleFlight).encode();
+
+        assertThatThrownBy(() -> flightService.getAllFlightsByCursor("departureTime", "asc", cursor, 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Admin flight cursor does not match the requested sort order");
     }
 
     @Test
@@ -414,6 +985,56 @@ class FlightServiceImplTest {
         verify(flightRepository, never()).findAll(any(Pageable.class));
     }
 
+    @Test
+    void searchFlightsForAdmin_ShouldUseTextIndexAndKeepItsRanking_WhenIndexReady() {
+        Pageable pageable = PageRequest.of(0, 20);
+        Flight otherFlight = createSampleFlight();
+        otherFlight.setId(2L);
+        otherFlight.setFlightNumber("AV1234");
+
+        when(adminFlightTextIndex.isReady()).thenReturn(true);
+        when(adminFlightTextIndex.canSort(pageable.getSort())).thenReturn(true);
+        when(adminFlightTextIndex.search("AV123", pageable))
+                .thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, 2));
+        when(flightRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(otherFlight, sampleFlight));
+
+        Page<FlightAdminDto> result = flightService.searchFlightsForAdmin("AV123", pageable);
+
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(FlightAdminDto::getId).containsExactly(1L, 2L);
+        verify(flightRepository, never()).searchFlightsByMultipleFields(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    void searchFlightsForAdmin_ShouldSkipFlightsDeletedAfterTheIndexLookup() {
+        Pageable pageable = PageRequest.of(0, 20);
+
+        when(adminFlightTextIndex.isReady()).thenReturn(true);
+        when(adminFlightTextIndex.canSort(pageable.getSort())).thenReturn(true);
+        when(adminFlightTextIndex.search("AV123", pageable))
+                .thenReturn(new PageImpl<>(List.of(1L, 2L), pageable, 2));
+        when(flightRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(sampleFlight));
+
+        Page<FlightAdminDto> result = flightService.searchFlightsForAdmin("AV123", pageable);
+
+        assertThat(result.getContent()).extracting(FlightAdminDto::getId).containsExactly(1L);
+    }
+
+    @Test
+    void searchFlightsForAdmin_ShouldFallBackToDatabase_WhenIndexCannotSortByTheField() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("createdAt"));
+        Page<Flight> flightPage = new PageImpl<>(List.of(sampleFlight), pageable, 1);
+
+        when(adminFlightTextIndex.isReady()).thenReturn(true);
+        when(adminFlightTextIndex.canSort(pageable.getSort())).thenReturn(false);
+        when(flightRepository.searchFlightsByMultipleFields("AV123", pageable)).thenReturn(flightPage);
+
+        Page<FlightAdminDto> result = flightService.searchFlightsForAdmin("AV123", pageable);
+
+        assertThat(result.getContent()).extracting(FlightAdminDto::getId).containsExactly(1L);
+        verify(adminFlightTextIndex, never()).search(anyString(), any(Pageable.class));
+    }
+
     @Test
     void searchFlightsForAdmin_ShouldReturnAllFlights_WhenSearchTermIsNull() {
         Pageable pageable = PageRequest.of(0, 20);
@@ -430,6 +1051,12 @@ class FlightServiceImplTest {
         verify(flightRepository).findAll(pageable);
     }
 
+    private FlightDto toFlightDto(Flight flight) {
+        return new FlightDto(flight.getFlightNumber(), flight.getAirline(), flight.getOrigin(),
+                flight.getDestination(), flight.getDepartureTime(), flight.getArrivalTime(), flight.getDuration(),
+                flight.getPrice(), flight.getAircraftType(), flight.getAvailableSeats(), flight.getCabinClass());
+    }
+
     private Flight createSampleFlight() {
         return Flight.builder()
                 .id(1L)
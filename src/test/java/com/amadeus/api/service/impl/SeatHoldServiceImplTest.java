@@ -0,0 +1,259 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.SeatHoldProperties;
+import com.amadeus.api.config.SeatWriteProperties;
+import com.amadeus.api.dto.request.SeatHoldRequest;
+import com.amadeus.api.dto.response.SeatHoldDto;
+import com.amadeus.api.entity.SeatHold;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.SeatHoldNotFoundException;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightSeatView;
+import com.amadeus.api.repository.SeatHoldExpiry;
+import com.amadeus.api.repository.SeatHoldRepository;
+import com.amadeus.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldServiceImplTest {
+
+    private static final String EMAIL = "traveler@example.com";
+
+    @Mock
+    private SeatHoldRepository seatHoldRepository;
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SeatHoldProperties holdProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private SeatHoldServiceImpl seatHoldService;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        holdProperties = new SeatHoldProperties();
+        holdProperties.setTtl(Duration.ofMinutes(10));
+        holdProperties.setWheelSize(64);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        SeatWriteProperties writeProperties = new SeatWriteProperties();
+        writeProperties.setCoalesce(false);
+        seatHoldService = new SeatHoldServiceImpl(seatHoldRepository, flightRepository, userRepository,
+                transactionTemplate, new SeatWriteCoalescer(flightRepository, transactionTemplate, eventPublisher,
+                        writeProperties, meterRegistry),
+                eventPublisher, holdProperties, meterRegistry, clock::get);
+        departure = LocalDateTime.now().plusDays(5).withNano(0);
+    }
+
+    @Test
+    void holdSeats_ShouldTakeSeatsPersistHoldAndScheduleExpiry() {
+        when(userRepository.findEnabledIdByEmail(EMAIL)).thenReturn(Optional.of(3L));
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(48)));
+        when(seatHoldRepository.save(any(SeatHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SeatHoldDto hold = seatHoldService.holdSeats(EMAIL, new SeatHoldRequest(7L, 2));
+
+        assertThat(hold.getHoldId()).isNotBlank();
+        assertThat(hold.getTotalPrice()).isEqualByComparingTo("1000000.00");
+        assertThat(hold.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(9));
+        assertThat(seatHoldService.activeHolds()).isEqualTo(1);
+        assertThat(meterRegistry.get("seat.holds.active").gauge().value()).isEqualTo(1.0);
+
+        ArgumentCaptor<FlightSeatsChangedEvent> event = ArgumentCaptor.forClass(FlightSeatsChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getDelta()).isEqualTo(-2);
+    }
+
+    @Test
+    void holdSeats_ShouldNotScheduleAnything_WhenSeatsAreGone() {
+        when(userRepository.findEnabledIdByEmail(EMAIL)).thenReturn(Optional.of(3L));
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(1)));
+
+        assertThatThrownBy(() -> seatHoldService.holdSeats(EMAIL, new SeatHoldRequest(7L, 2)))
+                .isInstanceOf(SeatsUnavailableException.class);
+        verify(seatHoldRepository, never()).save(any());
+        assertThat(seatHoldService.activeHolds()).isZero();
+    }
+
+    @Test
+    void expireDueHolds_ShouldReleaseSeatsOnlyAfterTtl() {
+        String holdId = holdTwoSeats();
+        when(seatHoldRepository.findById(holdId)).thenReturn(Optional.of(storedHold(holdId)));
+        when(seatHoldRepository.deleteHold(holdId)).thenReturn(1);
+        when(flightRepository.incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+
+        elapse(Duration.ofMinutes(9));
+        seatHoldService.expireDueHolds();
+        verify(seatHoldRepository, never()).deleteHold(anyString());
+
+        elapse(Duration.ofMinutes(1));
+        seatHoldService.expireDueHolds();
+
+        verify(flightRepository).incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class));
+        verify(eventPublisher, times(2)).publishEvent(any(FlightSeatsChangedEvent.class));
+        assertThat(seatHoldService.activeHolds()).isZero();
+    }
+
+    @Test
+    void expireDueHolds_ShouldSkipHoldsThatWereConfirmedInTheMeantime() {
+        String holdId = holdTwoSeats();
+        when(seatHoldRepository.findById(holdId)).thenReturn(Optional.of(storedHold(holdId)));
+        when(seatHoldRepository.deleteHold(holdId)).thenReturn(0);
+
+        elapse(Duration.ofMinutes(10));
+        seatHoldService.expireDueHolds();
+
+        verify(flightRepository, never()).incrementAvailableSeats(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void expireDueHolds_ShouldRetryFailedReleases() {
+        holdProperties.setRetryDelay(Duration.ofSeconds(30));
+        String holdId = holdTwoSeats();
+        when(seatHoldRepository.findById(holdId))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Optional.of(storedHold(holdId)));
+        when(seatHoldRepository.deleteHold(holdId)).thenReturn(1);
+        when(flightRepository.incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+
+        elapse(Duration.ofMinutes(10));
+        seatHoldService.expireDueHolds();
+        assertThat(seatHoldService.activeHolds()).isEqualTo(1);
+
+        elapse(Duration.ofSeconds(30));
+        seatHoldService.expireDueHolds();
+
+        verify(flightRepository).incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class));
+        assertThat(seatHoldService.activeHolds()).isZero();
+    }
+
+    @Test
+    void claimHold_ShouldRemoveHoldAndCancelItsExpiry() {
+        String holdId = holdTwoSeats();
+        when(seatHoldRepository.findById(holdId)).thenReturn(Optional.of(storedHold(holdId)));
+        when(seatHoldRepository.deleteHold(holdId)).thenReturn(1);
+
+        SeatHold claimed = seatHoldService.claimHold(3L, holdId);
+
+        assertThat(claimed.getSeats()).isEqualTo(2);
+        assertThat(seatHoldService.activeHolds()).isZero();
+
+        elapse(Duration.ofMinutes(10));
+        seatHoldService.expireDueHolds();
+        verify(flightRepository, never()).incrementAvailableSeats(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void claimHold_ShouldRejectOtherUsersAndExpiredHolds() {
+        SeatHold expired = storedHold("hold-1");
+        expired.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(seatHoldRepository.findById("hold-1")).thenReturn(Optional.of(expired));
+        when(seatHoldRepository.findById("hold-2")).thenReturn(Optional.of(storedHold("hold-2")));
+
+        assertThatThrownBy(() -> seatHoldService.claimHold(3L, "hold-1"))
+                .isInstanceOf(SeatHoldNotFoundException.class);
+        assertThatThrownBy(() -> seatHoldService.claimHold(4L, "hold-2"))
+                .isInstanceOf(SeatHoldNotFoundException.class);
+        verify(seatHoldRepository, never()).deleteHold(anyString());
+    }
+
+    @Test
+    void releaseHold_ShouldGiveSeatsBackImmediately() {
+        String holdId = holdTwoSeats();
+        when(seatHoldRepository.findById(holdId)).thenReturn(Optional.of(storedHold(holdId)));
+        when(seatHoldRepository.deleteHold(holdId)).thenReturn(1);
+        when(flightRepository.incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+
+        seatHoldService.releaseHold(EMAIL, holdId);
+
+        verify(flightRepository).incrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class));
+        assertThat(seatHoldService.activeHolds()).isZero();
+    }
+
+    @Test
+    void restore_ShouldRescheduleStoredHoldsAndExpireOverdueOnesOnNextTick() {
+        when(seatHoldRepository.findAllExpiries()).thenReturn(List.of(
+                new SeatHoldExpiry("overdue", LocalDateTime.now().minusMinutes(1)),
+                new SeatHoldExpiry("pending", LocalDateTime.now().plusMinutes(5))));
+        when(seatHoldRepository.findById("overdue")).thenReturn(Optional.empty());
+
+        seatHoldService.restore();
+        assertThat(seatHoldService.activeHolds()).isEqualTo(2);
+
+        elapse(holdProperties.getTick());
+        seatHoldService.expireDueHolds();
+
+        assertThat(seatHoldService.activeHolds()).isEqualTo(1);
+        verify(seatHoldRepository).findById("overdue");
+        verify(seatHoldRepository, never()).findById("pending");
+    }
+
+    private String holdTwoSeats() {
+        when(userRepository.findEnabledIdByEmail(EMAIL)).thenReturn(Optional.of(3L));
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(48)));
+        when(seatHoldRepository.save(any(SeatHold.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        return seatHoldService.holdSeats(EMAIL, new SeatHoldRequest(7L, 2)).getHoldId();
+    }
+
+    private SeatHold storedHold(String holdId) {
+        return SeatHold.builder()
+                .id(holdId)
+                .userId(3L)
+                .flightId(7L)
+                .seats(2)
+                .totalPrice(new BigDecimal("1000000.00"))
+                .expiresAt(LocalDateTime.now().plusMinutes(10))
+                .build();
+    }
+
+    private FlightSeatView seatView(int availableSeats) {
+        return new FlightSeatView(7L, "AV123", "BOGOTA", "MADRID", departure, new BigDecimal("500000.00"),
+                availableSeats, true);
+    }
+
+    private void elapse(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,279 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.SeatWriteProperties;
+import com.amadeus.api.event.FlightSeatsChangedEvent;
+import com.amadeus.api.exception.FlightNotFoundException;
+import com.amadeus.api.exception.SeatWriterUnavailableException;
+import com.amadeus.api.exception.SeatsUnavailableException;
+import com.amadeus.api.repository.FlightRepository;
+import com.amadeus.api.repository.FlightSeatView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SeatWriteCoalescerTest {
+
+    @Mock
+    private FlightRepository flightRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SeatWriteProperties writeProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private SeatWriteCoalescer coalescer;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        writeProperties = new SeatWriteProperties();
+        writeProperties.setCoalesce(false);
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = newCoalescer();
+        departure = LocalDateTime.now().plusDays(5).withNano(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    @Test
+    void flush_ShouldTakeSeatsForAllRequestsOfAFlightWithOneUpdate() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(6), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 44, true)));
+        when(flightRepository.decrementAvailableSeats(eq(8L), eq(1), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(8L)).thenReturn(Optional.of(seatView(8L, 9, true)));
+
+        List<SeatWriteCoalescer.PendingWrite<String>> batch = List.of(
+                write(7L, 2, "a"), write(8L, 1, "b"), write(7L, 4, "c"));
+        coalescer.flush(new ArrayList<>(batch));
+
+        assertThat(batch).extracting(write -> write.result().join()).containsExactly("a:44", "b:9", "c:44");
+        verify(flightRepository, times(1)).decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class));
+
+        ArgumentCaptor<FlightSeatsChangedEvent> events = ArgumentCaptor.forClass(FlightSeatsChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertThat(events.getAllValues()).extracting(FlightSeatsChangedEvent::getDelta).containsExactly(-6, -1);
+        assertThat(meterRegistry.get("seat.writes.batch.size").summary().max()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("seat.writes.commit").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_ShouldAdmitRequestsInArrivalOrder_WhenTheFlightCannotTakeTheWholeBatch() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(5), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(3), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L))
+                .thenReturn(Optional.of(seatView(7L, 3, true)))
+                .thenReturn(Optional.of(seatView(7L, 0, true)));
+
+        SeatWriteCoalescer.PendingWrite<String> first = write(7L, 2, "a");
+        SeatWriteCoalescer.PendingWrite<String> second = write(7L, 2, "b");
+        SeatWriteCoalescer.PendingWrite<String> third = write(7L, 1, "c");
+        coalescer.flush(List.of(first, second, third));
+
+        assertThat(first.result().join()).isEqualTo("a:0");
+        assertThat(third.result().join()).isEqualTo("c:0");
+        assertThat(second.result()).isCompletedExceptionally();
+        assertThat(failureOf(second)).isInstanceOf(SeatsUnavailableException.class)
+                .hasMessage("Only 3 seats left on flight AV7, requested 2");
+    }
+
+    @Test
+    void flush_ShouldRejectEveryRequest_WhenFlightIsClosedOrMissing() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 50, false)));
+        when(flightRepository.decrementAvailableSeats(eq(9L), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(flightRepository.findSeatView(9L)).thenReturn(Optional.empty());
+
+        SeatWriteCoalescer.PendingWrite<String> closed = write(7L, 1, "a");
+        SeatWriteCoalescer.PendingWrite<String> missing = write(9L, 1, "b");
+        coalescer.flush(List.of(closed, missing));
+
+        assertThat(failureOf(closed)).hasMessage("Flight AV7 is not open for booking");
+        assertThat(failureOf(missing)).isInstanceOf(FlightNotFoundException.class);
+        verify(eventPublisher, never()).publishEvent(any(FlightSeatsChangedEvent.class));
+    }
+
+    @Test
+    void flush_ShouldApplyRequestsOneByOne_WhenTheBatchTransactionFails() {
+        when(flightRepository.decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 40, true)));
+
+        SeatWriteCoalescer.PendingWrite<String> good = write(7L, 1, "a");
+        SeatWriteCoalescer.PendingWrite<String> bad = new SeatWriteCoalescer.PendingWrite<>(7L, 1, flight -> {
+            throw new IllegalStateException("constraint violated");
+        });
+        coalescer.flush(List.of(good, bad));
+
+        assertThat(good.result().join()).isEqualTo("a:40");
+        assertThat(failureOf(bad)).isInstanceOf(IllegalStateException.class).hasMessage("constraint violated");
+    }
+
+    @Test
+    void takeSeats_ShouldGroupConcurrentCallersIntoBatches_WhenCoalescing() throws Exception {
+        writeProperties.setCoalesce(true);
+        writeProperties.setWindow(Duration.ofMillis(200));
+        coalescer.destroy();
+        coalescer = newCoalescer();
+        when(flightRepository.decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class))).thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 10, true)));
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(CompletableFuture.supplyAsync(() -> {
+                awaitQuietly(start);
+                return coalescer.takeSeats(7L, 1, FlightSeatView::getAvailableSeats);
+            }, callers));
+        }
+        start.countDown();
+        for (CompletableFuture<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(10);
+        }
+        callers.shutdown();
+
+        verify(flightRepository, atMost(7)).decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class));
+        assertThat(meterRegistry.get("seat.writes.batch.size").summary().totalAmount()).isEqualTo(8.0);
+    }
+
+    @Test
+    void takeSeats_ShouldGiveUpWithServiceUnavailable_WhenWriterDoesNotClaimTheRequestInTime() throws Exception {
+        writeProperties.setCoalesce(true);
+        writeProperties.setWindow(Duration.ZERO);
+        writeProperties.setTimeout(Duration.ofMillis(50));
+        coalescer.destroy();
+        coalescer = newCoalescer();
+        CountDownLatch busy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(flightRepository.decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class))).thenAnswer(
+                invocation -> {
+                    busy.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                    return 1;
+                });
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 10, true)));
+
+        ExecutorService callers = Executors.newSingleThreadExecutor();
+        CompletableFuture<Integer> first = CompletableFuture.supplyAsync(
+                () -> coalescer.takeSeats(7L, 1, FlightSeatView::getAvailableSeats), callers);
+        assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> coalescer.takeSeats(8L, 1, FlightSeatView::getAvailableSeats))
+                .isInstanceOf(SeatWriterUnavailableException.class);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(10);
+        callers.shutdown();
+        verify(flightRepository, never()).decrementAvailableSeats(eq(8L), anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void takeSeats_ShouldWaitForTheBatchOutcome_WhenTheWriterClaimedTheRequestBeforeTheTimeout() {
+        writeProperties.setCoalesce(true);
+        writeProperties.setWindow(Duration.ZERO);
+        writeProperties.setTimeout(Duration.ofMillis(50));
+        coalescer.destroy();
+        coalescer = newCoalescer();
+        when(flightRepository.decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class))).thenAnswer(
+                invocation -> {
+                    Thread.sleep(300);
+                    return 1;
+                });
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 10, true)));
+
+        assertThat(coalescer.takeSeats(7L, 1, FlightSeatView::getAvailableSeats)).isEqualTo(10);
+        verify(eventPublisher).publishEvent(any(FlightSeatsChangedEvent.class));
+    }
+
+    @Test
+    void takeSeats_ShouldKeepTheWriterRunning_WhenABatchFailsWithAnError() {
+        writeProperties.setCoalesce(true);
+        writeProperties.setWindow(Duration.ZERO);
+        coalescer.destroy();
+        coalescer = newCoalescer();
+        when(flightRepository.decrementAvailableSeats(eq(7L), anyInt(), any(LocalDateTime.class)))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(1);
+        when(flightRepository.findSeatView(7L)).thenReturn(Optional.of(seatView(7L, 10, true)));
+
+        assertThatThrownBy(() -> coalescer.takeSeats(7L, 1, FlightSeatView::getAvailableSeats))
+                .isInstanceOf(SeatWriterUnavailableException.class);
+        assertThat(coalescer.takeSeats(7L, 1, FlightSeatView::getAvailableSeats)).isEqualTo(10);
+    }
+
+    @Test
+    void flush_ShouldSkipRequestsTheirCallersHaveGivenUpOn() {
+        SeatWriteCoalescer.PendingWrite<String> abandoned = write(7L, 1, "a");
+        abandoned.result().completeExceptionally(new TimeoutException());
+
+        coalescer.flush(List.of(abandoned));
+
+        verify(flightRepository, never()).decrementAvailableSeats(anyLong(), anyInt(), any(LocalDateTime.class));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SeatWriteCoalescer newCoalescer() {
+        return new SeatWriteCoalescer(flightRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), eventPublisher, writeProperties,
+                meterRegistry);
+    }
+
+    private SeatWriteCoalescer.PendingWrite<String> write(Long flightId, int seats, String name) {
+        return new SeatWriteCoalescer.PendingWrite<>(flightId, seats,
+                flight -> name + ":" + flight.getAvailableSeats());
+    }
+
+    private Throwable failureOf(SeatWriteCoalescer.PendingWrite<?> write) {
+        return write.result().handle((value, failure) -> failure).join();
+    }
+
+    private FlightSeatView seatView(Long id, int availableSeats, boolean active) {
+        return new FlightSeatView(id, "AV" + id, "BOGOTA", "MADRID", departure, new BigDecimal("500000.00"),
+                availableSeats, active);
+    }
+}
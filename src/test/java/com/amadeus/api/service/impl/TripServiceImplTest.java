@@ -0,0 +1,122 @@
+package com.amadeus.api.service.impl;
+
+import com.amadeus.api.config.BookingProperties;
+import com.amadeus.api.dto.response.TripDto;
+import com.amadeus.api.dto.response.TripPage;
+import com.amadeus.api.entity.BookingStatus;
+import com.amadeus.api.event.BookingChangedEvent;
+import com.amadeus.api.exception.UserNotFoundException;
+import com.amadeus.api.repository.BookingRepository;
+import com.amadeus.api.repository.TripCursor;
+import com.amadeus.api.repository.TripView;
+import com.amadeus.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TripServiceImplTest {
+
+    private static final String EMAIL = "traveler@example.com";
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UpcomingTripsCache upcomingTripsCache;
+    private TripServiceImpl tripService;
+    private LocalDateTime departure;
+
+    @BeforeEach
+    void setUp() {
+        BookingProperties bookingProperties = new BookingProperties();
+        upcomingTripsCache = new UpcomingTripsCache(bookingProperties, new SimpleMeterRegistry());
+        tripService = new TripServiceImpl(bookingRepository, userRepository, upcomingTripsCache, bookingProperties);
+        departure = LocalDateTime.now().plusDays(5).withNano(0);
+        lenient().when(userRepository.findEnabledIdByEmail(EMAIL)).thenReturn(Optional.of(3L));
+    }
+
+    @Test
+    void getTrips_ShouldReturnFirstPageWithCursorToTheNext() {
+        when(bookingRepository.findTrips(3L, PageRequest.ofSize(3))).thenReturn(List.of(
+                trip(30L, departure.plusDays(2)), trip(20L, departure.plusDays(1)), trip(10L, departure)));
+
+        TripPage page = tripService.getTrips(EMAIL, null, 2);
+
+        assertThat(page.getContent()).extracting(TripDto::getBookingId).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        TripCursor next = TripCursor.decode(page.getNextCursor());
+        assertThat(next.getId()).isEqualTo(20L);
+        assertThat(next.getDepartureTime()).isEqualTo(departure.plusDays(1));
+    }
+
+    @Test
+    void getTrips_ShouldSeekPastTheCursor_AndStopOnTheLastPage() {
+        String cursor = new TripCursor(departure.plusDays(1), 20L).encode();
+        when(bookingRepository.findTripsBefore(3L, departure.plusDays(1), 20L, PageRequest.ofSize(3)))
+                .thenReturn(List.of(trip(10L, departure)));
+
+        TripPage page = tripService.getTrips(EMAIL, cursor, 2);
+
+        assertThat(page.getContent()).extracting(TripDto::getBookingId).containsExactly(10L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getTrips_ShouldThrowUserNotFound_ForUnknownUser() {
+        when(userRepository.findEnabledIdByEmail("ghost@example.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> tripService.getTrips("ghost@example.com", null, 20))
+                .isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void getUpcomingTrips_ShouldServeRepeatedReadsFromCache_UntilTheUserBooks() {
+        when(bookingRepository.findUpcomingTrips(eq(3L), eq(BookingStatus.CONFIRMED), any(LocalDateTime.class),
+                eq(PageRequest.ofSize(10)))).thenReturn(List.of(trip(10L, departure)));
+
+        tripService.getUpcomingTrips(EMAIL);
+        List<TripDto> upcoming = tripService.getUpcomingTrips(EMAIL);
+        upcomingTripsCache.onBookingChanged(new BookingChangedEvent(11L, "K7QX2M", 3L));
+        tripService.getUpcomingTrips(EMAIL);
+
+        assertThat(upcoming).extracting(TripDto::getFlightNumber).containsExactly("AV123");
+        verify(bookingRepository, times(2)).findUpcomingTrips(eq(3L), eq(BookingStatus.CONFIRMED),
+                any(LocalDateTime.class), eq(PageRequest.ofSize(10)));
+    }
+
+    @Test
+    void getUpcomingTrips_ShouldDropCachedTripsThatHaveDeparted() {
+        when(bookingRepository.findUpcomingTrips(eq(3L), eq(BookingStatus.CONFIRMED), any(LocalDateTime.class),
+                eq(PageRequest.ofSize(10)))).thenReturn(List.of(
+                        trip(10L, LocalDateTime.now().minusMinutes(1)), trip(20L, departure)));
+
+        assertThat(tripService.getUpcomingTrips(EMAIL)).extracting(TripDto::getBookingId).containsExactly(20L);
+    }
+
+    private TripView trip(Long id, LocalDateTime departureTime) {
+        return new TripView(id, "REF" + id, 7L, "AV123", "BOGOTA", "MADRID", departureTime, 2,
+                new BigDecimal("1000000.00"), BookingStatus.CONFIRMED);
+    }
+}
@@ -0,0 +1,31 @@
+package com.amadeus.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingReferenceGeneratorTest {
+
+    @Test
+    void next_ShouldGenerateSixCharactersFromUnambiguousAlphabet() {
+        BookingReferenceGenerator generator = new BookingReferenceGenerator(new Random(42));
+
+        Set<String> references = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String reference = generator.next();
+            assertThat(reference).hasSize(BookingReferenceGenerator.LENGTH).matches("[A-HJ-NP-Z2-9]+");
+            references.add(reference);
+        }
+        assertThat(references).hasSizeGreaterThan(9_990);
+    }
+
+    @Test
+    void normalize_ShouldTrimAndUppercase() {
+        assertThat(BookingReferenceGenerator.normalize(" k7qx2m ")).isEqualTo("K7QX2M");
+        assertThat(BookingReferenceGenerator.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,86 @@
+package com.amadeus.api.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private AtomicLong clock;
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000L);
+        wheel = new HashedTimingWheel<>(Duration.ofSeconds(1), 8, clock::get);
+    }
+
+    @Test
+    void constructor_ShouldRoundWheelSizeUpToPowerOfTwo() {
+        assertThat(new HashedTimingWheel<String>(Duration.ofMillis(10), 1000, clock::get).wheelSize())
+                .isEqualTo(1024);
+        assertThatThrownBy(() -> new HashedTimingWheel<String>(Duration.ZERO, 8, clock::get))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void advance_ShouldNeverExpireTimeoutsBeforeTheirDeadline() {
+        HashedTimingWheel.Timeout<String> timeout = wheel.schedule("a", Duration.ofMillis(2500));
+
+        elapse(Duration.ofMillis(2400));
+        assertThat(wheel.advance()).isEmpty();
+
+        elapse(Duration.ofMillis(600));
+        assertThat(wheel.advance()).containsExactly("a");
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void advance_ShouldHoldTimeoutsForSeveralRevolutions() {
+        wheel.schedule("far", Duration.ofSeconds(20));
+        wheel.schedule("near", Duration.ofSeconds(3));
+
+        elapse(Duration.ofSeconds(3));
+        assertThat(wheel.advance()).containsExactly("near");
+
+        elapse(Duration.ofSeconds(16));
+        assertThat(wheel.advance()).isEmpty();
+
+        elapse(Duration.ofSeconds(1));
+        assertThat(wheel.advance()).containsExactly("far");
+    }
+
+    @Test
+    void advance_ShouldSkipCancelledTimeouts() {
+        HashedTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", Duration.ofSeconds(1));
+        wheel.schedule("kept", Duration.ofSeconds(1));
+
+        assertThat(cancelled.cancel()).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        elapse(Duration.ofSeconds(1));
+        assertThat(wheel.advance()).containsExactly("kept");
+        assertThat(cancelled.cancel()).isFalse();
+        assertThat(cancelled.isCancelled()).isTrue();
+    }
+
+    @Test
+    void advance_ShouldExpireOverdueTimeoutsOnNextTick() {
+        elapse(Duration.ofSeconds(5));
+        wheel.advance();
+
+        wheel.schedule("overdue", Duration.ofSeconds(-30));
+
+        assertThat(wheel.advance()).containsExactly("overdue");
+    }
+
+    private void elapse(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+}